@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead each {@link AttemptTimeLimiter} adds to an attempt which completes well within its limit,
+ * including the hand-off to another thread for the executor-based time limiters.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AttemptTimeLimiterBenchmark {
+
+    @Param({ "none", "fixed", "bounded", "callerThread" })
+    public String timeLimiter;
+
+    private AttemptTimeLimiter attemptTimeLimiter;
+    private final Callable<String> callable = () -> "result";
+
+    @Setup
+    public void setUp() {
+        attemptTimeLimiter = newTimeLimiter(timeLimiter);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (attemptTimeLimiter instanceof BoundedAttemptTimeLimiter) {
+            ((BoundedAttemptTimeLimiter) attemptTimeLimiter).close();
+        }
+    }
+
+    @Benchmark
+    public String call() throws Exception {
+        return attemptTimeLimiter.call(callable);
+    }
+
+    private static AttemptTimeLimiter newTimeLimiter(String timeLimiter) {
+        switch (timeLimiter) {
+            case "none":
+                return AttemptTimeLimiters.noTimeLimit();
+            case "fixed":
+                return AttemptTimeLimiters.fixedTimeLimit(1, TimeUnit.SECONDS);
+            case "bounded":
+                return BoundedAttemptTimeLimiterBuilder.newBuilder().withTimeLimit(1, TimeUnit.SECONDS).build();
+            case "callerThread":
+                return AttemptTimeLimiters.callerThreadTimeLimit(1, TimeUnit.SECONDS);
+            default:
+                throw new IllegalArgumentException("Unknown time limiter: " + timeLimiter);
+        }
+    }
+}
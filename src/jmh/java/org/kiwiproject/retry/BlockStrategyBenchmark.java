@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long each {@link BlockStrategy} actually blocks for microsecond-scale sleep times. The sample
+ * mode reports percentiles, showing the wake-up jitter of each strategy beyond the requested sleep time.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BlockStrategyBenchmark {
+
+    @Param({ "threadSleep", "park", "spinThenPark" })
+    public String strategy;
+
+    @Param({ "10000", "100000", "1000000" })
+    public long sleepTimeNanos;
+
+    private BlockStrategy blockStrategy;
+
+    @Setup
+    public void setUp() {
+        blockStrategy = newBlockStrategy(strategy);
+    }
+
+    @Benchmark
+    public void blockNanos() throws InterruptedException {
+        blockStrategy.blockNanos(sleepTimeNanos);
+    }
+
+    private static BlockStrategy newBlockStrategy(String strategy) {
+        switch (strategy) {
+            case "threadSleep":
+                return BlockStrategies.threadSleepStrategy();
+            case "park":
+                return BlockStrategies.parkStrategy();
+            case "spinThenPark":
+                return BlockStrategies.spinThenPark();
+            default:
+                throw new IllegalArgumentException("Unknown block strategy: " + strategy);
+        }
+    }
+}
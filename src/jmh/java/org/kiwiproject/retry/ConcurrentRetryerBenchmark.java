@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput of a single {@link Retryer} shared by many threads, with and without a shared retry budget
+ * and circuit breaker, which are the only pieces of a {@link Retryer} with mutable shared state.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class ConcurrentRetryerBenchmark {
+
+    private static final IOException FAILURE = new IOException("benchmark failure");
+
+    private Retryer retryer;
+    private Retryer guardedRetryer;
+    private Callable<String> callable;
+
+    @Setup
+    public void setUp() {
+        retryer = RetryerBuilder.newBuilder()
+                .retryIfExceptionOfType(IOException.class)
+                .withStopStrategy(StopStrategies.stopAfterAttempt(3))
+                .build();
+
+        guardedRetryer = RetryerBuilder.newBuilder()
+                .retryIfExceptionOfType(IOException.class)
+                .withStopStrategy(StopStrategies.stopAfterAttempt(3))
+                .withRetryBudget(RetryBudgets.tokenBucket(1_000, 0.5))
+                .withCircuitBreaker(CircuitBreakerBuilder.newBuilder()
+                        .withFailureRateThreshold(90.0)
+                        .build())
+                .build();
+
+        // Fail roughly one attempt in ten so that the retry path is exercised as well
+        callable = () -> {
+            if (ThreadLocalRandom.current().nextInt(10) == 0) {
+                throw FAILURE;
+            }
+            return "result";
+        };
+    }
+
+    @Benchmark
+    public Object sharedRetryer() throws Exception {
+        return callQuietly(retryer);
+    }
+
+    @Benchmark
+    public Object sharedRetryerWithBudgetAndCircuitBreaker() throws Exception {
+        return callQuietly(guardedRetryer);
+    }
+
+    private Object callQuietly(Retryer retryer) throws Exception {
+        try {
+            return retryer.call(callable);
+        } catch (RetryException | CircuitBreakerOpenException e) {
+            return e;
+        }
+    }
+}
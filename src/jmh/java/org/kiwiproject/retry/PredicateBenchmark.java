@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how the cost of a retry grows with the number of exception and result predicates configured.
+ * <p>
+ * Each invocation fails once with an exception that only matches the last exception predicate, then succeeds with
+ * a result that matches none of the result predicates, so every predicate is evaluated.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PredicateBenchmark {
+
+    private static final IOException FAILURE = new IOException("benchmark failure");
+
+    @Param({ "1", "8", "32" })
+    public int predicateCount;
+
+    private Retryer retryer;
+    private boolean failNext;
+    private Callable<String> callable;
+
+    @Setup
+    public void setUp() {
+        var builder = RetryerBuilder.newBuilder()
+                .withStopStrategy(StopStrategies.stopAfterAttempt(2));
+
+        for (var i = 1; i < predicateCount; i++) {
+            var message = "other failure " + i;
+            builder.retryIfExceptionOfType(IllegalStateException.class)
+                    .retryIfException(e -> message.equals(e.getMessage()))
+                    .retryIfResult(message::equals);
+        }
+        retryer = builder.retryIfExceptionOfType(IOException.class).build();
+
+        callable = () -> {
+            failNext = !failNext;
+            if (failNext) {
+                throw FAILURE;
+            }
+            return "result";
+        };
+    }
+
+    @Benchmark
+    public String failOnceThenSucceed() throws Exception {
+        return retryer.call(callable);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of {@link Retryer#call(Callable)} compared with invoking the callable directly, for the
+ * success, retry-then-success, and exhaustion paths.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RetryerCallBenchmark {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private Callable<String> succeeding;
+    private FailingCallable failingUntilLastAttempt;
+    private FailingCallable alwaysFailing;
+
+    private Retryer retryer;
+    private Retryer retryerWithListener;
+
+    @Setup
+    public void setUp() {
+        succeeding = () -> "result";
+        failingUntilLastAttempt = new FailingCallable(MAX_ATTEMPTS - 1);
+        alwaysFailing = new FailingCallable(Integer.MAX_VALUE);
+
+        retryer = RetryerBuilder.newBuilder()
+                .retryIfExceptionOfType(IOException.class)
+                .withStopStrategy(StopStrategies.stopAfterAttempt(MAX_ATTEMPTS))
+                .build();
+
+        retryerWithListener = RetryerBuilder.newBuilder()
+                .retryIfExceptionOfType(IOException.class)
+                .withStopStrategy(StopStrategies.stopAfterAttempt(MAX_ATTEMPTS))
+                .withRetryListener(attempt -> { })
+                .build();
+    }
+
+    @Benchmark
+    public String baseline() throws Exception {
+        return succeeding.call();
+    }
+
+    @Benchmark
+    public String success() throws Exception {
+        return retryer.call(succeeding);
+    }
+
+    @Benchmark
+    public String successWithListener() throws Exception {
+        return retryerWithListener.call(succeeding);
+    }
+
+    @Benchmark
+    public String retryThenSuccess() throws Exception {
+        // Reset here rather than in a Level.Invocation fixture, which would skew every benchmark in this state
+        failingUntilLastAttempt.reset();
+        return retryer.call(failingUntilLastAttempt);
+    }
+
+    @Benchmark
+    public Object exhaustion() throws Exception {
+        try {
+            return retryer.call(alwaysFailing);
+        } catch (RetryException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Fails with a preallocated exception a fixed number of times, then succeeds.
+     */
+    static class FailingCallable implements Callable<String> {
+
+        private static final IOException FAILURE = new IOException("benchmark failure");
+
+        private final int failures;
+        private int calls;
+
+        FailingCallable(int failures) {
+            this.failures = failures;
+        }
+
+        void reset() {
+            calls = 0;
+        }
+
+        @Override
+        public String call() throws IOException {
+            if (calls++ < failures) {
+                throw FAILURE;
+            }
+            return "result";
+        }
+    }
+}
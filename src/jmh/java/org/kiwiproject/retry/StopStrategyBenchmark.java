@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of evaluating each {@link StopStrategy}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StopStrategyBenchmark {
+
+    @Param({ "never", "afterAttempt", "afterDelay" })
+    public String strategy;
+
+    private StopStrategy stopStrategy;
+    private Attempt<?> attempt;
+
+    @Setup
+    public void setUp() {
+        stopStrategy = newStopStrategy(strategy);
+        attempt = Attempt.newExceptionAttempt(new IOException("benchmark failure"), 3, 1_000L);
+    }
+
+    @Benchmark
+    public boolean shouldStop() {
+        return stopStrategy.shouldStop(attempt);
+    }
+
+    private static StopStrategy newStopStrategy(String strategy) {
+        switch (strategy) {
+            case "never":
+                return StopStrategies.neverStop();
+            case "afterAttempt":
+                return StopStrategies.stopAfterAttempt(5);
+            case "afterDelay":
+                return StopStrategies.stopAfterDelay(5, TimeUnit.SECONDS);
+            default:
+                throw new IllegalArgumentException("Unknown stop strategy: " + strategy);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of computing a sleep time with each {@link WaitStrategy} at various attempt numbers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WaitStrategyBenchmark {
+
+    @Param({ "fixed", "random", "incrementing", "exponential", "fibonacci", "exception", "composite",
+            "fullJitter", "equalJitter", "decorrelatedJitter" })
+    public String strategy;
+
+    @Param({ "1", "10", "50" })
+    public int attemptNumber;
+
+    private WaitStrategy waitStrategy;
+    private Attempt<?> attempt;
+
+    @Setup
+    public void setUp() {
+        waitStrategy = newWaitStrategy(strategy);
+        attempt = Attempt.newExceptionAttempt(new IOException("benchmark failure"), attemptNumber, 1_000L);
+    }
+
+    @Benchmark
+    public long computeSleepTime() {
+        return waitStrategy.computeSleepTime(attempt);
+    }
+
+    private static WaitStrategy newWaitStrategy(String strategy) {
+        switch (strategy) {
+            case "fixed":
+                return WaitStrategies.fixedWait(100, TimeUnit.MILLISECONDS);
+            case "random":
+                return WaitStrategies.randomWait(10, TimeUnit.MILLISECONDS, 100, TimeUnit.MILLISECONDS);
+            case "incrementing":
+                return WaitStrategies.incrementingWait(10, TimeUnit.MILLISECONDS, 10, TimeUnit.MILLISECONDS);
+            case "exponential":
+                return WaitStrategies.exponentialWait(100, 5, TimeUnit.MINUTES);
+            case "fibonacci":
+                return WaitStrategies.fibonacciWait(100, 5, TimeUnit.MINUTES);
+            case "exception":
+                return WaitStrategies.exceptionWait(IOException.class, e -> 100L);
+            case "composite":
+                return WaitStrategies.join(
+                        WaitStrategies.fixedWait(100, TimeUnit.MILLISECONDS),
+                        WaitStrategies.exponentialWait(100, 5, TimeUnit.MINUTES),
+                        WaitStrategies.fibonacciWait(100, 5, TimeUnit.MINUTES));
+            case "fullJitter":
+                return WaitStrategies.fullJitterWait(100, 5, TimeUnit.MINUTES);
+            case "equalJitter":
+                return WaitStrategies.equalJitterWait(100, 5, TimeUnit.MINUTES);
+            case "decorrelatedJitter":
+                return WaitStrategies.decorrelatedJitterWait(100, 5, TimeUnit.MINUTES);
+            default:
+                throw new IllegalArgumentException("Unknown wait strategy: " + strategy);
+        }
+    }
+}
@@ -20,6 +20,8 @@ package org.kiwiproject.retry;
 
 import static com.google.common.base.Preconditions.checkState;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * An attempt of a call, which resulted either in a result returned by the call,
  * or in an Exception thrown by the call.
@@ -35,21 +37,13 @@ public class Attempt<T> {
 
     private final int attemptNumber;
 
-    private final long delaySinceFirstAttempt;
-
-    private Attempt(T result, int attemptNumber, long delaySinceFirstAttempt) {
-        this(result, null, attemptNumber, delaySinceFirstAttempt);
-    }
-
-    private Attempt(Exception exception, int attemptNumber, long delaySinceFirstAttempt) {
-        this(null, exception, attemptNumber, delaySinceFirstAttempt);
-    }
+    private final long delaySinceFirstAttemptNanos;
 
-    private Attempt(T result, Exception exception, int attemptNumber, long delaySinceFirstAttempt) {
+    private Attempt(T result, Exception exception, int attemptNumber, long delaySinceFirstAttemptNanos) {
         this.result = result;
         this.exception = exception;
         this.attemptNumber = attemptNumber;
-        this.delaySinceFirstAttempt = delaySinceFirstAttempt;
+        this.delaySinceFirstAttemptNanos = delaySinceFirstAttemptNanos;
     }
 
     /**
@@ -62,7 +56,21 @@ public class Attempt<T> {
      * @return a new Attempt instance
      */
     static <T> Attempt<T> newResultAttempt(T result, int attemptNumber, long delaySinceFirstAttempt) {
-        return new Attempt<>(result, attemptNumber, delaySinceFirstAttempt);
+        return newResultAttempt(result, attemptNumber, delaySinceFirstAttempt, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Create a new {@link Attempt} that has a result.
+     *
+     * @param result                 the result of the attempt
+     * @param attemptNumber          the number of this attempt
+     * @param delaySinceFirstAttempt the delay since the first attempt was made
+     * @param unit                   the unit of the delay
+     * @param <T>                    the type of result
+     * @return a new Attempt instance
+     */
+    static <T> Attempt<T> newResultAttempt(T result, int attemptNumber, long delaySinceFirstAttempt, TimeUnit unit) {
+        return new Attempt<>(result, null, attemptNumber, unit.toNanos(delaySinceFirstAttempt));
     }
 
     /**
@@ -75,7 +83,24 @@ public class Attempt<T> {
      * @return a new Attempt instance
      */
     static <T> Attempt<T> newExceptionAttempt(Exception exception, int attemptNumber, long delaySinceFirstAttempt) {
-        return new Attempt<>(exception, attemptNumber, delaySinceFirstAttempt);
+        return newExceptionAttempt(exception, attemptNumber, delaySinceFirstAttempt, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Create a new {@link Attempt} that failed with an exception.
+     *
+     * @param exception              the exception thrown by this attempt
+     * @param attemptNumber          the number of this attempt
+     * @param delaySinceFirstAttempt the delay since the first attempt was made
+     * @param unit                   the unit of the delay
+     * @param <T>                    the type of result the attempt would have returned if it had not thrown an exception
+     * @return a new Attempt instance
+     */
+    static <T> Attempt<T> newExceptionAttempt(Exception exception,
+                                              int attemptNumber,
+                                              long delaySinceFirstAttempt,
+                                              TimeUnit unit) {
+        return new Attempt<>(null, exception, attemptNumber, unit.toNanos(delaySinceFirstAttempt));
     }
 
     /**
@@ -139,6 +164,15 @@ public class Attempt<T> {
      * @return the delay since the start of the first attempt, in milliseconds
      */
     public long getDelaySinceFirstAttempt() {
-        return delaySinceFirstAttempt;
+        return TimeUnit.NANOSECONDS.toMillis(delaySinceFirstAttemptNanos);
+    }
+
+    /**
+     * The delay since the start of the first attempt, in nanoseconds.
+     *
+     * @return the delay since the start of the first attempt, in nanoseconds
+     */
+    public long getDelaySinceFirstAttemptNanos() {
+        return delaySinceFirstAttemptNanos;
     }
 }
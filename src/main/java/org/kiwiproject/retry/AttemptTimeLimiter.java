@@ -31,4 +31,21 @@ public interface AttemptTimeLimiter {
      * @throws Exception any exception from this invocation
      */
     <T> T call(Callable<T> callable) throws Exception;
+
+    /**
+     * Calls the given callable with a time limit no longer than the given maximum, which is the time remaining
+     * until the deadline of a {@link Retryer} configured with one.
+     * <p>
+     * The default implementation ignores the maximum and calls {@link #call(Callable)}. Implementations which
+     * enforce a time limit should override it to use the shorter of their own limit and the maximum.
+     *
+     * @param callable     to subject to the time limit
+     * @param maxTimeNanos the maximum time limit, in nanoseconds
+     * @param <T>          The return type of the Callable's call method
+     * @return the return of the given callable
+     * @throws Exception any exception from this invocation
+     */
+    default <T> T call(Callable<T> callable, long maxTimeNanos) throws Exception {
+        return call(callable);
+    }
 }
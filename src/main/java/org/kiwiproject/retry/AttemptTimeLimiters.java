@@ -20,6 +20,7 @@ package org.kiwiproject.retry;
 
 import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.SimpleTimeLimiter;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.common.util.concurrent.TimeLimiter;
 
 import javax.annotation.Nonnull;
@@ -27,7 +28,11 @@ import javax.annotation.concurrent.Immutable;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Factory class for instances of {@link AttemptTimeLimiter}
@@ -52,6 +57,10 @@ public class AttemptTimeLimiters {
      * {@link Executors#newCachedThreadPool()}. It is unbounded, meaning there is no limit to
      * the number of threads it will create. It will reuse idle threads if they are available,
      * and idle threads remain alive for 60 seconds.
+     * <p>
+     * Attempts which time out but ignore interruption keep running on this pool, so against a backend which
+     * stops responding it can grow to thousands of threads. Prefer a {@link BoundedAttemptTimeLimiter}, created
+     * with {@link BoundedAttemptTimeLimiterBuilder}, which bounds its threads and fails fast instead.
      *
      * @param duration that an attempt may persist before being circumvented
      * @param timeUnit of the 'duration' arg
@@ -74,12 +83,96 @@ public class AttemptTimeLimiters {
         return new FixedAttemptTimeLimit(duration, timeUnit, executorService);
     }
 
+    /**
+     * Returns an {@link AttemptTimeLimiter} which runs each attempt on the calling thread, avoiding the hand-off
+     * to another thread, and the two context switches it costs, that the other time limiters need.
+     * <p>
+     * Each attempt is registered with a single watchdog thread shared by all caller-thread time limiters. If the
+     * attempt has not finished when its time limit elapses, the watchdog interrupts the calling thread. A
+     * {@link TimeoutException} is then thrown, with the exception thrown by the interrupted attempt (if any) as
+     * its cause, and the interrupt status set by the watchdog is cleared. An attempt which does not respond to
+     * interruption runs to completion, and a {@link TimeoutException} is thrown once it does. Long-running
+     * computations can check {@link Thread#isInterrupted()} to stop early.
+     * <p>
+     * The calling thread must not be interrupted by anything else while an attempt is in progress, as such an
+     * interrupt cannot be told apart from the watchdog's once the time limit has elapsed.
+     * <p>
+     * The watchdog always measures time with the system clock, even when the {@link Retryer} reads time from a
+     * different {@link com.google.common.base.Ticker Ticker}.
+     *
+     * @param duration that an attempt may persist before being interrupted
+     * @param timeUnit of the 'duration' arg
+     * @return an {@link AttemptTimeLimiter} with a fixed time limit for each attempt, run on the calling thread
+     * @throws IllegalArgumentException if the duration is &lt;= 0
+     */
+    public static AttemptTimeLimiter callerThreadTimeLimit(long duration, @Nonnull TimeUnit timeUnit) {
+        Preconditions.checkNotNull(timeUnit);
+        Preconditions.checkArgument(duration > 0L, "duration must be > 0 but is %s", duration);
+        return new CallerThreadAttemptTimeLimit(timeUnit.toNanos(duration));
+    }
+
+    /**
+     * Returns an {@link AttemptTimeLimiter} which runs each attempt on a new virtual thread. Unlike
+     * {@link #fixedTimeLimit(long, TimeUnit)}, no platform thread is tied up while an attempt runs,
+     * so each limited attempt costs only as much memory as its virtual thread's stack.
+     * <p>
+     * Virtual threads are only available when running on Java 21 or higher.
+     *
+     * @param duration that an attempt may persist before being circumvented
+     * @param timeUnit of the 'duration' arg
+     * @return an {@link AttemptTimeLimiter} with a fixed time limit for each attempt
+     * @throws UnsupportedOperationException if the current JVM does not support virtual threads
+     */
+    public static AttemptTimeLimiter virtualThreadTimeLimit(long duration, @Nonnull TimeUnit timeUnit) {
+        Preconditions.checkNotNull(timeUnit);
+        if (!VirtualThreads.isSupported()) {
+            throw new UnsupportedOperationException(
+                    "Virtual threads require Java 21 or higher; current version is " + Runtime.version());
+        }
+        return new FixedAttemptTimeLimit(duration, timeUnit, VirtualThreadExecutorHolder.EXECUTOR);
+    }
+
+    /**
+     * Lazily creates the shared virtual thread executor, so that it is only created when a virtual
+     * thread time limiter is requested on a JVM which supports them.
+     */
+    private static final class VirtualThreadExecutorHolder {
+        static final ExecutorService EXECUTOR = VirtualThreads.newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * Lazily creates the watchdog shared by all caller-thread time limiters. Cancelled watches are removed from its
+     * queue immediately, so attempts which finish in time do not accumulate until their time limit would elapse.
+     */
+    private static final class WatchdogHolder {
+        static final ScheduledThreadPoolExecutor WATCHDOG = newWatchdog();
+
+        private static ScheduledThreadPoolExecutor newWatchdog() {
+            var threadFactory = new ThreadFactoryBuilder()
+                    .setNameFormat("attempt-time-limiter-watchdog")
+                    .setDaemon(true)
+                    .build();
+            var watchdog = new ScheduledThreadPoolExecutor(1, threadFactory);
+            watchdog.setRemoveOnCancelPolicy(true);
+            return watchdog;
+        }
+    }
+
     @Immutable
     private static final class NoAttemptTimeLimit implements AttemptTimeLimiter {
         @Override
         public <T> T call(Callable<T> callable) throws Exception {
             return callable.call();
         }
+
+        /**
+         * With no time limit of its own, the maximum is enforced on the calling thread, as by
+         * {@link #callerThreadTimeLimit(long, TimeUnit)}, and so is measured with the system clock.
+         */
+        @Override
+        public <T> T call(Callable<T> callable, long maxTimeNanos) throws Exception {
+            return CallerThreadAttemptTimeLimit.callWithTimeLimit(callable, maxTimeNanos);
+        }
     }
 
     // Suppress API warnings about TimeLimiter in Guava which has been there since version 1.0
@@ -116,5 +209,107 @@ public class AttemptTimeLimiters {
         public <T> T call(Callable<T> callable) throws Exception {
             return timeLimiter.callWithTimeout(callable, duration, timeUnit);
         }
+
+        @Override
+        public <T> T call(Callable<T> callable, long maxTimeNanos) throws Exception {
+            var timeLimitNanos = Math.min(timeUnit.toNanos(duration), maxTimeNanos);
+            if (timeLimitNanos <= 0L) {
+                throw new TimeoutException("No time remains for the attempt");
+            }
+            return timeLimiter.callWithTimeout(callable, timeLimitNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Immutable
+    private static final class CallerThreadAttemptTimeLimit implements AttemptTimeLimiter {
+        private final long timeLimitNanos;
+
+        CallerThreadAttemptTimeLimit(long timeLimitNanos) {
+            this.timeLimitNanos = timeLimitNanos;
+        }
+
+        @Override
+        public <T> T call(Callable<T> callable) throws Exception {
+            return callWithTimeLimit(callable, timeLimitNanos);
+        }
+
+        @Override
+        public <T> T call(Callable<T> callable, long maxTimeNanos) throws Exception {
+            return callWithTimeLimit(callable, Math.min(timeLimitNanos, maxTimeNanos));
+        }
+
+        static <T> T callWithTimeLimit(Callable<T> callable, long timeLimitNanos) throws Exception {
+            var watch = new Watch(Thread.currentThread());
+            watch.future = WatchdogHolder.WATCHDOG.schedule(watch, timeLimitNanos, TimeUnit.NANOSECONDS);
+
+            T result;
+            try {
+                result = callable.call();
+            } catch (Throwable t) {
+                if (watch.finish()) {
+                    throw timedOut(t, timeLimitNanos);
+                }
+                throw t;
+            }
+
+            if (watch.finish()) {
+                throw timedOut(null, timeLimitNanos);
+            }
+            return result;
+        }
+
+        private static TimeoutException timedOut(Throwable cause, long timeLimitNanos) {
+            var timeoutException = new TimeoutException(
+                    "Attempt did not complete within " + timeLimitNanos + " nanoseconds");
+            timeoutException.initCause(cause);
+            return timeoutException;
+        }
+    }
+
+    /**
+     * Watches a single attempt on behalf of the watchdog. The state transitions ensure that the watchdog only
+     * interrupts the calling thread while the attempt is running, and that the calling thread waits for that
+     * interrupt to be delivered before clearing it, so it cannot leak into whatever the thread does next.
+     */
+    private static final class Watch extends AtomicInteger implements Runnable {
+        private static final int RUNNING = 0;
+        private static final int FINISHED = 1;
+        private static final int INTERRUPTING = 2;
+        private static final int INTERRUPTED = 3;
+
+        private final Thread thread;
+        private Future<?> future;
+
+        Watch(Thread thread) {
+            this.thread = thread;
+        }
+
+        @Override
+        public void run() {
+            if (compareAndSet(RUNNING, INTERRUPTING)) {
+                thread.interrupt();
+                set(INTERRUPTED);
+            }
+        }
+
+        /**
+         * Stops watching the attempt.
+         *
+         * @return <code>true</code> if the time limit elapsed and the thread was interrupted, in which case the
+         * interrupt status has been cleared
+         */
+        boolean finish() {
+            if (compareAndSet(RUNNING, FINISHED)) {
+                future.cancel(false);
+                return false;
+            }
+
+            while (get() != INTERRUPTED) {
+                Thread.onSpinWait();
+            }
+            //noinspection ResultOfMethodCallIgnored
+            Thread.interrupted();
+            return true;
+        }
     }
 }
@@ -18,7 +18,14 @@
 
 package org.kiwiproject.retry;
 
+import com.google.common.base.Preconditions;
+
+import javax.annotation.Nonnull;
 import javax.annotation.concurrent.Immutable;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Factory class for {@link BlockStrategy} instances.
@@ -27,6 +34,12 @@ import javax.annotation.concurrent.Immutable;
 public final class BlockStrategies {
 
     private static final BlockStrategy THREAD_SLEEP_STRATEGY = new ThreadSleepStrategy();
+    private static final BlockStrategy PARK_STRATEGY = new ParkStrategy();
+
+    private static final Duration DEFAULT_SPIN_THRESHOLD = Duration.ofNanos(50_000);
+    private static final Duration DEFAULT_SLEEP_THRESHOLD = Duration.ofMillis(10);
+    private static final BlockStrategy SPIN_THEN_PARK_STRATEGY =
+            new SpinThenParkStrategy(DEFAULT_SPIN_THRESHOLD.toNanos(), DEFAULT_SLEEP_THRESHOLD.toNanos());
 
     private BlockStrategies() {
     }
@@ -41,6 +54,97 @@ public final class BlockStrategies {
         return THREAD_SLEEP_STRATEGY;
     }
 
+    /**
+     * Returns a block strategy that parks the current thread between retries using
+     * {@link LockSupport#parkNanos(long)}.
+     * <p>
+     * Parking is the primitive that the {@code java.util.concurrent} locks and synchronizers (and virtual
+     * threads themselves) are built on. A virtual thread that parks is unmounted from its carrier thread,
+     * which is then free to run other virtual threads, so this strategy is well suited to retryers called
+     * from virtual threads. As with {@link #threadSleepStrategy()}, an {@link InterruptedException} is thrown
+     * if the thread is interrupted while blocked.
+     * <p>
+     * Unlike {@link Thread#sleep(long)}, parking is not limited to millisecond precision, so this strategy also
+     * suits sub-millisecond sleep times computed by {@link WaitStrategy#computeSleepTimeNanos(Attempt)}.
+     *
+     * @return a block strategy that parks the current thread between retries
+     */
+    public static BlockStrategy parkStrategy() {
+        return PARK_STRATEGY;
+    }
+
+    /**
+     * Returns a block strategy for microsecond-scale waits, such as retrying an optimistic lock on a contended
+     * in-memory resource, that spins for the last 50 microseconds of a wait and parks for the rest of it, only
+     * sleeping while more than 10 milliseconds remain.
+     *
+     * @return a block strategy that spins, then parks, then sleeps, depending on how long there is left to wait
+     * @see #spinThenPark(Duration, Duration)
+     */
+    public static BlockStrategy spinThenPark() {
+        return SPIN_THEN_PARK_STRATEGY;
+    }
+
+    /**
+     * Returns a block strategy for microsecond-scale waits, which picks how to wait from the time remaining:
+     * <ul>
+     *     <li>while more than {@code sleepThreshold} remains, the thread sleeps, as precision does not matter yet</li>
+     *     <li>while more than {@code spinThreshold} remains, the thread parks using
+     *     {@link LockSupport#parkNanos(Object, long)}</li>
+     *     <li>for the final {@code spinThreshold}, the thread busy-spins using {@link Thread#onSpinWait()}</li>
+     * </ul>
+     * Waking from a sleep or park can take tens of microseconds or more, depending on the operating system's
+     * timer granularity, which is far longer than the waits this strategy is intended for. Spinning avoids that
+     * wake-up latency at the cost of keeping a CPU busy, so the spin threshold should be no longer than the
+     * wake-up latency of the platform. Latency-critical retry loops can raise it; loops on busy machines
+     * should lower it, and a spin threshold of zero never spins.
+     * <p>
+     * The thread's interrupt status is checked before blocking and throughout every phase, including while
+     * spinning; if it is set, an {@link InterruptedException} is thrown and the status is cleared.
+     *
+     * @param spinThreshold  the time remaining below which the thread spins rather than parks
+     * @param sleepThreshold the time remaining above which the thread sleeps rather than parks
+     * @return a block strategy that spins, then parks, then sleeps, depending on how long there is left to wait
+     * @throws IllegalArgumentException if the spin threshold is negative, or greater than the sleep threshold
+     */
+    public static BlockStrategy spinThenPark(@Nonnull Duration spinThreshold, @Nonnull Duration sleepThreshold) {
+        Preconditions.checkNotNull(spinThreshold, "The spin threshold may not be null");
+        Preconditions.checkNotNull(sleepThreshold, "The sleep threshold may not be null");
+        return new SpinThenParkStrategy(spinThreshold.toNanos(), sleepThreshold.toNanos());
+    }
+
+    /**
+     * Returns a block strategy that waits for the sleep time, but wakes as soon as the given signal reports that
+     * the dependency being retried has recovered.
+     *
+     * @param signal the recovery signal shared by the retryers calling the same dependency
+     * @return a block strategy that wakes early when recovery is signalled
+     * @see #signalAware(RecoverySignal, Duration)
+     */
+    public static BlockStrategy signalAware(@Nonnull RecoverySignal signal) {
+        return signalAware(signal, Duration.ZERO);
+    }
+
+    /**
+     * Returns a block strategy that waits for the sleep time, but wakes as soon as the given signal reports that
+     * the dependency being retried has recovered. The signal wakes all blocked threads at once, so to avoid them
+     * all hitting the recovered dependency at the same instant, each thread then waits a further random time
+     * of up to {@code maxJitter}, though never beyond the end of its original sleep time.
+     * <p>
+     * As with {@link #threadSleepStrategy()}, an {@link InterruptedException} is thrown if the thread is
+     * interrupted while blocked.
+     *
+     * @param signal    the recovery signal shared by the retryers calling the same dependency
+     * @param maxJitter the maximum random delay after waking to stagger the resumed attempts, or zero for none
+     * @return a block strategy that wakes early, with staggered jitter, when recovery is signalled
+     * @throws IllegalArgumentException if the maximum jitter is negative
+     */
+    public static BlockStrategy signalAware(@Nonnull RecoverySignal signal, @Nonnull Duration maxJitter) {
+        Preconditions.checkNotNull(signal, "The recovery signal may not be null");
+        Preconditions.checkNotNull(maxJitter, "The maximum jitter may not be null");
+        return new SignalAwareStrategy(signal, maxJitter.toNanos());
+    }
+
     @Immutable
     private static class ThreadSleepStrategy implements BlockStrategy {
 
@@ -48,5 +152,120 @@ public final class BlockStrategies {
         public void block(long sleepTime) throws InterruptedException {
             Thread.sleep(sleepTime);
         }
+
+        @Override
+        public void blockNanos(long sleepTimeNanos) throws InterruptedException {
+            // unlike TimeUnit.sleep, Thread.sleep checks for interruption even when the sleep time is zero
+            Thread.sleep(TimeUnit.NANOSECONDS.toMillis(sleepTimeNanos), (int) (sleepTimeNanos % 1_000_000L));
+        }
+    }
+
+    @Immutable
+    private static class ParkStrategy implements BlockStrategy {
+
+        @Override
+        public void block(long sleepTime) throws InterruptedException {
+            blockNanos(TimeUnit.MILLISECONDS.toNanos(sleepTime));
+        }
+
+        @Override
+        public void blockNanos(long sleepTimeNanos) throws InterruptedException {
+            var deadline = System.nanoTime() + sleepTimeNanos;
+            var remaining = deadline - System.nanoTime();
+
+            // parkNanos may return spuriously, so keep parking until the deadline has passed
+            while (remaining > 0) {
+                LockSupport.parkNanos(this, remaining);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException("Interrupted while parked");
+                }
+                remaining = deadline - System.nanoTime();
+            }
+        }
+    }
+
+    @Immutable
+    private static class SpinThenParkStrategy implements BlockStrategy {
+        private final long spinThresholdNanos;
+        private final long sleepThresholdNanos;
+
+        SpinThenParkStrategy(long spinThresholdNanos, long sleepThresholdNanos) {
+            Preconditions.checkArgument(spinThresholdNanos >= 0L,
+                    "spinThreshold must be >= 0 but is %s ns", spinThresholdNanos);
+            Preconditions.checkArgument(sleepThresholdNanos >= spinThresholdNanos,
+                    "sleepThreshold must be >= spinThreshold but sleepThreshold is %s ns and spinThreshold is %s ns",
+                    sleepThresholdNanos, spinThresholdNanos);
+            this.spinThresholdNanos = spinThresholdNanos;
+            this.sleepThresholdNanos = sleepThresholdNanos;
+        }
+
+        @Override
+        public void block(long sleepTime) throws InterruptedException {
+            blockNanos(TimeUnit.MILLISECONDS.toNanos(sleepTime));
+        }
+
+        @Override
+        public void blockNanos(long sleepTimeNanos) throws InterruptedException {
+            var deadline = System.nanoTime() + sleepTimeNanos;
+            checkInterrupted();
+
+            var remaining = deadline - System.nanoTime();
+            if (remaining > sleepThresholdNanos) {
+                // wake up early enough that sleeping's coarse granularity cannot overshoot the deadline
+                var sleepNanos = remaining - sleepThresholdNanos;
+                Thread.sleep(TimeUnit.NANOSECONDS.toMillis(sleepNanos), (int) (sleepNanos % 1_000_000L));
+                remaining = deadline - System.nanoTime();
+            }
+
+            // parkNanos may return spuriously, so keep parking until only the spin threshold remains
+            while (remaining > spinThresholdNanos) {
+                LockSupport.parkNanos(this, remaining - spinThresholdNanos);
+                checkInterrupted();
+                remaining = deadline - System.nanoTime();
+            }
+
+            while (remaining > 0) {
+                Thread.onSpinWait();
+                checkInterrupted();
+                remaining = deadline - System.nanoTime();
+            }
+        }
+
+        private static void checkInterrupted() throws InterruptedException {
+            if (Thread.interrupted()) {
+                throw new InterruptedException("Interrupted while blocked");
+            }
+        }
+    }
+
+    @Immutable
+    private static class SignalAwareStrategy implements BlockStrategy {
+        private final RecoverySignal signal;
+        private final long maxJitterNanos;
+
+        SignalAwareStrategy(RecoverySignal signal, long maxJitterNanos) {
+            Preconditions.checkArgument(maxJitterNanos >= 0L, "maxJitter must be >= 0 but is %s ns", maxJitterNanos);
+            this.signal = signal;
+            this.maxJitterNanos = maxJitterNanos;
+        }
+
+        @Override
+        public void block(long sleepTime) throws InterruptedException {
+            blockNanos(TimeUnit.MILLISECONDS.toNanos(sleepTime));
+        }
+
+        @Override
+        public void blockNanos(long sleepTimeNanos) throws InterruptedException {
+            var deadline = System.nanoTime() + sleepTimeNanos;
+            if (!signal.awaitNanos(sleepTimeNanos) || maxJitterNanos == 0L) {
+                return;
+            }
+
+            var remaining = deadline - System.nanoTime();
+            var jitterNanos = Math.min(remaining, ThreadLocalRandom.current().nextLong(maxJitterNanos));
+            if (jitterNanos > 0L) {
+                TimeUnit.NANOSECONDS.sleep(jitterNanos);
+            }
+        }
     }
 }
@@ -18,6 +18,11 @@
 
 package org.kiwiproject.retry;
 
+import com.google.common.math.LongMath;
+
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
 /**
  * This is a strategy used to decide how a retryer should block between retry
  * attempts. Normally this is just a Thread.sleep(), but implementations can be
@@ -36,4 +41,18 @@ public interface BlockStrategy {
      * @throws InterruptedException If the calling thread is interrupted
      */
     void block(long sleepTime) throws InterruptedException;
+
+    /**
+     * Attempt to block for the designated amount of time, in nanoseconds. A {@link Retryer} uses this method,
+     * so strategies which can block more precisely than milliseconds should override it.
+     * <p>
+     * The default implementation rounds the sleep time up to the next millisecond, so that it never blocks for
+     * less than the designated time, and calls {@link #block(long)}.
+     *
+     * @param sleepTimeNanos the computed sleep duration in nanoseconds
+     * @throws InterruptedException If the calling thread is interrupted
+     */
+    default void blockNanos(long sleepTimeNanos) throws InterruptedException {
+        block(LongMath.divide(sleepTimeNanos, TimeUnit.MILLISECONDS.toNanos(1), RoundingMode.CEILING));
+    }
 }
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@link AttemptTimeLimiter} which runs each attempt on its own bounded, named pool of daemon threads, and
+ * which keeps track of the attempts it has given up on.
+ * <p>
+ * When an attempt exceeds the time limit, its thread is interrupted and a {@link TimeoutException} is thrown,
+ * but an attempt which ignores interruption keeps running, and keeps its thread busy. Such attempts are counted
+ * as <em>abandoned</em> until they finish. Once the configured maximum number of abandoned attempts are still
+ * running, or once every thread in the pool is busy, further attempts fail fast with a
+ * {@link RejectedExecutionException} instead of piling up more threads on a backend which is not responding.
+ * <p>
+ * An exception thrown by an attempt is rethrown as is, rather than wrapped in an {@link ExecutionException},
+ * so that a {@link Retryer} can match it against its exception predicates.
+ * <p>
+ * Instances are created using a {@link BoundedAttemptTimeLimiterBuilder}, and can be shared by many threads and
+ * retryers. Idle threads are released after a minute, and {@link #close()} shuts the pool down.
+ */
+@ThreadSafe
+public final class BoundedAttemptTimeLimiter implements AttemptTimeLimiter, AutoCloseable {
+
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
+    private final String name;
+    private final long timeLimitNanos;
+    private final int maxAbandonedAttempts;
+    private final ThreadPoolExecutor executor;
+    private final AtomicInteger abandonedAttempts = new AtomicInteger();
+    private final LongAdder completedAttempts = new LongAdder();
+    private final LongAdder timedOutAttempts = new LongAdder();
+    private final LongAdder rejectedAttempts = new LongAdder();
+
+    BoundedAttemptTimeLimiter(String name, long timeLimitNanos, int maxThreads, int maxAbandonedAttempts) {
+        this.name = name;
+        this.timeLimitNanos = timeLimitNanos;
+        this.maxAbandonedAttempts = maxAbandonedAttempts;
+
+        var threadFactory = new ThreadFactoryBuilder()
+                .setNameFormat(name + "-%d")
+                .setDaemon(true)
+                .build();
+        this.executor = new ThreadPoolExecutor(maxThreads, maxThreads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), threadFactory);
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public <T> T call(Callable<T> callable) throws Exception {
+        return call(callable, timeLimitNanos);
+    }
+
+    @Override
+    public <T> T call(Callable<T> callable, long maxTimeNanos) throws Exception {
+        if (abandonedAttempts.get() >= maxAbandonedAttempts) {
+            rejectedAttempts.increment();
+            throw new RejectedExecutionException(String.format(
+                    "%s has %d abandoned attempts still running; no attempt was made", name, maxAbandonedAttempts));
+        }
+
+        var task = new LimitedTask<>(callable);
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedAttempts.increment();
+            throw new RejectedExecutionException(String.format(
+                    "all %d threads of %s are busy; no attempt was made", executor.getMaximumPoolSize(), name), e);
+        }
+
+        try {
+            var result = future.get(Math.min(timeLimitNanos, maxTimeNanos), TimeUnit.NANOSECONDS);
+            completedAttempts.increment();
+            return result;
+        } catch (ExecutionException e) {
+            completedAttempts.increment();
+            throw rethrowable(e.getCause());
+        } catch (TimeoutException e) {
+            timedOutAttempts.increment();
+            abandon(task, future);
+            throw e;
+        } catch (InterruptedException e) {
+            abandon(task, future);
+            throw e;
+        }
+    }
+
+    private void abandon(LimitedTask<?> task, Future<?> future) {
+        future.cancel(true);
+        if (task.abandon()) {
+            abandonedAttempts.incrementAndGet();
+        }
+    }
+
+    private static Exception rethrowable(Throwable cause) {
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return (Exception) cause;
+    }
+
+    /**
+     * @return the name of this time limiter, which prefixes the names of its threads
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the number of threads currently running attempts, including abandoned ones
+     */
+    public int getActiveThreadCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * @return the number of attempts which exceeded the time limit but are still running
+     */
+    public int getAbandonedAttemptCount() {
+        return abandonedAttempts.get();
+    }
+
+    /**
+     * @return the number of attempts which completed within the time limit, with a result or an exception
+     */
+    public long getCompletedAttemptCount() {
+        return completedAttempts.sum();
+    }
+
+    /**
+     * @return the number of attempts which exceeded the time limit
+     */
+    public long getTimedOutAttemptCount() {
+        return timedOutAttempts.sum();
+    }
+
+    /**
+     * @return the number of attempts which were rejected because too many attempts were abandoned or all
+     * threads were busy
+     */
+    public long getRejectedAttemptCount() {
+        return rejectedAttempts.sum();
+    }
+
+    /**
+     * Shuts down the thread pool, interrupting any attempts which are still running. Further attempts are
+     * rejected.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Runs an attempt and tracks whether it was started, finished, or abandoned while running. The state
+     * transitions ensure an abandoned attempt is counted once when abandoned and discounted once when it finishes,
+     * and that an attempt which was cancelled before it started is never counted.
+     */
+    private final class LimitedTask<T> implements Callable<T> {
+        private static final int NEW = 0;
+        private static final int RUNNING = 1;
+        private static final int FINISHED = 2;
+        private static final int ABANDONED = 3;
+
+        private final Callable<T> callable;
+        private final AtomicInteger state = new AtomicInteger(NEW);
+
+        LimitedTask(Callable<T> callable) {
+            this.callable = callable;
+        }
+
+        @Override
+        public T call() throws Exception {
+            if (!state.compareAndSet(NEW, RUNNING)) {
+                throw new IllegalStateException("attempt was abandoned before it started");
+            }
+            try {
+                return callable.call();
+            } finally {
+                if (!state.compareAndSet(RUNNING, FINISHED)) {
+                    abandonedAttempts.decrementAndGet();
+                }
+            }
+        }
+
+        /**
+         * @return <code>true</code> if the attempt is still running, and so has been abandoned
+         */
+        boolean abandon() {
+            return !state.compareAndSet(NEW, FINISHED) && state.compareAndSet(RUNNING, ABANDONED);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import com.google.common.base.Preconditions;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A builder used to configure and create a {@link BoundedAttemptTimeLimiter}.
+ */
+public class BoundedAttemptTimeLimiterBuilder {
+    private static final String DEFAULT_NAME = "attempt-time-limiter";
+    private static final int DEFAULT_MAX_THREADS = 32;
+
+    private String name = DEFAULT_NAME;
+    private Long timeLimitNanos;
+    private int maxThreads = DEFAULT_MAX_THREADS;
+    private Integer maxAbandonedAttempts;
+
+    private BoundedAttemptTimeLimiterBuilder() {
+    }
+
+    public static BoundedAttemptTimeLimiterBuilder newBuilder() {
+        return new BoundedAttemptTimeLimiterBuilder();
+    }
+
+    /**
+     * Sets the name of the time limiter, which prefixes the names of its threads so they can be identified in
+     * thread dumps. The default is "attempt-time-limiter".
+     *
+     * @param name the name
+     * @return <code>this</code>
+     * @throws IllegalArgumentException if the name is blank
+     */
+    public BoundedAttemptTimeLimiterBuilder withName(@Nonnull String name) {
+        Preconditions.checkNotNull(name, "name may not be null");
+        Preconditions.checkArgument(!name.isBlank(), "name may not be blank");
+        this.name = name;
+        return this;
+    }
+
+    /**
+     * Sets how long an attempt may run before it is interrupted and a {@link java.util.concurrent.TimeoutException}
+     * is thrown. A time limit is required.
+     *
+     * @param duration the time limit
+     * @param timeUnit the unit of the duration
+     * @return <code>this</code>
+     * @throws IllegalArgumentException if the duration is &lt;= 0
+     * @throws IllegalStateException    if a time limit has already been set.
+     */
+    public BoundedAttemptTimeLimiterBuilder withTimeLimit(long duration, @Nonnull TimeUnit timeUnit) {
+        Preconditions.checkNotNull(timeUnit, "The time unit may not be null");
+        Preconditions.checkArgument(duration > 0L, "duration must be > 0 but is %s", duration);
+        Preconditions.checkState(timeLimitNanos == null, "a time limit has already been set: %s ns", timeLimitNanos);
+        this.timeLimitNanos = timeUnit.toNanos(duration);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of threads, and so the maximum number of attempts which may run at once.
+     * The default is 32.
+     *
+     * @param maxThreads the maximum number of threads
+     * @return <code>this</code>
+     * @throws IllegalArgumentException if maxThreads is &lt; 1
+     */
+    public BoundedAttemptTimeLimiterBuilder withMaxThreads(int maxThreads) {
+        Preconditions.checkArgument(maxThreads >= 1, "maxThreads must be >= 1 but is %s", maxThreads);
+        this.maxThreads = maxThreads;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of abandoned attempts, which exceeded the time limit but are still running, at
+     * which further attempts are rejected. The default is half the maximum number of threads, so that attempts
+     * which ignore interruption cannot take over the whole pool.
+     *
+     * @param maxAbandonedAttempts the maximum number of abandoned attempts
+     * @return <code>this</code>
+     * @throws IllegalArgumentException if maxAbandonedAttempts is &lt; 1
+     */
+    public BoundedAttemptTimeLimiterBuilder withMaxAbandonedAttempts(int maxAbandonedAttempts) {
+        Preconditions.checkArgument(maxAbandonedAttempts >= 1,
+                "maxAbandonedAttempts must be >= 1 but is %s", maxAbandonedAttempts);
+        this.maxAbandonedAttempts = maxAbandonedAttempts;
+        return this;
+    }
+
+    /**
+     * Builds the time limiter.
+     *
+     * @return the built time limiter.
+     * @throws IllegalStateException if no time limit has been set, or the maximum number of abandoned attempts
+     *                               exceeds the maximum number of threads
+     */
+    public BoundedAttemptTimeLimiter build() {
+        Preconditions.checkState(timeLimitNanos != null, "a time limit must be set");
+        var maxAbandoned = maxAbandonedAttempts == null ? Math.max(1, maxThreads / 2) : maxAbandonedAttempts;
+        Preconditions.checkState(maxAbandoned <= maxThreads,
+                "maxAbandonedAttempts must be <= maxThreads but maxAbandonedAttempts is %s and maxThreads is %s",
+                maxAbandoned, maxThreads);
+
+        return new BoundedAttemptTimeLimiter(name, timeLimitNanos, maxThreads, maxAbandoned);
+    }
+}
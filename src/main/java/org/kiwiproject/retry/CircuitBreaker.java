@@ -0,0 +1,371 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import com.google.common.base.Ticker;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A circuit breaker which tracks the outcomes of recent attempts, and which stops a {@link Retryer} from making
+ * attempts while the called service appears to be down.
+ * <p>
+ * The circuit breaker starts {@link State#CLOSED closed}, allowing all attempts. Once the failure rate of the
+ * attempts in its sliding window reaches the configured threshold, it {@link State#OPEN opens} and refuses all
+ * attempts. After the configured wait duration, it becomes {@link State#HALF_OPEN half-open}, and permits a
+ * limited number of probe attempts. If all the probes succeed, it closes again; if any probe fails, it re-opens.
+ * <p>
+ * Instances are created using a {@link CircuitBreakerBuilder}, and can be shared by many threads and retryers.
+ * All state is held in atomic variables, so recording outcomes never blocks. The sliding window counts are
+ * updated without locking, and may therefore be momentarily approximate while many threads record concurrently.
+ */
+@ThreadSafe
+public final class CircuitBreaker {
+
+    /**
+     * The states of a circuit breaker.
+     */
+    public enum State {
+
+        /**
+         * All attempts are permitted, and their outcomes are recorded in the sliding window.
+         */
+        CLOSED,
+
+        /**
+         * No attempts are permitted.
+         */
+        OPEN,
+
+        /**
+         * A limited number of probe attempts are permitted to decide whether to close or re-open.
+         */
+        HALF_OPEN
+    }
+
+    private final SlidingWindow slidingWindow;
+    private final double failureRateThreshold;
+    private final int minimumNumberOfCalls;
+    private final long waitDurationInOpenStateNanos;
+    private final int permittedProbes;
+    private final Ticker ticker;
+    private final AtomicReference<CircuitState> state;
+
+    CircuitBreaker(SlidingWindow slidingWindow,
+                   double failureRateThreshold,
+                   int minimumNumberOfCalls,
+                   long waitDurationInOpenStateNanos,
+                   int permittedProbes,
+                   Ticker ticker) {
+        this.slidingWindow = slidingWindow;
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumNumberOfCalls = minimumNumberOfCalls;
+        this.waitDurationInOpenStateNanos = waitDurationInOpenStateNanos;
+        this.permittedProbes = permittedProbes;
+        this.ticker = ticker;
+        this.state = new AtomicReference<>(CircuitState.closed());
+    }
+
+    /**
+     * Returns the current state of this circuit breaker. An open circuit breaker whose wait duration has
+     * elapsed is reported as open until an attempt is made, at which point it becomes half-open.
+     *
+     * @return the current state
+     */
+    public State getState() {
+        return state.get().state;
+    }
+
+    /**
+     * Attempts to acquire permission to make an attempt. If permission is granted, the outcome of the attempt
+     * must be recorded using {@link #onSuccess()} or {@link #onFailure()}, or the permission must be released
+     * using {@link #releasePermission()} if the attempt did not complete.
+     *
+     * @return <code>true</code> if the attempt is permitted, <code>false</code> if the circuit is open
+     */
+    public boolean tryAcquirePermission() {
+        while (true) {
+            var current = state.get();
+            switch (current.state) {
+                case CLOSED:
+                    return true;
+
+                case OPEN:
+                    if (ticker.read() - current.openedAtNanos < waitDurationInOpenStateNanos) {
+                        return false;
+                    }
+                    state.compareAndSet(current, CircuitState.halfOpen(permittedProbes));
+                    break;
+
+                case HALF_OPEN:
+                    return current.tryAcquireProbe();
+
+                default:
+                    throw new IllegalStateException("Unknown state: " + current.state);
+            }
+        }
+    }
+
+    /**
+     * Releases a permission acquired by {@link #tryAcquirePermission()} for an attempt that did not complete,
+     * for example because the thread making it was interrupted.
+     */
+    public void releasePermission() {
+        var current = state.get();
+        if (current.state == State.HALF_OPEN) {
+            current.releaseProbe();
+        }
+    }
+
+    /**
+     * Records a successful attempt.
+     */
+    public void onSuccess() {
+        var current = state.get();
+        if (current.state == State.CLOSED) {
+            slidingWindow.record(false);
+        } else if (current.state == State.HALF_OPEN && current.recordProbeSuccess()
+                && state.compareAndSet(current, CircuitState.closed())) {
+            slidingWindow.reset();
+        }
+    }
+
+    /**
+     * Records a failed attempt.
+     */
+    public void onFailure() {
+        var current = state.get();
+        if (current.state == State.CLOSED) {
+            slidingWindow.record(true);
+            if (failureRateExceeded()) {
+                open(current);
+            }
+        } else if (current.state == State.HALF_OPEN) {
+            open(current);
+        }
+    }
+
+    private boolean failureRateExceeded() {
+        var totalCalls = slidingWindow.totalCalls();
+        if (totalCalls < minimumNumberOfCalls) {
+            return false;
+        }
+        return 100.0 * slidingWindow.failedCalls() / totalCalls >= failureRateThreshold;
+    }
+
+    private void open(CircuitState current) {
+        if (state.compareAndSet(current, CircuitState.open(ticker.read()))) {
+            slidingWindow.reset();
+        }
+    }
+
+    /**
+     * An immutable state, except for the probe counters used while half-open. A new instance is created on each
+     * transition, so a thread which observed an old state cannot affect the counters of a newer one.
+     */
+    private static final class CircuitState {
+        private static final CircuitState CLOSED = new CircuitState(State.CLOSED, 0L, 0);
+
+        final State state;
+        final long openedAtNanos;
+        private final AtomicInteger remainingProbes;
+        private final AtomicInteger remainingSuccesses;
+
+        private CircuitState(State state, long openedAtNanos, int probes) {
+            this.state = state;
+            this.openedAtNanos = openedAtNanos;
+            this.remainingProbes = new AtomicInteger(probes);
+            this.remainingSuccesses = new AtomicInteger(probes);
+        }
+
+        static CircuitState closed() {
+            return CLOSED;
+        }
+
+        static CircuitState open(long openedAtNanos) {
+            return new CircuitState(State.OPEN, openedAtNanos, 0);
+        }
+
+        static CircuitState halfOpen(int probes) {
+            return new CircuitState(State.HALF_OPEN, 0L, probes);
+        }
+
+        boolean tryAcquireProbe() {
+            while (true) {
+                var remaining = remainingProbes.get();
+                if (remaining <= 0) {
+                    return false;
+                }
+                if (remainingProbes.compareAndSet(remaining, remaining - 1)) {
+                    return true;
+                }
+            }
+        }
+
+        void releaseProbe() {
+            remainingProbes.incrementAndGet();
+        }
+
+        /**
+         * @return true if this success was the last one needed to close the circuit
+         */
+        boolean recordProbeSuccess() {
+            return remainingSuccesses.decrementAndGet() == 0;
+        }
+    }
+
+    /**
+     * Tracks the outcomes of recent calls.
+     */
+    interface SlidingWindow {
+
+        void record(boolean failed);
+
+        int totalCalls();
+
+        int failedCalls();
+
+        void reset();
+    }
+
+    /**
+     * A sliding window of the outcomes of the last {@code size} calls, kept in a ring buffer.
+     */
+    static final class CountBasedSlidingWindow implements SlidingWindow {
+        private static final long EMPTY = 0L;
+        private static final long SUCCESS = 1L;
+        private static final long FAILURE = 2L;
+
+        private final AtomicLongArray outcomes;
+        private final AtomicInteger index = new AtomicInteger();
+        private final AtomicInteger totalCalls = new AtomicInteger();
+        private final AtomicInteger failedCalls = new AtomicInteger();
+
+        CountBasedSlidingWindow(int size) {
+            this.outcomes = new AtomicLongArray(size);
+        }
+
+        @Override
+        public void record(boolean failed) {
+            var slot = Math.floorMod(index.getAndIncrement(), outcomes.length());
+            var previous = outcomes.getAndSet(slot, failed ? FAILURE : SUCCESS);
+            if (previous == EMPTY) {
+                totalCalls.incrementAndGet();
+            }
+            if (failed && previous != FAILURE) {
+                failedCalls.incrementAndGet();
+            } else if (!failed && previous == FAILURE) {
+                failedCalls.decrementAndGet();
+            }
+        }
+
+        @Override
+        public int totalCalls() {
+            return totalCalls.get();
+        }
+
+        @Override
+        public int failedCalls() {
+            return failedCalls.get();
+        }
+
+        @Override
+        public void reset() {
+            for (var i = 0; i < outcomes.length(); i++) {
+                var previous = outcomes.getAndSet(i, EMPTY);
+                if (previous != EMPTY) {
+                    totalCalls.decrementAndGet();
+                }
+                if (previous == FAILURE) {
+                    failedCalls.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * A sliding window of the outcomes of calls made during the last window duration, aggregated into a fixed
+     * number of buckets which are reused as time passes.
+     */
+    static final class TimeBasedSlidingWindow implements SlidingWindow {
+        private final int numberOfBuckets;
+        private final long bucketDurationNanos;
+        private final Ticker ticker;
+        private final AtomicLongArray bucketEpochs;
+        private final AtomicLongArray successes;
+        private final AtomicLongArray failures;
+
+        TimeBasedSlidingWindow(long windowDurationNanos, int numberOfBuckets, Ticker ticker) {
+            this.numberOfBuckets = numberOfBuckets;
+            this.bucketDurationNanos = Math.max(1L, windowDurationNanos / numberOfBuckets);
+            this.ticker = ticker;
+            this.bucketEpochs = new AtomicLongArray(numberOfBuckets);
+            this.successes = new AtomicLongArray(numberOfBuckets);
+            this.failures = new AtomicLongArray(numberOfBuckets);
+            reset();
+        }
+
+        @Override
+        public void record(boolean failed) {
+            var epoch = currentEpoch();
+            var bucket = Math.floorMod(epoch, numberOfBuckets);
+            var bucketEpoch = bucketEpochs.get(bucket);
+            if (bucketEpoch != epoch && bucketEpochs.compareAndSet(bucket, bucketEpoch, epoch)) {
+                successes.set(bucket, 0L);
+                failures.set(bucket, 0L);
+            }
+            (failed ? failures : successes).incrementAndGet(bucket);
+        }
+
+        @Override
+        public int totalCalls() {
+            return sum(successes) + sum(failures);
+        }
+
+        @Override
+        public int failedCalls() {
+            return sum(failures);
+        }
+
+        private int sum(AtomicLongArray counts) {
+            var oldestEpoch = currentEpoch() - numberOfBuckets + 1;
+            var sum = 0L;
+            for (var i = 0; i < numberOfBuckets; i++) {
+                if (bucketEpochs.get(i) >= oldestEpoch) {
+                    sum += counts.get(i);
+                }
+            }
+            return (int) Math.min(sum, Integer.MAX_VALUE);
+        }
+
+        private long currentEpoch() {
+            return ticker.read() / bucketDurationNanos;
+        }
+
+        @Override
+        public void reset() {
+            for (var i = 0; i < numberOfBuckets; i++) {
+                bucketEpochs.set(i, Long.MIN_VALUE);
+                successes.set(i, 0L);
+                failures.set(i, 0L);
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Ticker;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A builder used to configure and create a {@link CircuitBreaker}.
+ */
+public class CircuitBreakerBuilder {
+    private static final int DEFAULT_SLIDING_WINDOW_SIZE = 100;
+    private static final int TIME_BASED_WINDOW_BUCKETS = 10;
+    private static final double DEFAULT_FAILURE_RATE_THRESHOLD = 50.0;
+    private static final long DEFAULT_WAIT_DURATION_IN_OPEN_STATE_NANOS = TimeUnit.SECONDS.toNanos(60);
+    private static final int DEFAULT_PERMITTED_PROBES = 1;
+
+    private Integer slidingWindowSize;
+    private Long slidingWindowDurationNanos;
+    private double failureRateThreshold = DEFAULT_FAILURE_RATE_THRESHOLD;
+    private Integer minimumNumberOfCalls;
+    private long waitDurationInOpenStateNanos = DEFAULT_WAIT_DURATION_IN_OPEN_STATE_NANOS;
+    private int permittedProbes = DEFAULT_PERMITTED_PROBES;
+    private Ticker ticker = Ticker.systemTicker();
+
+    private CircuitBreakerBuilder() {
+    }
+
+    public static CircuitBreakerBuilder newBuilder() {
+        return new CircuitBreakerBuilder();
+    }
+
+    /**
+     * Configures the circuit breaker to compute the failure rate from the outcomes of the last {@code size}
+     * attempts. This is the default, with a size of 100.
+     *
+     * @param size the number of attempts in the sliding window
+     * @return <code>this</code>
+     * @throws IllegalArgumentException if the size is &lt; 1
+     * @throws IllegalStateException    if a sliding window has already been set.
+     */
+    public CircuitBreakerBuilder withCountBasedSlidingWindow(int size) {
+        Preconditions.checkArgument(size >= 1, "size must be >= 1 but is %s", size);
+        checkSlidingWindowNotSet();
+        this.slidingWindowSize = size;
+        return this;
+    }
+
+    /**
+     * Configures the circuit breaker to compute the failure rate from the outcomes of the attempts made
+     * during the last {@code duration}.
+     *
+     * @param duration the duration of the sliding window
+     * @param timeUnit the unit of the duration
+     * @return <code>this</code>
+     * @throws IllegalArgumentException if the duration is &lt;= 0
+     * @throws IllegalStateException    if a sliding window has already been set.
+     */
+    public CircuitBreakerBuilder withTimeBasedSlidingWindow(long duration, @Nonnull TimeUnit timeUnit) {
+        Preconditions.checkNotNull(timeUnit, "The time unit may not be null");
+        Preconditions.checkArgument(duration > 0L, "duration must be > 0 but is %s", duration);
+        checkSlidingWindowNotSet();
+        this.slidingWindowDurationNanos = timeUnit.toNanos(duration);
+        return this;
+    }
+
+    private void checkSlidingWindowNotSet() {
+        Preconditions.checkState(slidingWindowSize == null && slidingWindowDurationNanos == null,
+                "a sliding window has already been set");
+    }
+
+    /**
+     * Sets the failure rate, as a percentage, at or above which the circuit opens. The default is 50.
+     *
+     * @param failureRateThreshold the failure rate threshold, greater than 0 and at most 100
+     * @return <code>this</code>
+     * @throws IllegalArgumentException if the threshold is not greater than 0 and at most 100
+     */
+    public CircuitBreakerBuilder withFailureRateThreshold(double failureRateThreshold) {
+        Preconditions.checkArgument(failureRateThreshold > 0.0 && failureRateThreshold <= 100.0,
+                "failureRateThreshold must be > 0 and <= 100 but is %s", failureRateThreshold);
+        this.failureRateThreshold = failureRateThreshold;
+        return this;
+    }
+
+    /**
+     * Sets the minimum number of attempts which must be in the sliding window before the failure rate is
+     * computed. The default is the size of a count based sliding window, or 10 for a time based one.
+     *
+     * @param minimumNumberOfCalls the minimum number of calls
+     * @return <code>this</code>
+     * @throws IllegalArgumentException if minimumNumberOfCalls is &lt; 1
+     */
+    public CircuitBreakerBuilder withMinimumNumberOfCalls(int minimumNumberOfCalls) {
+        Preconditions.checkArgument(minimumNumberOfCalls >= 1,
+                "minimumNumberOfCalls must be >= 1 but is %s", minimumNumberOfCalls);
+        this.minimumNumberOfCalls = minimumNumberOfCalls;
+        return this;
+    }
+
+    /**
+     * Sets how long the circuit stays open before permitting probe attempts. The default is 60 seconds.
+     *
+     * @param duration the wait duration
+     * @param timeUnit the unit of the duration
+     * @return <code>this</code>
+     * @throws IllegalArgumentException if the duration is &lt; 0
+     */
+    public CircuitBreakerBuilder withWaitDurationInOpenState(long duration, @Nonnull TimeUnit timeUnit) {
+        Preconditions.checkNotNull(timeUnit, "The time unit may not be null");
+        Preconditions.checkArgument(duration >= 0L, "duration must be >= 0 but is %s", duration);
+        this.waitDurationInOpenStateNanos = timeUnit.toNanos(duration);
+        return this;
+    }
+
+    /**
+     * Sets the number of probe attempts permitted while the circuit is half-open. The circuit closes once
+     * all of them succeed. The default is 1.
+     *
+     * @param permittedProbes the number of probe attempts
+     * @return <code>this</code>
+     * @throws IllegalArgumentException if permittedProbes is &lt; 1
+     */
+    public CircuitBreakerBuilder withPermittedProbesInHalfOpenState(int permittedProbes) {
+        Preconditions.checkArgument(permittedProbes >= 1, "permittedProbes must be >= 1 but is %s", permittedProbes);
+        this.permittedProbes = permittedProbes;
+        return this;
+    }
+
+    /**
+     * Sets the source of the time used for the time-based sliding window and the wait in the open state.
+     * By default, {@link Ticker#systemTicker()} is used. A circuit breaker used by a retryer running in
+     * virtual time, such as in a {@link RetryStormSimulation}, must use the same ticker as the retryer.
+     *
+     * @param ticker the source of the time
+     * @return <code>this</code>
+     */
+    public CircuitBreakerBuilder withTicker(@Nonnull Ticker ticker) {
+        this.ticker = Preconditions.checkNotNull(ticker, "ticker may not be null");
+        return this;
+    }
+
+    /**
+     * Builds the circuit breaker.
+     *
+     * @return the built circuit breaker.
+     */
+    public CircuitBreaker build() {
+        CircuitBreaker.SlidingWindow slidingWindow;
+        int defaultMinimumNumberOfCalls;
+        if (slidingWindowDurationNanos == null) {
+            var size = slidingWindowSize == null ? DEFAULT_SLIDING_WINDOW_SIZE : slidingWindowSize;
+            slidingWindow = new CircuitBreaker.CountBasedSlidingWindow(size);
+            defaultMinimumNumberOfCalls = size;
+        } else {
+            slidingWindow = new CircuitBreaker.TimeBasedSlidingWindow(
+                    slidingWindowDurationNanos, TIME_BASED_WINDOW_BUCKETS, ticker);
+            defaultMinimumNumberOfCalls = 10;
+        }
+
+        return new CircuitBreaker(
+                slidingWindow,
+                failureRateThreshold,
+                minimumNumberOfCalls == null ? defaultMinimumNumberOfCalls : minimumNumberOfCalls,
+                waitDurationInOpenStateNanos,
+                permittedProbes,
+                ticker);
+    }
+}
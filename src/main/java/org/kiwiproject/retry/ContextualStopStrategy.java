@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+/**
+ * A {@link StopStrategy} which uses the {@link RetryContext} of the current invocation to decide whether to stop,
+ * for example based on how long attempts have been taking.
+ */
+public interface ContextualStopStrategy extends StopStrategy {
+
+    /**
+     * Returns <code>true</code> if the retryer should stop retrying.
+     *
+     * @param failedAttempt the previous failed {@code Attempt}
+     * @param context       the context of the current invocation, which includes the failed attempt
+     * @return <code>true</code> if the retryer must stop, <code>false</code> otherwise
+     */
+    boolean shouldStop(Attempt<?> failedAttempt, RetryContext context);
+
+    /**
+     * Returns <code>true</code> if the retryer should stop retrying, when no context is available.
+     * <p>
+     * The default implementation uses an empty context.
+     *
+     * @param failedAttempt the previous failed {@code Attempt}
+     * @return <code>true</code> if the retryer must stop, <code>false</code> otherwise
+     */
+    @Override
+    default boolean shouldStop(Attempt<?> failedAttempt) {
+        return shouldStop(failedAttempt, new RetryContext());
+    }
+}
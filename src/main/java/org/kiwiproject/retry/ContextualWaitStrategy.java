@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link WaitStrategy} which uses the {@link RetryContext} of the current invocation to decide how long to sleep,
+ * for example to base the sleep time on the previous one.
+ */
+public interface ContextualWaitStrategy extends WaitStrategy {
+
+    /**
+     * Returns the time, in milliseconds, to sleep before retrying.
+     *
+     * @param failedAttempt the previous failed {@code Attempt}
+     * @param context       the context of the current invocation, which includes the failed attempt
+     * @return the sleep time before next attempt
+     */
+    long computeSleepTime(Attempt<?> failedAttempt, RetryContext context);
+
+    /**
+     * Returns the time, in nanoseconds, to sleep before retrying. A {@link Retryer} uses this method, so strategies
+     * which compute sleep times more precisely than milliseconds should override it.
+     * <p>
+     * The default implementation converts the result of {@link #computeSleepTime(Attempt, RetryContext)} to
+     * nanoseconds.
+     *
+     * @param failedAttempt the previous failed {@code Attempt}
+     * @param context       the context of the current invocation, which includes the failed attempt
+     * @return the sleep time before next attempt, in nanoseconds
+     */
+    default long computeSleepTimeNanos(Attempt<?> failedAttempt, RetryContext context) {
+        return TimeUnit.MILLISECONDS.toNanos(computeSleepTime(failedAttempt, context));
+    }
+
+    /**
+     * Returns the time, in milliseconds, to sleep before retrying, when no context is available.
+     * <p>
+     * The default implementation uses an empty context.
+     *
+     * @param failedAttempt the previous failed {@code Attempt}
+     * @return the sleep time before next attempt
+     */
+    @Override
+    default long computeSleepTime(Attempt<?> failedAttempt) {
+        return computeSleepTime(failedAttempt, new RetryContext());
+    }
+}
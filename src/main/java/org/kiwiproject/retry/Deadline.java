@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import com.google.common.base.Ticker;
+
+import javax.annotation.concurrent.Immutable;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The point in time by which a call to a {@link Retryer} configured with
+ * {@link RetryerBuilder#withDeadline(long, TimeUnit) a deadline} must complete, including all of its attempts
+ * and the time waited between them.
+ * <p>
+ * While an attempt runs, the deadline of the call it belongs to is available from {@link #current()}, so that
+ * the attempt can pass the remaining time on to the services it calls, for example as a request timeout.
+ */
+@Immutable
+public final class Deadline {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long deadlineNanos;
+    private final Ticker ticker;
+
+    private Deadline(long deadlineNanos, Ticker ticker) {
+        this.deadlineNanos = deadlineNanos;
+        this.ticker = ticker;
+    }
+
+    /**
+     * Creates a deadline the given time after now.
+     *
+     * @param durationNanos the time until the deadline, in nanoseconds
+     * @return the new deadline
+     */
+    static Deadline after(long durationNanos) {
+        return after(durationNanos, Ticker.systemTicker());
+    }
+
+    /**
+     * Creates a deadline the given time after now, as read from the given ticker.
+     *
+     * @param durationNanos the time until the deadline, in nanoseconds
+     * @param ticker        the source of the time
+     * @return the new deadline
+     */
+    static Deadline after(long durationNanos, Ticker ticker) {
+        return new Deadline(ticker.read() + durationNanos, ticker);
+    }
+
+    /**
+     * Returns the deadline of the attempt running on the current thread, if it was made by a {@link Retryer}
+     * which has a deadline.
+     *
+     * @return the deadline of the current attempt, or an empty Optional if there is none
+     */
+    public static Optional<Deadline> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * @return the time remaining until the deadline, in nanoseconds, or zero if it has passed
+     */
+    public long getRemainingNanos() {
+        return Math.max(0L, deadlineNanos - ticker.read());
+    }
+
+    /**
+     * @param timeUnit the unit in which to return the remaining time
+     * @return the time remaining until the deadline, truncated to the given unit, or zero if it has passed
+     */
+    public long getRemaining(TimeUnit timeUnit) {
+        return timeUnit.convert(getRemainingNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return the time remaining until the deadline, or {@link Duration#ZERO} if it has passed
+     */
+    public Duration getRemaining() {
+        return Duration.ofNanos(getRemainingNanos());
+    }
+
+    /**
+     * @return <code>true</code> if the deadline has passed
+     */
+    public boolean isExpired() {
+        return deadlineNanos - ticker.read() <= 0L;
+    }
+
+    /**
+     * Returns a callable which makes this deadline {@link #current() current} while it calls the given one, on
+     * whichever thread the attempt runs.
+     */
+    <T> Callable<T> bind(Callable<T> callable) {
+        return () -> {
+            var previous = CURRENT.get();
+            CURRENT.set(this);
+            try {
+                return callable.call();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline[remaining=" + getRemaining() + "]";
+    }
+}
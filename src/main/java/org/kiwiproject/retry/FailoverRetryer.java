@@ -0,0 +1,284 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Makes calls to replicated endpoints using a {@link Retryer}, choosing the endpoint for each attempt, so that
+ * retries land on the replicas most likely to succeed rather than on the one which just failed.
+ * <p>
+ * For each endpoint, an exponentially weighted moving average of the attempts' latencies and their error rate is
+ * kept. An endpoint's score is its average latency plus its error rate times the failure penalty, which is the
+ * expected cost of an attempt if a failure costs as much as the penalty. The error rate decays by half every
+ * failure penalty, so an endpoint which failed recovers its score over time even if it gets no attempts.
+ * <p>
+ * Each attempt picks two endpoints at random and uses the one with the lower score (the "power of two choices"),
+ * which spreads attempts over the healthy endpoints instead of piling them onto the single best one. An endpoint
+ * whose attempt failed is deprioritized for the failure penalty: it is only chosen while every endpoint is.
+ * Endpoints without any attempts yet have the best possible score, so each is tried.
+ *
+ * @param <E> the type of the endpoints, which must implement equals and hashCode
+ * @see FailoverRetryerBuilder
+ */
+@ThreadSafe
+public final class FailoverRetryer<E> {
+
+    private static final double SMOOTHING_FACTOR = 0.25;
+
+    private final Retryer retryer;
+    private final Ticker ticker;
+    private final long failurePenaltyNanos;
+    private final List<E> endpoints;
+    private final List<AtomicReference<Health>> healths;
+    private final Map<E, Integer> indexes;
+
+    FailoverRetryer(List<E> endpoints, Retryer retryer, long failurePenaltyNanos) {
+        this.retryer = retryer;
+        this.ticker = retryer.getTicker();
+        this.failurePenaltyNanos = failurePenaltyNanos;
+        this.endpoints = List.copyOf(endpoints);
+
+        var nowNanos = ticker.read();
+        var healthList = new ArrayList<AtomicReference<Health>>(endpoints.size());
+        var indexMap = new HashMap<E, Integer>();
+        for (var i = 0; i < this.endpoints.size(); i++) {
+            healthList.add(new AtomicReference<>(Health.initial(nowNanos)));
+            indexMap.put(this.endpoints.get(i), i);
+        }
+        checkArgument(indexMap.size() == this.endpoints.size(), "endpoints may not contain duplicates");
+        this.healths = List.copyOf(healthList);
+        this.indexes = Map.copyOf(indexMap);
+    }
+
+    /**
+     * An operation which is attempted against an endpoint.
+     *
+     * @param <E> the type of the endpoints
+     * @param <T> the type of the result
+     */
+    @FunctionalInterface
+    public interface EndpointCallable<E, T> {
+
+        /**
+         * Makes an attempt against the given endpoint.
+         *
+         * @param endpoint the endpoint chosen for this attempt
+         * @return the result
+         * @throws Exception if the attempt fails
+         */
+        T call(E endpoint) throws Exception;
+    }
+
+    /**
+     * Calls the given operation using the retryer, choosing the endpoint for each attempt. An attempt which
+     * throws an exception counts as a failure of its endpoint.
+     *
+     * @param callable makes an attempt against an endpoint
+     * @param <T>      the type of the result
+     * @return the result of the first accepted attempt
+     * @throws RetryException       if all the attempts failed before the stop strategy decided to abort
+     * @throws InterruptedException if this thread is interrupted
+     * @see Retryer#call(Callable)
+     */
+    public <T> T call(@Nonnull EndpointCallable<E, T> callable) throws RetryException, InterruptedException {
+        checkNotNull(callable, "callable may not be null");
+        return retryer.call(() -> attempt(callable));
+    }
+
+    private <T> T attempt(EndpointCallable<E, T> callable) throws Exception {
+        var index = selectIndex();
+        var startTimeNanos = ticker.read();
+        T result;
+        try {
+            result = callable.call(endpoints.get(index));
+        } catch (Exception e) {
+            record(index, ticker.read() - startTimeNanos, true);
+            throw e;
+        }
+        record(index, ticker.read() - startTimeNanos, false);
+        return result;
+    }
+
+    @VisibleForTesting
+    void record(E endpoint, long latencyNanos, boolean failed) {
+        record(indexOf(endpoint), latencyNanos, failed);
+    }
+
+    private void record(int index, long latencyNanos, boolean failed) {
+        var nowNanos = ticker.read();
+        healths.get(index).updateAndGet(health -> health.record(latencyNanos, failed, nowNanos, failurePenaltyNanos));
+    }
+
+    /**
+     * Chooses the better of two endpoints picked at random from those which are not deprioritized, or from all
+     * of them if every endpoint is deprioritized.
+     */
+    @VisibleForTesting
+    int selectIndex() {
+        var size = endpoints.size();
+        if (size == 1) {
+            return 0;
+        }
+
+        var nowNanos = ticker.read();
+        var candidates = new int[size];
+        var candidateCount = 0;
+        for (var i = 0; i < size; i++) {
+            if (!healths.get(i).get().isDeprioritized(nowNanos)) {
+                candidates[candidateCount++] = i;
+            }
+        }
+        if (candidateCount == 0) {
+            for (var i = 0; i < size; i++) {
+                candidates[i] = i;
+            }
+            candidateCount = size;
+        } else if (candidateCount == 1) {
+            return candidates[0];
+        }
+
+        var random = ThreadLocalRandom.current();
+        var first = random.nextInt(candidateCount);
+        var second = random.nextInt(candidateCount - 1);
+        if (second >= first) {
+            second++;
+        }
+        var firstIndex = candidates[first];
+        var secondIndex = candidates[second];
+        return (score(firstIndex, nowNanos) <= score(secondIndex, nowNanos)) ? firstIndex : secondIndex;
+    }
+
+    private double score(int index, long nowNanos) {
+        return healths.get(index).get().score(nowNanos, failurePenaltyNanos);
+    }
+
+    /**
+     * @return the endpoints, in the order they were given
+     */
+    public List<E> getEndpoints() {
+        return endpoints;
+    }
+
+    /**
+     * @param endpoint one of the endpoints
+     * @return the moving average latency of the attempts against the endpoint, or {@link Duration#ZERO} if there
+     * have not been any
+     * @throws IllegalArgumentException if the endpoint is not one of the endpoints
+     */
+    public Duration getLatency(@Nonnull E endpoint) {
+        return Duration.ofNanos(Math.max(0L, health(endpoint).latencyNanos));
+    }
+
+    /**
+     * @param endpoint one of the endpoints
+     * @return the recent error rate of the attempts against the endpoint, from 0.0 to 1.0
+     * @throws IllegalArgumentException if the endpoint is not one of the endpoints
+     */
+    public double getErrorRate(@Nonnull E endpoint) {
+        return health(endpoint).errorRate(ticker.read(), failurePenaltyNanos);
+    }
+
+    /**
+     * @param endpoint one of the endpoints
+     * @return <code>true</code> if an attempt against the endpoint failed within the failure penalty
+     * @throws IllegalArgumentException if the endpoint is not one of the endpoints
+     */
+    public boolean isDeprioritized(@Nonnull E endpoint) {
+        return health(endpoint).isDeprioritized(ticker.read());
+    }
+
+    private Health health(E endpoint) {
+        return healths.get(indexOf(endpoint)).get();
+    }
+
+    private int indexOf(E endpoint) {
+        checkNotNull(endpoint, "endpoint may not be null");
+        var index = indexes.get(endpoint);
+        checkArgument(index != null, "unknown endpoint: %s", endpoint);
+        return index;
+    }
+
+    /**
+     * A snapshot of the health of an endpoint, replaced as a whole on each attempt so that it is consistent.
+     */
+    @Immutable
+    private static final class Health {
+        private static final long NO_ESTIMATE = -1L;
+
+        private final long latencyNanos;
+        private final double errorRate;
+        private final long updatedAtNanos;
+        private final long deprioritizedUntilNanos;
+
+        private Health(long latencyNanos, double errorRate, long updatedAtNanos, long deprioritizedUntilNanos) {
+            this.latencyNanos = latencyNanos;
+            this.errorRate = errorRate;
+            this.updatedAtNanos = updatedAtNanos;
+            this.deprioritizedUntilNanos = deprioritizedUntilNanos;
+        }
+
+        static Health initial(long nowNanos) {
+            return new Health(NO_ESTIMATE, 0.0, nowNanos, nowNanos);
+        }
+
+        Health record(long attemptLatencyNanos, boolean failed, long nowNanos, long failurePenaltyNanos) {
+            var latency = (latencyNanos == NO_ESTIMATE) ? attemptLatencyNanos :
+                    latencyNanos + Math.round(SMOOTHING_FACTOR * (attemptLatencyNanos - latencyNanos));
+            var currentErrorRate = errorRate(nowNanos, failurePenaltyNanos);
+            var sample = failed ? 1.0 : 0.0;
+            var rate = currentErrorRate + SMOOTHING_FACTOR * (sample - currentErrorRate);
+            var deprioritizedUntil = failed ? nowNanos + failurePenaltyNanos : deprioritizedUntilNanos;
+            return new Health(latency, rate, nowNanos, deprioritizedUntil);
+        }
+
+        /**
+         * Returns the error rate, halved for every failure penalty which has passed since it was last updated.
+         */
+        double errorRate(long nowNanos, long failurePenaltyNanos) {
+            var elapsedNanos = nowNanos - updatedAtNanos;
+            if (errorRate == 0.0 || elapsedNanos <= 0L) {
+                return errorRate;
+            }
+            return errorRate * Math.pow(0.5, (double) elapsedNanos / failurePenaltyNanos);
+        }
+
+        double score(long nowNanos, long failurePenaltyNanos) {
+            return Math.max(0L, latencyNanos) + errorRate(nowNanos, failurePenaltyNanos) * failurePenaltyNanos;
+        }
+
+        boolean isDeprioritized(long nowNanos) {
+            return nowNanos - deprioritizedUntilNanos < 0L;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import com.google.common.base.Preconditions;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A builder used to configure and create a {@link FailoverRetryer}.
+ */
+public class FailoverRetryerBuilder {
+    private static final long DEFAULT_FAILURE_PENALTY_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private long failurePenaltyNanos = DEFAULT_FAILURE_PENALTY_NANOS;
+
+    private FailoverRetryerBuilder() {
+    }
+
+    public static FailoverRetryerBuilder newBuilder() {
+        return new FailoverRetryerBuilder();
+    }
+
+    /**
+     * Sets how long an endpoint is deprioritized after an attempt against it fails, which is also the time it
+     * takes for its error rate to halve. The default is 10 seconds.
+     *
+     * @param duration the failure penalty
+     * @param timeUnit the unit of the duration
+     * @return <code>this</code>
+     * @throws IllegalArgumentException if the duration is &lt;= 0
+     */
+    public FailoverRetryerBuilder withFailurePenalty(long duration, @Nonnull TimeUnit timeUnit) {
+        Preconditions.checkNotNull(timeUnit, "The time unit may not be null");
+        Preconditions.checkArgument(duration > 0L, "duration must be > 0 but is %s", duration);
+        this.failurePenaltyNanos = timeUnit.toNanos(duration);
+        return this;
+    }
+
+    /**
+     * Builds the failover retryer.
+     *
+     * @param endpoints the endpoints to choose from, which must be distinct
+     * @param retryer   the retryer used to make each call
+     * @param <E>       the type of the endpoints
+     * @return the built failover retryer.
+     * @throws IllegalArgumentException if there are no endpoints, or they contain duplicates
+     */
+    public <E> FailoverRetryer<E> build(@Nonnull List<E> endpoints, @Nonnull Retryer retryer) {
+        Preconditions.checkNotNull(endpoints, "endpoints may not be null");
+        Preconditions.checkArgument(!endpoints.isEmpty(), "endpoints may not be empty");
+        Preconditions.checkNotNull(retryer, "retryer may not be null");
+        return new FailoverRetryer<>(endpoints, retryer, failurePenaltyNanos);
+    }
+}
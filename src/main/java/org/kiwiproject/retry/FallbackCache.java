@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Makes calls using a {@link Retryer}, recording the last value each key returned, so that when the retryer gives
+ * up on a later call with the same key, or its circuit breaker is open, the recorded value can be served instead
+ * of failing. This suits read-mostly data, such as configuration or pricing tables, where slightly stale data is
+ * better than none.
+ * <p>
+ * Values are kept for the configured time to live after they are recorded, and values which have not been used
+ * recently are evicted when the maximum size is reached. Time is read from the retryer's ticker. A call which returns
+ * <code>null</code> is returned as a fresh result, but is not recorded.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @see FallbackCacheBuilder
+ */
+@ThreadSafe
+public final class FallbackCache<K, V> {
+
+    private final Retryer retryer;
+    private final Ticker ticker;
+    private final Cache<K, RecordedValue<V>> recordedValues;
+    private final LongAdder staleResultCount = new LongAdder();
+
+    FallbackCache(Retryer retryer, long maximumSize, long timeToLiveNanos) {
+        this.retryer = retryer;
+        this.ticker = retryer.getTicker();
+        this.recordedValues = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLiveNanos, TimeUnit.NANOSECONDS)
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * Calls the given callable using the retryer, recording its value for the key. If the retryer gives up or its
+     * circuit breaker is open, and a value was recorded for the key within the time to live, returns that value
+     * as a stale result rather than throwing.
+     *
+     * @param key      identifies the calls which return the same value
+     * @param callable the callable task to be executed
+     * @return the fresh value returned by the call, or a stale value recorded by an earlier call
+     * @throws RetryException              if the retryer gave up and no value is recorded for the key
+     * @throws CircuitBreakerOpenException if the circuit breaker is open and no value is recorded for the key
+     * @throws InterruptedException        if this thread is interrupted
+     * @see Retryer#call(Callable)
+     */
+    public FallbackResult<V> call(@Nonnull K key, @Nonnull Callable<V> callable)
+            throws RetryException, InterruptedException {
+
+        checkNotNull(key, "key may not be null");
+        checkNotNull(callable, "callable may not be null");
+
+        V value;
+        try {
+            value = retryer.call(callable);
+        } catch (RetryException | CircuitBreakerOpenException e) {
+            var recordedValue = recordedValues.getIfPresent(key);
+            if (recordedValue == null) {
+                throw e;
+            }
+            staleResultCount.increment();
+            return FallbackResult.stale(recordedValue.value, ticker.read() - recordedValue.recordedAtNanos, e);
+        }
+
+        if (value != null) {
+            recordedValues.put(key, new RecordedValue<>(value, ticker.read()));
+        }
+        return FallbackResult.fresh(value);
+    }
+
+    /**
+     * Discards the value recorded for the given key, if any, so that it will not be served as a stale result.
+     *
+     * @param key the key
+     */
+    public void invalidate(@Nonnull K key) {
+        recordedValues.invalidate(checkNotNull(key, "key may not be null"));
+    }
+
+    /**
+     * @return the number of stale results served instead of failing
+     */
+    public long getStaleResultCount() {
+        return staleResultCount.sum();
+    }
+
+    private static final class RecordedValue<V> {
+        private final V value;
+        private final long recordedAtNanos;
+
+        RecordedValue(V value, long recordedAtNanos) {
+            this.value = value;
+            this.recordedAtNanos = recordedAtNanos;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import com.google.common.base.Preconditions;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A builder used to configure and create a {@link FallbackCache}.
+ */
+public class FallbackCacheBuilder {
+    private static final long DEFAULT_MAXIMUM_SIZE = 1_000L;
+
+    private long maximumSize = DEFAULT_MAXIMUM_SIZE;
+    private Long timeToLiveNanos;
+
+    private FallbackCacheBuilder() {
+    }
+
+    public static FallbackCacheBuilder newBuilder() {
+        return new FallbackCacheBuilder();
+    }
+
+    /**
+     * Sets the maximum number of keys for which a value is recorded. When it is reached, values which have not
+     * been used recently are evicted. The default is 1,000.
+     *
+     * @param maximumSize the maximum number of recorded values
+     * @return <code>this</code>
+     * @throws IllegalArgumentException if maximumSize is &lt; 1
+     */
+    public FallbackCacheBuilder withMaximumSize(long maximumSize) {
+        Preconditions.checkArgument(maximumSize >= 1L, "maximumSize must be >= 1 but is %s", maximumSize);
+        this.maximumSize = maximumSize;
+        return this;
+    }
+
+    /**
+     * Sets how long after it was recorded a value may still be served as a stale result. A time to live is
+     * required, since it bounds how stale the data served during an outage can be.
+     *
+     * @param duration the time to live
+     * @param timeUnit the unit of the duration
+     * @return <code>this</code>
+     * @throws IllegalArgumentException if the duration is &lt;= 0
+     * @throws IllegalStateException    if a time to live has already been set.
+     */
+    public FallbackCacheBuilder withTimeToLive(long duration, @Nonnull TimeUnit timeUnit) {
+        Preconditions.checkNotNull(timeUnit, "The time unit may not be null");
+        Preconditions.checkArgument(duration > 0L, "duration must be > 0 but is %s", duration);
+        Preconditions.checkState(timeToLiveNanos == null,
+                "a time to live has already been set: %s ns", timeToLiveNanos);
+        this.timeToLiveNanos = timeUnit.toNanos(duration);
+        return this;
+    }
+
+    /**
+     * Builds the fallback cache.
+     *
+     * @param retryer the retryer used to make each call
+     * @param <K>     the type of the keys
+     * @param <V>     the type of the values
+     * @return the built fallback cache.
+     * @throws IllegalStateException if no time to live has been set
+     */
+    public <K, V> FallbackCache<K, V> build(@Nonnull Retryer retryer) {
+        Preconditions.checkNotNull(retryer, "retryer may not be null");
+        Preconditions.checkState(timeToLiveNanos != null, "a time to live must be set");
+        return new FallbackCache<>(retryer, maximumSize, timeToLiveNanos);
+    }
+}
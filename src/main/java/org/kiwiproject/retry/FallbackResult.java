@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * The result of a call made through a {@link FallbackCache}: either a fresh value returned by the call, or a stale
+ * value recorded by an earlier call, served because the call failed.
+ *
+ * @param <V> the type of the value
+ */
+@Immutable
+public final class FallbackResult<V> {
+
+    private final V value;
+    private final long ageNanos;
+    private final Exception failure;
+
+    private FallbackResult(V value, long ageNanos, Exception failure) {
+        this.value = value;
+        this.ageNanos = ageNanos;
+        this.failure = failure;
+    }
+
+    static <V> FallbackResult<V> fresh(@Nullable V value) {
+        return new FallbackResult<>(value, 0L, null);
+    }
+
+    static <V> FallbackResult<V> stale(V value, long ageNanos, Exception failure) {
+        return new FallbackResult<>(value, ageNanos, failure);
+    }
+
+    /**
+     * @return the value, which is stale if {@link #isStale()} returns <code>true</code>
+     */
+    public V getValue() {
+        return value;
+    }
+
+    /**
+     * @return <code>true</code> if the call failed and the value was recorded by an earlier call
+     */
+    public boolean isStale() {
+        return failure != null;
+    }
+
+    /**
+     * @return the time since a stale value was recorded, or {@link Duration#ZERO} if the value is fresh
+     */
+    public Duration getAge() {
+        return Duration.ofNanos(ageNanos);
+    }
+
+    /**
+     * @return the exception which caused a stale value to be served, or an empty Optional if the value is fresh
+     */
+    public Optional<Exception> getFailure() {
+        return Optional.ofNullable(failure);
+    }
+
+    @Override
+    public String toString() {
+        return isStale() ?
+                "FallbackResult[stale, value=" + value + ", age=" + getAge() + ", failure=" + failure + "]" :
+                "FallbackResult[fresh, value=" + value + "]";
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Makes a single attempt of a {@link Retryer} by racing hedged invocations of the call. An invocation is
+ * started immediately, and whenever the outstanding invocations have not completed after the delay computed
+ * by the {@link HedgingStrategy}, another one is started, up to a maximum number of hedges. The first
+ * invocation to complete successfully wins, and all the others are cancelled.
+ */
+final class Hedger {
+    private final HedgingStrategy hedgingStrategy;
+    private final int maxHedges;
+    private final ExecutorService executor;
+    private final AttemptTimeLimiter attemptTimeLimiter;
+    private final Collection<RetryListener> listeners;
+
+    /**
+     * @param hedgingStrategy    the strategy used to decide how long to wait before starting a hedge
+     * @param maxHedges          the maximum number of hedges started for each attempt
+     * @param executor           the executor used to run the invocations
+     * @param attemptTimeLimiter the time limiter applied to each invocation
+     * @param listeners          the listeners notified when a hedge is started
+     */
+    Hedger(@Nonnull HedgingStrategy hedgingStrategy,
+           int maxHedges,
+           @Nonnull ExecutorService executor,
+           @Nonnull AttemptTimeLimiter attemptTimeLimiter,
+           @Nonnull Collection<RetryListener> listeners) {
+
+        checkNotNull(hedgingStrategy, "hedgingStrategy may not be null");
+        checkArgument(maxHedges >= 1, "maxHedges must be >= 1 but is %s", maxHedges);
+        checkNotNull(executor, "executor may not be null");
+        checkNotNull(attemptTimeLimiter, "attemptTimeLimiter may not be null");
+        checkNotNull(listeners, "listeners may not be null");
+
+        this.hedgingStrategy = hedgingStrategy;
+        this.maxHedges = maxHedges;
+        this.executor = executor;
+        this.attemptTimeLimiter = attemptTimeLimiter;
+        this.listeners = listeners;
+    }
+
+    /**
+     * Makes one attempt of the given callable, hedging it if necessary.
+     *
+     * @param callable      the callable task to be executed
+     * @param attemptNumber the number of the attempt being made
+     * @param deadline      the deadline of the call, or {@code null} if there is none; the time limit of each
+     *                      invocation is reduced to the time remaining when it starts
+     * @param <T>           the return type of the Callable
+     * @return the result of the first invocation to complete successfully
+     * @throws InterruptedException if this thread is interrupted while waiting for the invocations
+     * @throws Exception            the exception thrown by the last invocation to fail, if they all failed
+     */
+    <T> T call(Callable<T> callable, int attemptNumber, @Nullable Deadline deadline) throws Exception {
+        var completionService = new ExecutorCompletionService<T>(executor);
+        List<Future<T>> invocations = new ArrayList<>(maxHedges + 1);
+        var startTimesNanos = new long[maxHedges + 1];
+        Callable<T> limitedCallable = (deadline == null)
+                ? () -> attemptTimeLimiter.call(callable)
+                : () -> attemptTimeLimiter.call(callable, deadline.getRemainingNanos());
+
+        try {
+            startTimesNanos[0] = System.nanoTime();
+            invocations.add(completionService.submit(limitedCallable));
+
+            Exception lastFailure = null;
+            var outstanding = 1;
+            while (outstanding > 0) {
+                var hedgeNumber = invocations.size();
+                Future<T> completed;
+                if (hedgeNumber <= maxHedges) {
+                    var delay = hedgingStrategy.computeHedgeDelay(attemptNumber, hedgeNumber);
+                    completed = completionService.poll(delay, TimeUnit.MILLISECONDS);
+                    if (completed == null) {
+                        startTimesNanos[hedgeNumber] = System.nanoTime();
+                        invocations.add(completionService.submit(limitedCallable));
+                        outstanding++;
+                        listeners.forEach(listener -> safeInvokeListener(listener, attemptNumber, hedgeNumber));
+                        continue;
+                    }
+                } else {
+                    completed = completionService.take();
+                }
+
+                outstanding--;
+                try {
+                    var result = completed.get();
+                    var startTimeNanos = startTimesNanos[invocations.indexOf(completed)];
+                    hedgingStrategy.recordLatency(System.nanoTime() - startTimeNanos);
+                    return result;
+                } catch (ExecutionException e) {
+                    lastFailure = unwrap(e);
+                }
+            }
+
+            throw lastFailure;
+        } finally {
+            invocations.forEach(invocation -> invocation.cancel(true));
+        }
+    }
+
+    private static Exception unwrap(ExecutionException e) {
+        var cause = e.getCause();
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return cause instanceof Exception ? (Exception) cause : e;
+    }
+
+    private static void safeInvokeListener(RetryListener listener, int attemptNumber, int hedgeNumber) {
+        try {
+            listener.onHedge(attemptNumber, hedgeNumber);
+        } catch (Exception exception) {
+            // intentionally ignored per the API Note in RetryListener#onHedge
+        }
+    }
+}
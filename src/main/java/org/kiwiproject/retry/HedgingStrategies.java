@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import com.google.common.base.Preconditions;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Factory class for instances of {@link HedgingStrategy}.
+ */
+public final class HedgingStrategies {
+
+    private static final int DEFAULT_SAMPLE_SIZE = 1_000;
+
+    private HedgingStrategies() {
+    }
+
+    /**
+     * Returns a strategy that starts a hedge after a fixed delay.
+     *
+     * @param delay    the time to wait before starting each hedge
+     * @param timeUnit the unit of the delay
+     * @return a hedging strategy with a fixed delay
+     * @throws IllegalArgumentException if the delay is &lt; 0
+     */
+    public static HedgingStrategy fixedDelay(long delay, @Nonnull TimeUnit timeUnit) {
+        Preconditions.checkNotNull(timeUnit, "The time unit may not be null");
+        return new FixedDelayHedgingStrategy(timeUnit.toMillis(delay));
+    }
+
+    /**
+     * Returns a strategy that starts a hedge once an attempt has been outstanding for longer than the
+     * given percentile of the latencies of the most recent successful invocations. For example, a percentile
+     * of 95 means that approximately one in twenty attempts will be hedged.
+     * <p>
+     * The {@code initialDelay} is used until enough latencies have been recorded to compute the percentile.
+     *
+     * @param percentile       the latency percentile, greater than 0 and less than 100
+     * @param initialDelay     the delay to use before enough latencies have been recorded
+     * @param initialDelayUnit the unit of the initial delay
+     * @return a hedging strategy whose delay adapts to the observed latency
+     * @throws IllegalArgumentException if the percentile is not between 0 and 100, or if the initial delay is &lt; 0
+     */
+    public static HedgingStrategy latencyPercentile(double percentile,
+                                                    long initialDelay,
+                                                    @Nonnull TimeUnit initialDelayUnit) {
+        Preconditions.checkNotNull(initialDelayUnit, "The initial delay time unit may not be null");
+        return new LatencyPercentileHedgingStrategy(percentile, initialDelayUnit.toMillis(initialDelay),
+                DEFAULT_SAMPLE_SIZE);
+    }
+
+    @Immutable
+    private static final class FixedDelayHedgingStrategy implements HedgingStrategy {
+        private final long delay;
+
+        FixedDelayHedgingStrategy(long delay) {
+            Preconditions.checkArgument(delay >= 0L, "delay must be >= 0 but is %s", delay);
+            this.delay = delay;
+        }
+
+        @Override
+        public long computeHedgeDelay(int attemptNumber, int hedgeNumber) {
+            return delay;
+        }
+    }
+
+    /**
+     * Keeps the most recent latencies in a ring buffer, and periodically recomputes the percentile from
+     * them, so that computing the hedge delay is a single volatile read.
+     */
+    @ThreadSafe
+    static final class LatencyPercentileHedgingStrategy implements HedgingStrategy {
+        private static final int RECOMPUTE_INTERVAL = 16;
+
+        private final double percentile;
+        private final AtomicLongArray latencies;
+        private final AtomicLong recorded = new AtomicLong();
+        private volatile long delay;
+
+        LatencyPercentileHedgingStrategy(double percentile, long initialDelay, int sampleSize) {
+            Preconditions.checkArgument(percentile > 0.0 && percentile < 100.0,
+                    "percentile must be > 0 and < 100 but is %s", percentile);
+            Preconditions.checkArgument(initialDelay >= 0L, "initialDelay must be >= 0 but is %s", initialDelay);
+            Preconditions.checkArgument(sampleSize >= RECOMPUTE_INTERVAL,
+                    "sampleSize must be >= %s but is %s", RECOMPUTE_INTERVAL, sampleSize);
+            this.percentile = percentile;
+            this.latencies = new AtomicLongArray(sampleSize);
+            this.delay = initialDelay;
+        }
+
+        @Override
+        public long computeHedgeDelay(int attemptNumber, int hedgeNumber) {
+            return delay;
+        }
+
+        @Override
+        public void recordLatency(long latencyNanos) {
+            var count = recorded.incrementAndGet();
+            latencies.lazySet((int) ((count - 1) % latencies.length()), latencyNanos);
+            if (count % RECOMPUTE_INTERVAL == 0) {
+                delay = computePercentileMillis((int) Math.min(count, latencies.length()));
+            }
+        }
+
+        private long computePercentileMillis(int size) {
+            var samples = new long[size];
+            for (var i = 0; i < size; i++) {
+                samples[i] = latencies.get(i);
+            }
+            Arrays.sort(samples);
+            var index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+            return TimeUnit.NANOSECONDS.toMillis(samples[Math.max(index, 0)]);
+        }
+    }
+}
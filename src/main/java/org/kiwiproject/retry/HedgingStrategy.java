@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+/**
+ * A strategy used to decide how long to wait for an attempt to complete before starting a parallel
+ * (hedged) invocation of the same call.
+ */
+public interface HedgingStrategy {
+
+    /**
+     * Returns the time, in milliseconds, to wait for the outstanding invocations of an attempt before
+     * starting another one.
+     *
+     * @param attemptNumber the number of the attempt being hedged
+     * @param hedgeNumber   the number, starting from 1, of the hedge which will be started after the delay
+     * @return the delay before starting the hedge
+     */
+    long computeHedgeDelay(int attemptNumber, int hedgeNumber);
+
+    /**
+     * Records the latency of an invocation which completed successfully. Strategies which adapt
+     * to the observed latency can use this to compute future hedge delays. The default implementation
+     * does nothing.
+     *
+     * @param latencyNanos the latency of the invocation, in nanoseconds
+     */
+    default void recordLatency(long latencyNanos) {
+        // no-op by default
+    }
+}
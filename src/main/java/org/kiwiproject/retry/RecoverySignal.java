@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A shared signal that a dependency has recovered, which wakes every thread blocked in a
+ * {@link BlockStrategies#signalAware(RecoverySignal) signal-aware} block strategy, so that retries resume as soon
+ * as the dependency is available again rather than when each thread's backoff happens to expire.
+ * <p>
+ * A signal is typically shared by all the retryers calling the same dependency. Raise it with
+ * {@link #signalRecovered()}, for example from a health checker, or set it on a retryer with
+ * {@link RetryerBuilder#withRecoverySignal(RecoverySignal)} so that the first call which succeeds wakes every other
+ * thread backing off.
+ * <p>
+ * Each signal wakes the threads which are blocked at that moment; it is not remembered, so a thread which
+ * starts blocking afterwards waits for its full sleep time or until the next signal. Signalling when no thread
+ * is blocked costs a single volatile read.
+ */
+@ThreadSafe
+public final class RecoverySignal {
+
+    private final AtomicInteger waiterCount = new AtomicInteger();
+    private final AtomicReference<CountDownLatch> generation = new AtomicReference<>(new CountDownLatch(1));
+
+    /**
+     * Wakes every thread which is currently blocked waiting for this signal.
+     */
+    public void signalRecovered() {
+        if (waiterCount.get() == 0) {
+            return;
+        }
+        generation.getAndSet(new CountDownLatch(1)).countDown();
+    }
+
+    /**
+     * @return the number of threads currently blocked waiting for this signal
+     */
+    public int getWaiterCount() {
+        return waiterCount.get();
+    }
+
+    /**
+     * Blocks until this signal is raised or the given time has elapsed.
+     *
+     * @param timeoutNanos the maximum time to wait, in nanoseconds
+     * @return <code>true</code> if the signal was raised, <code>false</code> if the time elapsed
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    boolean awaitNanos(long timeoutNanos) throws InterruptedException {
+        waiterCount.incrementAndGet();
+        try {
+            return generation.get().await(timeoutNanos, TimeUnit.NANOSECONDS);
+        } finally {
+            waiterCount.decrementAndGet();
+        }
+    }
+}
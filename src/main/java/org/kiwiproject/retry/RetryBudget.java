@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+/**
+ * A budget which limits how many retries may be made, and which can be shared by many retryers so that
+ * they do not multiply the load on a struggling service. Implementations must be thread-safe.
+ */
+public interface RetryBudget {
+
+    /**
+     * Attempts to withdraw from the budget in order to make a retry.
+     *
+     * @return <code>true</code> if the retry may be made, <code>false</code> if the budget is exhausted
+     */
+    boolean tryAcquireRetry();
+
+    /**
+     * Records a call which completed successfully, which may deposit into the budget.
+     */
+    void recordSuccess();
+}
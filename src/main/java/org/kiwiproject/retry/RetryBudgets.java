@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import com.google.common.base.Preconditions;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Factory class for instances of {@link RetryBudget}.
+ */
+public final class RetryBudgets {
+
+    private static final RetryBudget UNLIMITED = new UnlimitedRetryBudget();
+
+    private RetryBudgets() {
+    }
+
+    /**
+     * Returns a retry budget which never refuses a retry.
+     *
+     * @return an unlimited retry budget
+     */
+    public static RetryBudget unlimited() {
+        return UNLIMITED;
+    }
+
+    /**
+     * Returns a retry budget backed by a token bucket, similar to gRPC retry throttling. The bucket starts
+     * full with {@code maxTokens} tokens. Each retry withdraws one token, and each successful call deposits
+     * {@code tokenRatio} tokens, up to {@code maxTokens}. Retries are refused while there is less than one
+     * token in the bucket.
+     * <p>
+     * For example, with a token ratio of 0.1, once the bucket is empty one retry is allowed for every ten
+     * successful calls, so retries can add at most 10% to the load on the called service.
+     *
+     * @param maxTokens  the capacity of the bucket
+     * @param tokenRatio the number of tokens deposited by each successful call
+     * @return a token bucket retry budget
+     * @throws IllegalArgumentException if maxTokens is &lt; 1 or tokenRatio is not &gt; 0
+     */
+    public static RetryBudget tokenBucket(int maxTokens, double tokenRatio) {
+        return new TokenBucketRetryBudget(maxTokens, tokenRatio);
+    }
+
+    @Immutable
+    private static final class UnlimitedRetryBudget implements RetryBudget {
+
+        @Override
+        public boolean tryAcquireRetry() {
+            return true;
+        }
+
+        @Override
+        public void recordSuccess() {
+            // nothing to record
+        }
+    }
+
+    /**
+     * Tokens are tracked in thousandths, so that fractional token ratios can be deposited into a single
+     * {@link AtomicLong}, which is updated using compare-and-set loops rather than locks.
+     */
+    @ThreadSafe
+    static final class TokenBucketRetryBudget implements RetryBudget {
+        private static final long ONE_TOKEN = 1_000L;
+
+        private final long maxTokens;
+        private final long deposit;
+        private final AtomicLong tokens;
+
+        TokenBucketRetryBudget(int maxTokens, double tokenRatio) {
+            Preconditions.checkArgument(maxTokens >= 1, "maxTokens must be >= 1 but is %s", maxTokens);
+            Preconditions.checkArgument(tokenRatio > 0.0, "tokenRatio must be > 0 but is %s", tokenRatio);
+            this.maxTokens = maxTokens * ONE_TOKEN;
+            this.deposit = Math.max(1L, Math.round(tokenRatio * ONE_TOKEN));
+            this.tokens = new AtomicLong(this.maxTokens);
+        }
+
+        @Override
+        public boolean tryAcquireRetry() {
+            while (true) {
+                var current = tokens.get();
+                if (current < ONE_TOKEN) {
+                    return false;
+                }
+                if (tokens.compareAndSet(current, current - ONE_TOKEN)) {
+                    return true;
+                }
+            }
+        }
+
+        @Override
+        public void recordSuccess() {
+            while (true) {
+                var current = tokens.get();
+                if (current >= maxTokens || tokens.compareAndSet(current, Math.min(maxTokens, current + deposit))) {
+                    return;
+                }
+            }
+        }
+
+        double getAvailableTokens() {
+            return (double) tokens.get() / ONE_TOKEN;
+        }
+    }
+}
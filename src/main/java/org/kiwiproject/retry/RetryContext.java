@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import com.google.common.base.Preconditions;
+
+import javax.annotation.concurrent.NotThreadSafe;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The state of a single invocation of a {@link Retryer}, such as the time taken by each attempt and the time
+ * slept between attempts. It is passed to a {@link ContextualWaitStrategy} or {@link ContextualStopStrategy},
+ * allowing them to make decisions based on the history of the invocation rather than only the latest attempt.
+ * <p>
+ * A {@link Retryer} only creates a context if its wait or stop strategy is contextual, so strategies that do not
+ * need one add no overhead. A context is confined to the invocation it belongs to and must not be retained.
+ * <p>
+ * So that an invocation which retries indefinitely uses constant memory, the durations of only the most recent
+ * {@link #ATTEMPT_DURATION_WINDOW} attempts are kept; the total duration covers every attempt.
+ */
+@NotThreadSafe
+public final class RetryContext {
+
+    /**
+     * The number of most recent attempts whose durations are kept.
+     */
+    public static final int ATTEMPT_DURATION_WINDOW = 32;
+
+    private final long[] attemptDurationsNanos = new long[ATTEMPT_DURATION_WINDOW];
+    private int attemptCount;
+    private long totalAttemptDurationNanos;
+    private long previousSleepTimeNanos;
+    private long totalSleepTimeNanos;
+    private long totalBlockedTimeNanos;
+    private long nextSleepTimeNanos;
+
+    RetryContext() {
+    }
+
+    /**
+     * Records the duration of the next attempt.
+     *
+     * @param durationNanos how long the attempt took, in nanoseconds
+     */
+    void recordAttempt(long durationNanos) {
+        attemptDurationsNanos[attemptCount % ATTEMPT_DURATION_WINDOW] = durationNanos;
+        attemptCount++;
+        totalAttemptDurationNanos += durationNanos;
+    }
+
+    /**
+     * Records a sleep between attempts.
+     *
+     * @param sleepTimeNanos the sleep time computed by the wait strategy, in nanoseconds
+     * @param blockedNanos   how long the retryer actually waited, in nanoseconds
+     */
+    void recordSleep(long sleepTimeNanos, long blockedNanos) {
+        previousSleepTimeNanos = sleepTimeNanos;
+        totalSleepTimeNanos += sleepTimeNanos;
+        totalBlockedTimeNanos += blockedNanos;
+    }
+
+    /**
+     * Records the sleep time computed before the next attempt, before the stop strategy decides whether to make it.
+     *
+     * @param sleepTimeNanos the sleep time computed by the wait strategy, in nanoseconds
+     */
+    void recordNextSleep(long sleepTimeNanos) {
+        nextSleepTimeNanos = sleepTimeNanos;
+    }
+
+    /**
+     * @return the number of attempts made so far, including the latest one
+     */
+    public int getAttemptCount() {
+        return attemptCount;
+    }
+
+    /**
+     * Returns how long the given attempt took, from when it was started until it returned or threw. Only the
+     * durations of the most recent {@link #ATTEMPT_DURATION_WINDOW} attempts are available.
+     *
+     * @param attemptNumber the attempt number, starting at 1
+     * @return the duration of the attempt in nanoseconds
+     * @throws IllegalArgumentException if no attempt with the given number has been made, or if it is no longer
+     *                                  among the most recent attempts
+     */
+    public long getAttemptDurationNanos(int attemptNumber) {
+        var oldestAttemptNumber = Math.max(1, attemptCount - ATTEMPT_DURATION_WINDOW + 1);
+        Preconditions.checkArgument(attemptNumber >= oldestAttemptNumber && attemptNumber <= attemptCount,
+                "attemptNumber must be between %s and %s but is %s", oldestAttemptNumber, attemptCount, attemptNumber);
+        return attemptDurationsNanos[(attemptNumber - 1) % ATTEMPT_DURATION_WINDOW];
+    }
+
+    /**
+     * @return the duration of the latest attempt in nanoseconds, or zero if no attempt has been made
+     */
+    public long getLastAttemptDurationNanos() {
+        return attemptCount == 0 ? 0L : attemptDurationsNanos[(attemptCount - 1) % ATTEMPT_DURATION_WINDOW];
+    }
+
+    /**
+     * @return the sum of the durations of all attempts made so far, in nanoseconds
+     */
+    public long getTotalAttemptDurationNanos() {
+        return totalAttemptDurationNanos;
+    }
+
+    /**
+     * @return the sleep time computed before the latest attempt, in milliseconds, or zero if there has not been
+     * a sleep yet
+     */
+    public long getPreviousSleepTime() {
+        return TimeUnit.NANOSECONDS.toMillis(previousSleepTimeNanos);
+    }
+
+    /**
+     * @return the sleep time computed before the latest attempt, in nanoseconds, or zero if there has not been
+     * a sleep yet
+     */
+    public long getPreviousSleepTimeNanos() {
+        return previousSleepTimeNanos;
+    }
+
+    /**
+     * @return the sum of all sleep times computed so far, in milliseconds
+     */
+    public long getTotalSleepTime() {
+        return TimeUnit.NANOSECONDS.toMillis(totalSleepTimeNanos);
+    }
+
+    /**
+     * @return the sum of all sleep times computed so far, in nanoseconds
+     */
+    public long getTotalSleepTimeNanos() {
+        return totalSleepTimeNanos;
+    }
+
+    /**
+     * Returns the sleep time the wait strategy computed before the next attempt. This is available to a
+     * {@link ContextualStopStrategy}, which is consulted after the sleep time is computed, so that it can take
+     * the wait into account when deciding whether to make the next attempt.
+     *
+     * @return the sleep time before the next attempt, in nanoseconds, or zero if none has been computed
+     */
+    public long getNextSleepTimeNanos() {
+        return nextSleepTimeNanos;
+    }
+
+    /**
+     * @return the total time spent waiting between attempts so far, in nanoseconds, as actually measured
+     */
+    public long getTotalBlockedTimeNanos() {
+        return totalBlockedTimeNanos;
+    }
+}
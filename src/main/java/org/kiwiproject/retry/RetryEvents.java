@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import javax.annotation.Nullable;
+
+/**
+ * Emits Java Flight Recorder events for the attempts, backoff sleeps, and exhaustion of a {@link Retryer}, so that
+ * time spent retrying appears as such in JFR recordings instead of only as {@link Thread#sleep} or user code.
+ * <p>
+ * Each method first checks whether its event type is enabled, which is a read of a field, and does nothing (and
+ * allocates nothing) when it is not. If the {@code jdk.jfr} module is not present, events are never enabled.
+ */
+final class RetryEvents {
+
+    private static final boolean JFR_AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    private RetryEvents() {
+        // utility class
+    }
+
+    /**
+     * Begins timing an attempt.
+     *
+     * @return the event, which must be passed to {@link #endAttempt}, or {@code null} if the event is disabled
+     */
+    @Nullable
+    static Object beginAttempt(int attemptNumber) {
+        return JFR_AVAILABLE ? Emitter.beginAttempt(attemptNumber) : null;
+    }
+
+    /**
+     * Ends timing an attempt and commits its event.
+     *
+     * @param event     the event returned by {@link #beginAttempt}, may be {@code null}
+     * @param exception the exception thrown by the attempt, or {@code null} if it returned a result
+     */
+    static void endAttempt(@Nullable Object event, @Nullable Throwable exception) {
+        if (event != null) {
+            Emitter.endAttempt(event, exception);
+        }
+    }
+
+    /**
+     * Begins timing a backoff between attempts.
+     *
+     * @return the event, which must be passed to {@link #endBackoff}, or {@code null} if the event is disabled
+     */
+    @Nullable
+    static Object beginBackoff(int attemptNumber, long sleepTimeNanos) {
+        return JFR_AVAILABLE ? Emitter.beginBackoff(attemptNumber, sleepTimeNanos) : null;
+    }
+
+    /**
+     * Ends timing a backoff and commits its event.
+     *
+     * @param event the event returned by {@link #beginBackoff}, may be {@code null}
+     */
+    static void endBackoff(@Nullable Object event) {
+        if (event != null) {
+            Emitter.endBackoff(event);
+        }
+    }
+
+    /**
+     * Commits an event recording that an invocation gave up retrying.
+     *
+     * @param lastAttempt the last attempt made
+     * @param reason      why no further attempt was allowed
+     */
+    static void exhausted(Attempt<?> lastAttempt, String reason) {
+        if (JFR_AVAILABLE) {
+            Emitter.exhausted(lastAttempt, reason);
+        }
+    }
+
+    /**
+     * Contains all references to JFR types, so that they are only loaded if JFR is available.
+     */
+    private static final class Emitter {
+        private static final EventType ATTEMPT = EventType.getEventType(AttemptEvent.class);
+        private static final EventType BACKOFF = EventType.getEventType(BackoffEvent.class);
+        private static final EventType EXHAUSTED = EventType.getEventType(RetryExhaustedEvent.class);
+
+        static Object beginAttempt(int attemptNumber) {
+            if (!ATTEMPT.isEnabled()) {
+                return null;
+            }
+            var event = new AttemptEvent();
+            event.attemptNumber = attemptNumber;
+            event.begin();
+            return event;
+        }
+
+        static void endAttempt(Object event, Throwable exception) {
+            var attemptEvent = (AttemptEvent) event;
+            attemptEvent.end();
+            if (attemptEvent.shouldCommit()) {
+                attemptEvent.outcome = (exception == null) ? "result" : "exception";
+                attemptEvent.exceptionClass = (exception == null) ? null : exception.getClass();
+                attemptEvent.commit();
+            }
+        }
+
+        static Object beginBackoff(int attemptNumber, long sleepTimeNanos) {
+            if (!BACKOFF.isEnabled()) {
+                return null;
+            }
+            var event = new BackoffEvent();
+            event.attemptNumber = attemptNumber;
+            event.sleepTime = sleepTimeNanos;
+            event.begin();
+            return event;
+        }
+
+        static void endBackoff(Object event) {
+            ((BackoffEvent) event).commit();
+        }
+
+        static void exhausted(Attempt<?> lastAttempt, String reason) {
+            if (!EXHAUSTED.isEnabled()) {
+                return;
+            }
+            var event = new RetryExhaustedEvent();
+            event.attemptNumber = lastAttempt.getAttemptNumber();
+            event.delaySinceFirstAttempt = lastAttempt.getDelaySinceFirstAttemptNanos();
+            event.exceptionClass = lastAttempt.hasException() ? lastAttempt.getException().getClass() : null;
+            event.reason = reason;
+            event.commit();
+        }
+    }
+
+    @Name(AttemptEvent.NAME)
+    @Label("Retry Attempt")
+    @Category({ "Kiwi", "Retry" })
+    @Description("An attempt made by a Retryer, from when it started until it returned or threw")
+    @StackTrace(false)
+    static final class AttemptEvent extends Event {
+        static final String NAME = "org.kiwiproject.retry.Attempt";
+
+        @Label("Attempt Number")
+        int attemptNumber;
+
+        @Label("Outcome")
+        @Description("Whether the attempt returned a result or threw an exception")
+        String outcome;
+
+        @Label("Exception Class")
+        Class<?> exceptionClass;
+    }
+
+    @Name(BackoffEvent.NAME)
+    @Label("Retry Backoff")
+    @Category({ "Kiwi", "Retry" })
+    @Description("A Retryer blocking between attempts; the duration is the time actually blocked")
+    @StackTrace(false)
+    static final class BackoffEvent extends Event {
+        static final String NAME = "org.kiwiproject.retry.Backoff";
+
+        @Label("Failed Attempt Number")
+        int attemptNumber;
+
+        @Label("Computed Sleep Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long sleepTime;
+    }
+
+    @Name(RetryExhaustedEvent.NAME)
+    @Label("Retry Exhausted")
+    @Category({ "Kiwi", "Retry" })
+    @Description("A Retryer gave up because no further attempt was allowed")
+    static final class RetryExhaustedEvent extends Event {
+        static final String NAME = "org.kiwiproject.retry.Exhausted";
+
+        @Label("Attempts")
+        int attemptNumber;
+
+        @Label("Delay Since First Attempt")
+        @Timespan(Timespan.NANOSECONDS)
+        long delaySinceFirstAttempt;
+
+        @Label("Last Exception Class")
+        Class<?> exceptionClass;
+
+        @Label("Reason")
+        String reason;
+    }
+}
@@ -33,4 +33,18 @@ public interface RetryListener {
      * implementation, it will be silently ignored so that it does not halt processing of a {@link Retryer}.
      */
     void onRetry(Attempt<?> attempt);
+
+    /**
+     * This method will fire each time a hedged invocation is started because the outstanding invocations
+     * of an attempt did not complete within the delay computed by the {@link HedgingStrategy}. The default
+     * implementation does nothing.
+     *
+     * @param attemptNumber the number of the attempt being hedged
+     * @param hedgeNumber   the number, starting from 1, of the hedge which was started
+     * @apiNote No exceptions should be thrown from this method. But, if an exception is thrown by an
+     * implementation, it will be silently ignored so that it does not halt processing of a {@link Retryer}.
+     */
+    default void onHedge(int attemptNumber, int hedgeNumber) {
+        // no-op by default
+    }
 }
@@ -0,0 +1,393 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Ticker;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Simulates many clients calling a backend of limited capacity through a {@link Retryer}, to compare how retry
+ * policies behave when the backend is overloaded or recovering from an outage.
+ * <p>
+ * The simulation runs in virtual time on the calling thread, so simulating thousands of clients for minutes
+ * takes seconds. Each client starts a call once per request interval until the simulated duration has passed.
+ * The clients are spread evenly over the interval. Calls are made using
+ * {@link Retryer#retryStage(java.util.function.Supplier, java.util.concurrent.ScheduledExecutorService)}, with
+ * attempts and the waits between them scheduled in virtual time. The retryer must therefore be built with the
+ * {@link #ticker() ticker} of the simulation, as must any circuit breaker it uses. The retryer's
+ * {@link AttemptTimeLimiter} and {@link BlockStrategy} are not used.
+ * <p>
+ * Each attempt takes the configured latency, after which it either succeeds or fails with a
+ * {@link RejectedExecutionException}. The backend serves attempts in buckets of 100 milliseconds. The share of
+ * a bucket's capacity which an attempt would use, counting the attempts before it in the same bucket, is passed
+ * to the failure curve, which returns the probability that the attempt fails. During the outage, if there is one,
+ * every attempt fails. After it, the capacity grows linearly back to normal over the recovery time.
+ * <p>
+ * The backend draws from a {@link Random} with a fixed seed, so running the same policy twice gives the same
+ * report, unless the wait strategy is itself randomized.
+ *
+ * @see RetryStormSimulationBuilder
+ */
+@NotThreadSafe
+public final class RetryStormSimulation {
+
+    private static final long BUCKET_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final double HEALTHY_FAILURE_RATE = 0.01;
+    private static final RejectedExecutionException REJECTED =
+            new RejectedExecutionException("The simulated backend rejected the attempt");
+
+    private final int clients;
+    private final long requestIntervalNanos;
+    private final long durationNanos;
+    private final double capacityPerBucket;
+    private final DoubleUnaryOperator failureCurve;
+    private final long latencyNanos;
+    private final long outageStartNanos;
+    private final long outageDurationNanos;
+    private final long recoveryTimeNanos;
+    private final long seed;
+    private final VirtualTimeScheduler scheduler = new VirtualTimeScheduler();
+
+    RetryStormSimulation(int clients,
+                         long requestIntervalNanos,
+                         long durationNanos,
+                         int capacityPerSecond,
+                         DoubleUnaryOperator failureCurve,
+                         long latencyNanos,
+                         long outageStartNanos,
+                         long outageDurationNanos,
+                         long recoveryTimeNanos,
+                         long seed) {
+        this.clients = clients;
+        this.requestIntervalNanos = requestIntervalNanos;
+        this.durationNanos = durationNanos;
+        this.capacityPerBucket = capacityPerSecond * ((double) BUCKET_NANOS / TimeUnit.SECONDS.toNanos(1));
+        this.failureCurve = failureCurve;
+        this.latencyNanos = latencyNanos;
+        this.outageStartNanos = outageStartNanos;
+        this.outageDurationNanos = outageDurationNanos;
+        this.recoveryTimeNanos = recoveryTimeNanos;
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the ticker which reads the virtual time of this simulation. It must be given to
+     * {@link RetryerBuilder#withTicker(Ticker)} when building the retryers to simulate.
+     *
+     * @return the virtual time ticker
+     */
+    public Ticker ticker() {
+        return scheduler.ticker();
+    }
+
+    /**
+     * Runs the simulation using the given retryer. Clients stop starting calls once the duration has passed,
+     * and calls which have not finished when the duration has passed a second time are counted as unfinished.
+     * <p>
+     * The retryer keeps its state, such as its retry budget and metrics, between runs, so a new retryer
+     * should be built for each run.
+     *
+     * @param retryer the retryer to simulate, built with the {@link #ticker() ticker} of this simulation
+     * @return the report of the run
+     * @throws IllegalArgumentException if the retryer does not use the ticker of this simulation
+     */
+    public Report run(@Nonnull Retryer retryer) {
+        checkNotNull(retryer, "retryer may not be null");
+        checkArgument(retryer.getTicker() == scheduler.ticker(),
+                "retryer must be built using the ticker of this simulation");
+
+        scheduler.reset();
+        var run = new Run(retryer);
+        run.start();
+        scheduler.runUntil(2 * durationNanos);
+        return run.report();
+    }
+
+    /**
+     * The state of a single run. Everything happens on the thread running the scheduler.
+     */
+    private final class Run {
+        private final Retryer retryer;
+        private final Random random = new Random(seed);
+        private final int[] attemptsPerBucket;
+        private final int[] failedAttemptsPerBucket;
+        private long[] callLatenciesNanos = new long[1024];
+        private int calls;
+        private int finishedCalls;
+        private int successfulCalls;
+        private long attempts;
+        private long failedAttempts;
+
+        Run(Retryer retryer) {
+            this.retryer = retryer;
+            var buckets = (int) (2 * durationNanos / BUCKET_NANOS) + 1;
+            this.attemptsPerBucket = new int[buckets];
+            this.failedAttemptsPerBucket = new int[buckets];
+        }
+
+        void start() {
+            for (var client = 0; client < clients; client++) {
+                var offsetNanos = requestIntervalNanos * client / clients;
+                scheduler.schedule(this::startCall, offsetNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private void startCall() {
+            var startTimeNanos = scheduler.ticker().read();
+            if (startTimeNanos + requestIntervalNanos < durationNanos) {
+                scheduler.schedule(this::startCall, requestIntervalNanos, TimeUnit.NANOSECONDS);
+            }
+
+            calls++;
+            retryer.retryStage(this::attempt, scheduler)
+                    .whenComplete((result, throwable) -> finishCall(startTimeNanos, throwable == null));
+        }
+
+        private CompletableFuture<Boolean> attempt() {
+            var nowNanos = scheduler.ticker().read();
+            var bucket = (int) (nowNanos / BUCKET_NANOS);
+            var attemptsInBucket = ++attemptsPerBucket[bucket];
+            attempts++;
+
+            var outcome = new CompletableFuture<Boolean>();
+            if (isRejected(nowNanos, attemptsInBucket)) {
+                failedAttemptsPerBucket[bucket]++;
+                failedAttempts++;
+                scheduler.schedule(() -> outcome.completeExceptionally(REJECTED), latencyNanos, TimeUnit.NANOSECONDS);
+            } else {
+                scheduler.schedule(() -> outcome.complete(true), latencyNanos, TimeUnit.NANOSECONDS);
+            }
+            return outcome;
+        }
+
+        private boolean isRejected(long nowNanos, int attemptsInBucket) {
+            var capacity = capacityPerBucket * availability(nowNanos);
+            if (capacity <= 0.0) {
+                return true;
+            }
+            var failureProbability = failureCurve.applyAsDouble(attemptsInBucket / capacity);
+            return failureProbability > 0.0 && random.nextDouble() < failureProbability;
+        }
+
+        private void finishCall(long startTimeNanos, boolean successful) {
+            if (finishedCalls == callLatenciesNanos.length) {
+                callLatenciesNanos = Arrays.copyOf(callLatenciesNanos, finishedCalls * 2);
+            }
+            callLatenciesNanos[finishedCalls++] = scheduler.ticker().read() - startTimeNanos;
+            if (successful) {
+                successfulCalls++;
+            }
+        }
+
+        Report report() {
+            var latenciesNanos = Arrays.copyOf(callLatenciesNanos, finishedCalls);
+            Arrays.sort(latenciesNanos);
+            return new Report(calls, successfulCalls, finishedCalls, attempts, failedAttempts,
+                    timeToRecoveryNanos(), latenciesNanos);
+        }
+
+        /**
+         * Finds the end of the last bucket, while the clients were still starting calls, in which more attempts
+         * failed than a healthy backend would fail. Returns -1 if the backend was still unhealthy at the end.
+         */
+        private long timeToRecoveryNanos() {
+            var recoveryStartNanos = outageStartNanos + outageDurationNanos;
+            var firstBucket = (int) (recoveryStartNanos / BUCKET_NANOS);
+            var endBucket = (int) (durationNanos / BUCKET_NANOS);
+            var lastUnhealthyBucket = -1;
+            for (var bucket = firstBucket; bucket < endBucket; bucket++) {
+                if (failedAttemptsPerBucket[bucket] > HEALTHY_FAILURE_RATE * attemptsPerBucket[bucket]) {
+                    lastUnhealthyBucket = bucket;
+                }
+            }
+
+            if (lastUnhealthyBucket == -1) {
+                return 0L;
+            } else if (lastUnhealthyBucket == endBucket - 1) {
+                return -1L;
+            }
+            return Math.max(0L, (lastUnhealthyBucket + 1) * BUCKET_NANOS - recoveryStartNanos);
+        }
+    }
+
+    /**
+     * Returns the share of the normal capacity available at the given time.
+     */
+    private double availability(long nowNanos) {
+        var recoveryStartNanos = outageStartNanos + outageDurationNanos;
+        if (outageDurationNanos == 0L || nowNanos < outageStartNanos) {
+            return 1.0;
+        } else if (nowNanos < recoveryStartNanos) {
+            return 0.0;
+        } else if (nowNanos < recoveryStartNanos + recoveryTimeNanos) {
+            return (double) (nowNanos - recoveryStartNanos) / recoveryTimeNanos;
+        }
+        return 1.0;
+    }
+
+    /**
+     * The outcome of running a {@link RetryStormSimulation} with one retry policy.
+     */
+    @Immutable
+    public static final class Report {
+        private final int calls;
+        private final int successfulCalls;
+        private final int finishedCalls;
+        private final long attempts;
+        private final long failedAttempts;
+        private final long timeToRecoveryNanos;
+        private final long[] sortedLatenciesNanos;
+
+        Report(int calls,
+               int successfulCalls,
+               int finishedCalls,
+               long attempts,
+               long failedAttempts,
+               long timeToRecoveryNanos,
+               long[] sortedLatenciesNanos) {
+            this.calls = calls;
+            this.successfulCalls = successfulCalls;
+            this.finishedCalls = finishedCalls;
+            this.attempts = attempts;
+            this.failedAttempts = failedAttempts;
+            this.timeToRecoveryNanos = timeToRecoveryNanos;
+            this.sortedLatenciesNanos = sortedLatenciesNanos;
+        }
+
+        /**
+         * @return the number of calls started by the clients
+         */
+        public int getCalls() {
+            return calls;
+        }
+
+        /**
+         * @return the number of calls which succeeded
+         */
+        public int getSuccessfulCalls() {
+            return successfulCalls;
+        }
+
+        /**
+         * @return the number of calls which finished without succeeding, e.g. because the retryer stopped
+         */
+        public int getFailedCalls() {
+            return finishedCalls - successfulCalls;
+        }
+
+        /**
+         * @return the number of calls which had not finished when the simulation ended
+         */
+        public int getUnfinishedCalls() {
+            return calls - finishedCalls;
+        }
+
+        /**
+         * @return the number of attempts which reached the backend
+         */
+        public long getAttempts() {
+            return attempts;
+        }
+
+        /**
+         * @return the number of attempts which failed, and so used the backend's capacity for nothing
+         */
+        public long getWastedAttempts() {
+            return failedAttempts;
+        }
+
+        /**
+         * @return the number of attempts made for each call; 1.0 means there were no retries
+         */
+        public double getAmplificationFactor() {
+            return (calls == 0) ? 0.0 : (double) attempts / calls;
+        }
+
+        /**
+         * Returns the time from the end of the outage, or from the start if there was none, until the failure
+         * rate of the backend dropped to 1% or less for the rest of the time the clients were starting calls.
+         *
+         * @return the time to recovery, or an empty Optional if the backend had not recovered by the end
+         */
+        public Optional<Duration> getTimeToRecovery() {
+            return (timeToRecoveryNanos < 0L) ? Optional.empty() : Optional.of(Duration.ofNanos(timeToRecoveryNanos));
+        }
+
+        /**
+         * Returns the given percentile of the time taken by the finished calls, from their start until they
+         * succeeded or the retryer gave up, using the nearest-rank method.
+         *
+         * @param percentile the percentile, greater than 0 and at most 100
+         * @return the latency at the percentile, or {@link Duration#ZERO} if no call finished
+         * @throws IllegalArgumentException if the percentile is not greater than 0 and at most 100
+         */
+        public Duration getLatencyPercentile(double percentile) {
+            checkArgument(percentile > 0.0 && percentile <= 100.0,
+                    "percentile must be > 0 and <= 100 but is %s", percentile);
+            if (sortedLatenciesNanos.length == 0) {
+                return Duration.ZERO;
+            }
+            var rank = (int) Math.ceil(percentile / 100.0 * sortedLatenciesNanos.length);
+            return Duration.ofNanos(sortedLatenciesNanos[Math.max(rank, 1) - 1]);
+        }
+
+        /**
+         * @return the median latency of the finished calls
+         * @see #getLatencyPercentile(double)
+         */
+        public Duration getP50Latency() {
+            return getLatencyPercentile(50.0);
+        }
+
+        /**
+         * @return the 99th percentile latency of the finished calls
+         * @see #getLatencyPercentile(double)
+         */
+        public Duration getP99Latency() {
+            return getLatencyPercentile(99.0);
+        }
+
+        @Override
+        public String toString() {
+            return "Report[calls=" + calls +
+                    ", successfulCalls=" + successfulCalls +
+                    ", failedCalls=" + getFailedCalls() +
+                    ", unfinishedCalls=" + getUnfinishedCalls() +
+                    ", attempts=" + attempts +
+                    ", wastedAttempts=" + failedAttempts +
+                    ", amplificationFactor=" + String.format("%.2f", getAmplificationFactor()) +
+                    ", timeToRecovery=" + getTimeToRecovery().map(Duration::toString).orElse("never") +
+                    ", p50Latency=" + getP50Latency() +
+                    ", p99Latency=" + getP99Latency() +
+                    "]";
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import com.google.common.base.Preconditions;
+
+import javax.annotation.Nonnull;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A builder used to configure and create a {@link RetryStormSimulation}.
+ */
+public class RetryStormSimulationBuilder {
+    private static final int DEFAULT_CLIENTS = 1_000;
+    private static final long DEFAULT_REQUEST_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long DEFAULT_DURATION_NANOS = TimeUnit.SECONDS.toNanos(60);
+    private static final int DEFAULT_CAPACITY_PER_SECOND = 1_500;
+    private static final long DEFAULT_LATENCY_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+    /**
+     * Serves attempts up to the capacity, and rejects every attempt beyond it.
+     */
+    private static final DoubleUnaryOperator DEFAULT_FAILURE_CURVE = utilization -> (utilization <= 1.0) ? 0.0 : 1.0;
+
+    private int clients = DEFAULT_CLIENTS;
+    private long requestIntervalNanos = DEFAULT_REQUEST_INTERVAL_NANOS;
+    private long durationNanos = DEFAULT_DURATION_NANOS;
+    private int capacityPerSecond = DEFAULT_CAPACITY_PER_SECOND;
+    private DoubleUnaryOperator failureCurve = DEFAULT_FAILURE_CURVE;
+    private long latencyNanos = DEFAULT_LATENCY_NANOS;
+    private long outageStartNanos;
+    private long outageDurationNanos;
+    private long recoveryTimeNanos;
+    private long seed;
+
+    private RetryStormSimulationBuilder() {
+    }
+
+    public static RetryStormSimulationBuilder newBuilder() {
+        return new RetryStormSimulationBuilder();
+    }
+
+    /**
+     * Sets the number of clients calling the backend. The default is 1,000.
+     *
+     * @param clients the number of clients
+     * @return <code>this</code>
+     * @throws IllegalArgumentException if clients is &lt; 1
+     */
+    public RetryStormSimulationBuilder withClients(int clients) {
+        Preconditions.checkArgument(clients >= 1, "clients must be >= 1 but is %s", clients);
+        this.clients = clients;
+        return this;
+    }
+
+    /**
+     * Sets the time between the calls started by each client. The default is one second.
+     *
+     * @param requestInterval the time between calls
+     * @return <code>this</code>
+     * @throws IllegalArgumentException if the interval is not positive
+     */
+    public RetryStormSimulationBuilder withRequestInterval(@Nonnull Duration requestInterval) {
+        this.requestIntervalNanos = checkPositive(requestInterval, "requestInterval");
+        return this;
+    }
+
+    /**
+     * Sets how long the clients keep starting calls. The default is 60 seconds.
+     *
+     * @param duration the simulated duration
+     * @return <code>this</code>
+     * @throws IllegalArgumentException if the duration is not positive
+     */
+    public RetryStormSimulationBuilder withDuration(@Nonnull Duration duration) {
+        this.durationNanos = checkPositive(duration, "duration");
+        return this;
+    }
+
+    /**
+     * Sets the number of attempts per second the backend can serve without failing any. The default is 1,500.
+     *
+     * @param capacityPerSecond the capacity of the backend, in attempts per second
+     * @return <code>this</code>
+     * @throws IllegalArgumentException if the capacity is &lt; 1
+     */
+    public RetryStormSimulationBuilder withCapacity(int capacityPerSecond) {
+        Preconditions.checkArgument(capacityPerSecond >= 1,
+                "capacityPerSecond must be >= 1 but is %s", capacityPerSecond);
+        this.capacityPerSecond = capacityPerSecond;
+        return this;
+    }
+
+    /**
+     * Sets the function which computes the probability that an attempt fails, from 0.0 to 1.0, given the
+     * utilization of the backend's capacity including the attempt, where 1.0 means the backend is at capacity.
+     * By default, attempts within the capacity succeed, and every attempt beyond it fails. A curve which rises
+     * before the utilization reaches 1.0 models a backend which degrades as it gets busier.
+     *
+     * @param failureCurve computes the failure probability from the utilization
+     * @return <code>this</code>
+     */
+    public RetryStormSimulationBuilder withFailureCurve(@Nonnull DoubleUnaryOperator failureCurve) {
+        this.failureCurve = Preconditions.checkNotNull(failureCurve, "failureCurve may not be null");
+        return this;
+    }
+
+    /**
+     * Sets the time each attempt takes to succeed or fail. The default is 20 milliseconds.
+     *
+     * @param latency the latency of each attempt
+     * @return <code>this</code>
+     * @throws IllegalArgumentException if the latency is negative
+     */
+    public RetryStormSimulationBuilder withLatency(@Nonnull Duration latency) {
+        Preconditions.checkNotNull(latency, "latency may not be null");
+        Preconditions.checkArgument(!latency.isNegative(), "latency must be >= 0 but is %s", latency);
+        this.latencyNanos = latency.toNanos();
+        return this;
+    }
+
+    /**
+     * Configures an outage, during which every attempt fails. By default, there is no outage.
+     *
+     * @param start    the time from the start of the simulation until the outage starts
+     * @param duration the duration of the outage
+     * @return <code>this</code>
+     * @throws IllegalArgumentException if the start is negative or the duration is not positive
+     */
+    public RetryStormSimulationBuilder withOutage(@Nonnull Duration start, @Nonnull Duration duration) {
+        Preconditions.checkNotNull(start, "start may not be null");
+        Preconditions.checkArgument(!start.isNegative(), "start must be >= 0 but is %s", start);
+        this.outageDurationNanos = checkPositive(duration, "duration");
+        this.outageStartNanos = start.toNanos();
+        return this;
+    }
+
+    /**
+     * Sets the time the backend takes after an outage to get back to its full capacity, which grows linearly
+     * over that time. The default is zero, meaning the full capacity is available as soon as the outage ends.
+     *
+     * @param recoveryTime the time to get back to the full capacity
+     * @return <code>this</code>
+     * @throws IllegalArgumentException if the recovery time is negative
+     */
+    public RetryStormSimulationBuilder withRecoveryTime(@Nonnull Duration recoveryTime) {
+        Preconditions.checkNotNull(recoveryTime, "recoveryTime may not be null");
+        Preconditions.checkArgument(!recoveryTime.isNegative(), "recoveryTime must be >= 0 but is %s", recoveryTime);
+        this.recoveryTimeNanos = recoveryTime.toNanos();
+        return this;
+    }
+
+    /**
+     * Sets the seed of the random numbers used to decide which attempts fail. The default is zero.
+     *
+     * @param seed the seed
+     * @return <code>this</code>
+     */
+    public RetryStormSimulationBuilder withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    private static long checkPositive(Duration duration, String name) {
+        Preconditions.checkNotNull(duration, "%s may not be null", name);
+        Preconditions.checkArgument(!duration.isNegative() && !duration.isZero(),
+                "%s must be > 0 but is %s", name, duration);
+        return duration.toNanos();
+    }
+
+    /**
+     * Builds the simulation.
+     *
+     * @return the built simulation.
+     * @throws IllegalStateException if the outage does not end before the duration has passed
+     */
+    public RetryStormSimulation build() {
+        Preconditions.checkState(outageStartNanos + outageDurationNanos < durationNanos,
+                "the outage must end before the duration has passed");
+        return new RetryStormSimulation(
+                clients,
+                requestIntervalNanos,
+                durationNanos,
+                capacityPerSecond,
+                failureCurve,
+                latencyNanos,
+                outageStartNanos,
+                outageDurationNanos,
+                recoveryTimeNanos,
+                seed);
+    }
+}
@@ -18,16 +18,28 @@
 
 package org.kiwiproject.retry;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.kiwiproject.retry.Attempt.newExceptionAttempt;
 import static org.kiwiproject.retry.Attempt.newResultAttempt;
 
+import com.google.common.base.Ticker;
+
 import javax.annotation.Nonnull;
-import java.util.Collection;
+import javax.annotation.Nullable;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * A retryer, which executes a call, and retries it until it succeeds, or
@@ -37,16 +49,36 @@ import java.util.function.Predicate;
  * <p>
  * A retryer can also wrap the callable into a RetryerCallable, which can be submitted to an executor.
  * <p>
+ * Alternatively, {@link #callAsync(Callable, Executor)} runs each attempt as a task and schedules the
+ * next attempt once the wait strategy's sleep time has elapsed, so that no thread is blocked between attempts.
+ * Operations that are already non-blocking can be retried using {@link #retryStage(Supplier)}.
+ * <p>
  * Retryer instances are better constructed with a {@link RetryerBuilder}. A retryer
  * is thread-safe, provided the arguments passed to its constructor are thread-safe.
  */
 public final class Retryer {
+    private static final String STOPPED_BY_STOP_STRATEGY = "stop strategy";
+    private static final String STOPPED_BY_RETRY_BUDGET = "retry budget";
+    private static final String STOPPED_BY_CIRCUIT_BREAKER = "circuit breaker";
+    private static final String STOPPED_BY_DEADLINE = "deadline";
+    private static final long NO_DEADLINE = 0L;
+
     private final StopStrategy stopStrategy;
     private final WaitStrategy waitStrategy;
     private final BlockStrategy blockStrategy;
     private final AttemptTimeLimiter attemptTimeLimiter;
-    private final List<Predicate<Attempt<?>>> retryPredicates;
-    private final Collection<RetryListener> listeners;
+    private final List<Predicate<Attempt<?>>> exceptionPredicates;
+    private final List<Predicate<Attempt<?>>> resultPredicates;
+    private final List<RetryListener> listeners;
+    private final Hedger hedger;
+    private final RetryBudget retryBudget;
+    private final CircuitBreaker circuitBreaker;
+    private final RecoverySignal recoverySignal;
+    private final long deadlineNanos;
+    private final Ticker ticker;
+    private final ContextualWaitStrategy contextualWaitStrategy;
+    private final ContextualStopStrategy contextualStopStrategy;
+    private final RetryerMetrics metrics = new RetryerMetrics();
 
     /**
      * @param attemptTimeLimiter to prevent from any single attempt from spinning infinitely
@@ -54,30 +86,60 @@ public final class Retryer {
      * @param waitStrategy       the strategy used to decide how much time to sleep between attempts
      * @param blockStrategy      the strategy used to decide how to block between retry attempts;
      *                           eg, Thread#sleep(), latches, etc.
-     * @param retryPredicates    the predicates used to decide if the attempt must be retried (without
-     *                           regard to the StopStrategy).
-     * @param listeners          collection of retry listeners
+     * @param exceptionPredicates the predicates used to decide if an attempt which threw an exception must
+     *                            be retried (without regard to the StopStrategy).
+     * @param resultPredicates    the predicates used to decide if an attempt which returned a result must
+     *                            be retried (without regard to the StopStrategy).
+     * @param listeners          list of retry listeners
+     * @param hedger             makes hedged attempts, or {@code null} if attempts should not be hedged
+     * @param retryBudget        the budget which must allow each retry
+     * @param circuitBreaker     the circuit breaker which must permit each attempt, or {@code null} if none
+     * @param recoverySignal     the signal raised when a call succeeds, or {@code null} if none
+     * @param deadlineNanos      the time allowed for each call, in nanoseconds, or zero if there is no deadline
+     * @param ticker             the source of the time used to measure attempts, waits and deadlines
      */
     Retryer(@Nonnull AttemptTimeLimiter attemptTimeLimiter,
             @Nonnull StopStrategy stopStrategy,
             @Nonnull WaitStrategy waitStrategy,
             @Nonnull BlockStrategy blockStrategy,
-            @Nonnull List<Predicate<Attempt<?>>> retryPredicates,
-            @Nonnull Collection<RetryListener> listeners) {
+            @Nonnull List<Predicate<Attempt<?>>> exceptionPredicates,
+            @Nonnull List<Predicate<Attempt<?>>> resultPredicates,
+            @Nonnull List<RetryListener> listeners,
+            @Nullable Hedger hedger,
+            @Nonnull RetryBudget retryBudget,
+            @Nullable CircuitBreaker circuitBreaker,
+            @Nullable RecoverySignal recoverySignal,
+            long deadlineNanos,
+            @Nonnull Ticker ticker) {
 
         checkNotNull(attemptTimeLimiter, "timeLimiter may not be null");
         checkNotNull(stopStrategy, "stopStrategy may not be null");
         checkNotNull(waitStrategy, "waitStrategy may not be null");
         checkNotNull(blockStrategy, "blockStrategy may not be null");
-        checkNotNull(retryPredicates, "retryPredicates may not be null");
+        checkNotNull(exceptionPredicates, "exceptionPredicates may not be null");
+        checkNotNull(resultPredicates, "resultPredicates may not be null");
         checkNotNull(listeners, "listeners may not null");
+        checkNotNull(retryBudget, "retryBudget may not be null");
+        checkArgument(deadlineNanos >= 0L, "deadlineNanos must be >= 0 but is %s", deadlineNanos);
+        checkNotNull(ticker, "ticker may not be null");
 
         this.attemptTimeLimiter = attemptTimeLimiter;
         this.stopStrategy = stopStrategy;
         this.waitStrategy = waitStrategy;
         this.blockStrategy = blockStrategy;
-        this.retryPredicates = retryPredicates;
-        this.listeners = listeners;
+        this.exceptionPredicates = List.copyOf(exceptionPredicates);
+        this.resultPredicates = List.copyOf(resultPredicates);
+        this.listeners = List.copyOf(listeners);
+        this.hedger = hedger;
+        this.retryBudget = retryBudget;
+        this.circuitBreaker = circuitBreaker;
+        this.recoverySignal = recoverySignal;
+        this.deadlineNanos = deadlineNanos;
+        this.ticker = ticker;
+        this.contextualWaitStrategy = (waitStrategy instanceof ContextualWaitStrategy) ?
+                (ContextualWaitStrategy) waitStrategy : null;
+        this.contextualStopStrategy = (stopStrategy instanceof ContextualStopStrategy) ?
+                (ContextualStopStrategy) stopStrategy : null;
     }
 
     /**
@@ -89,45 +151,288 @@ public final class Retryer {
      * @param callable the callable task to be executed
      * @param <T>      the return type of the Callable
      * @return the computed result of the given callable
-     * @throws RetryException       if all the attempts failed before the stop strategy decided to abort
-     * @throws InterruptedException If this thread is interrupted. This can happen because
-     *                              {@link Thread#sleep} is invoked between attempts
+     * @throws RetryException              if all the attempts failed before the stop strategy decided to abort
+     * @throws InterruptedException        If this thread is interrupted. This can happen because
+     *                                     {@link Thread#sleep} is invoked between attempts
+     * @throws CircuitBreakerOpenException if a circuit breaker is configured and is open, in which case
+     *                                     no attempt is made
      */
     public <T> T call(Callable<T> callable) throws RetryException, InterruptedException {
-        long startTimeNanos = System.nanoTime();
-        for (var attemptNumber = 1; ; attemptNumber++) {
-            var attempt = call(callable, startTimeNanos, attemptNumber);
+        long startTimeNanos = ticker.read();
+        metrics.recordCall();
+        acquirePermission(null);
+        var deadline = newDeadlineIfNeeded();
+
+        T result;
+        var attemptEvent = RetryEvents.beginAttempt(1);
+        try {
+            result = invoke(callable, 1, deadline);
+        } catch (InterruptedException | Error e) {
+            RetryEvents.endAttempt(attemptEvent, e);
+            metrics.recordAttempt(1, ticker.read() - startTimeNanos);
+            abandon();
+            throw e;
+        } catch (Exception e) {
+            RetryEvents.endAttempt(attemptEvent, e);
+            Attempt<T> firstAttempt = newExceptionAttempt(e, 1, nanosSince(startTimeNanos), TimeUnit.NANOSECONDS);
+            return retry(callable, startTimeNanos, deadline, firstAttempt);
+        }
+
+        RetryEvents.endAttempt(attemptEvent, null);
+
+        // Without result predicates a result is never retried, so when there are also no listeners which
+        // need to see it, the first attempt succeeded and there is no need to create an Attempt.
+        if (resultPredicates.isEmpty() && listeners.isEmpty()) {
+            metrics.recordAttempt(1, ticker.read() - startTimeNanos);
+            recordSuccess();
+            return result;
+        }
+        var firstAttempt = newResultAttempt(result, 1, nanosSince(startTimeNanos), TimeUnit.NANOSECONDS);
+        return retry(callable, startTimeNanos, deadline, firstAttempt);
+    }
 
-            listeners.forEach(listener -> safeInvokeListener(listener, attempt));
+    /**
+     * Handles the first attempt and, if it must be retried, makes further attempts until one is accepted
+     * or the stop strategy decides to stop.
+     */
+    private <T> T retry(Callable<T> callable,
+                        long startTimeNanos,
+                        @Nullable Deadline deadline,
+                        Attempt<T> firstAttempt) throws RetryException, InterruptedException {
 
-            if (!shouldRetry(attempt)) {
+        var context = newContextIfNeeded();
+        var attempt = firstAttempt;
+        var attemptStartTimeNanos = startTimeNanos;
+        while (true) {
+            var attemptDurationNanos = ticker.read() - attemptStartTimeNanos;
+            metrics.recordAttempt(attempt.getAttemptNumber(), attemptDurationNanos);
+            if (context != null) {
+                context.recordAttempt(attemptDurationNanos);
+            }
+            notifyListeners(attempt);
+
+            var retry = shouldRetry(attempt);
+            recordOutcome(attempt, retry);
+            if (!retry) {
                 return getOrThrow(attempt);
             }
 
-            if (stopStrategy.shouldStop(attempt)) {
+            long sleepTimeNanos = computeSleepTimeNanos(attempt, context);
+            if (shouldStop(attempt, context, sleepTimeNanos)) {
+                exhausted(attempt, STOPPED_BY_STOP_STRATEGY);
                 throw new RetryException(attempt);
-            } else {
-                long sleepTime = waitStrategy.computeSleepTime(attempt);
-                blockStrategy.block(sleepTime);
+            }
+            if (crossesDeadline(deadline, sleepTimeNanos)) {
+                exhausted(attempt, STOPPED_BY_DEADLINE);
+                throw new RetryException(attempt);
+            }
+            if (!retryBudget.tryAcquireRetry()) {
+                exhausted(attempt, STOPPED_BY_RETRY_BUDGET);
+                throw new RetryException(attempt);
+            }
+            metrics.recordSleep(sleepTimeNanos);
+            block(attempt, sleepTimeNanos, context);
+
+            acquirePermission(attempt);
+            attemptStartTimeNanos = ticker.read();
+            var attemptNumber = attempt.getAttemptNumber() + 1;
+            try {
+                attempt = call(callable, startTimeNanos, deadline, attemptNumber);
+            } catch (InterruptedException | Error e) {
+                metrics.recordAttempt(attemptNumber, ticker.read() - attemptStartTimeNanos);
+                abandon();
+                throw e;
             }
         }
     }
 
-    private <T> Attempt<T> call(Callable<T> callable, long startTimeNanos, int attemptNumber)
+    private void block(Attempt<?> failedAttempt, long sleepTimeNanos, @Nullable RetryContext context)
             throws InterruptedException {
 
+        var backoffEvent = RetryEvents.beginBackoff(failedAttempt.getAttemptNumber(), sleepTimeNanos);
         try {
-            T result = attemptTimeLimiter.call(callable);
-            return newResultAttempt(result, attemptNumber, computeMillisSince(startTimeNanos));
+            if (context == null) {
+                blockStrategy.blockNanos(sleepTimeNanos);
+            } else {
+                var blockStartTimeNanos = ticker.read();
+                blockStrategy.blockNanos(sleepTimeNanos);
+                context.recordSleep(sleepTimeNanos, ticker.read() - blockStartTimeNanos);
+            }
         } catch (InterruptedException e) {
+            metrics.recordFailure();
+            throw e;
+        } finally {
+            RetryEvents.endBackoff(backoffEvent);
+        }
+    }
+
+    /**
+     * Creates a deadline for a new invocation, but only if this retryer has one.
+     */
+    @Nullable
+    private Deadline newDeadlineIfNeeded() {
+        return (deadlineNanos == NO_DEADLINE) ? null : Deadline.after(deadlineNanos, ticker);
+    }
+
+    /**
+     * Checks whether sleeping for the given time would leave no time for another attempt before the deadline,
+     * in which case it is better to fail now than to sleep and then fail.
+     */
+    private static boolean crossesDeadline(@Nullable Deadline deadline, long sleepTimeNanos) {
+        return deadline != null && sleepTimeNanos >= deadline.getRemainingNanos();
+    }
+
+    /**
+     * Creates a context for a new invocation, but only if the wait or stop strategy will use it.
+     */
+    @Nullable
+    private RetryContext newContextIfNeeded() {
+        return (contextualWaitStrategy == null && contextualStopStrategy == null) ? null : new RetryContext();
+    }
+
+    private boolean shouldStop(Attempt<?> attempt, @Nullable RetryContext context, long nextSleepTimeNanos) {
+        if (context != null && contextualStopStrategy != null) {
+            context.recordNextSleep(nextSleepTimeNanos);
+            return contextualStopStrategy.shouldStop(attempt, context);
+        }
+        return stopStrategy.shouldStop(attempt);
+    }
+
+    private long computeSleepTimeNanos(Attempt<?> attempt, @Nullable RetryContext context) {
+        if (context != null && contextualWaitStrategy != null) {
+            return contextualWaitStrategy.computeSleepTimeNanos(attempt, context);
+        }
+        return waitStrategy.computeSleepTimeNanos(attempt);
+    }
+
+    private <T> Attempt<T> call(Callable<T> callable,
+                                long startTimeNanos,
+                                @Nullable Deadline deadline,
+                                int attemptNumber) throws InterruptedException {
+
+        var attemptEvent = RetryEvents.beginAttempt(attemptNumber);
+        try {
+            T result = invoke(callable, attemptNumber, deadline);
+            RetryEvents.endAttempt(attemptEvent, null);
+            return newResultAttempt(result, attemptNumber, nanosSince(startTimeNanos), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException | Error e) {
+            // the caller abandons the call, so that it is recorded exactly once
+            RetryEvents.endAttempt(attemptEvent, e);
             throw e;
         } catch (Exception e) {
-            return newExceptionAttempt(e, attemptNumber, computeMillisSince(startTimeNanos));
+            RetryEvents.endAttempt(attemptEvent, e);
+            return newExceptionAttempt(e, attemptNumber, nanosSince(startTimeNanos), TimeUnit.NANOSECONDS);
         }
     }
 
-    private static long computeMillisSince(long startTimeNanos) {
-        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeNanos);
+    private <T> T invoke(Callable<T> callable, int attemptNumber, @Nullable Deadline deadline) throws Exception {
+        if (deadline == null) {
+            return (hedger == null) ? attemptTimeLimiter.call(callable) : hedger.call(callable, attemptNumber, null);
+        }
+
+        var remainingNanos = deadline.getRemainingNanos();
+        if (remainingNanos == 0L) {
+            throw new TimeoutException("The deadline passed before attempt " + attemptNumber + " could start");
+        }
+
+        var boundCallable = deadline.bind(callable);
+        if (hedger == null) {
+            return attemptTimeLimiter.call(boundCallable, remainingNanos);
+        }
+        return hedger.call(boundCallable, attemptNumber, deadline);
+    }
+
+    /**
+     * Acquires permission from the circuit breaker, if any, to make an attempt.
+     *
+     * @param previousAttempt the previous attempt, or {@code null} if the first attempt is about to be made
+     * @throws CircuitBreakerOpenException if the circuit is open before the first attempt
+     * @throws RetryException              if the circuit is open before a retry
+     */
+    private void acquirePermission(@Nullable Attempt<?> previousAttempt) throws RetryException {
+        if (circuitBreaker == null || circuitBreaker.tryAcquirePermission()) {
+            return;
+        }
+        if (previousAttempt == null) {
+            metrics.recordFailure();
+            throw new CircuitBreakerOpenException();
+        }
+        exhausted(previousAttempt, STOPPED_BY_CIRCUIT_BREAKER);
+        throw new RetryException(previousAttempt);
+    }
+
+    /**
+     * Records a call which gave up because no further attempt was allowed.
+     */
+    private void exhausted(Attempt<?> lastAttempt, String reason) {
+        metrics.recordExhaustion();
+        RetryEvents.exhausted(lastAttempt, reason);
+    }
+
+    /**
+     * Records a call which completed successfully.
+     */
+    private void recordSuccess() {
+        if (circuitBreaker != null) {
+            circuitBreaker.onSuccess();
+        }
+        retryBudget.recordSuccess();
+        metrics.recordSuccess();
+        signalRecovery();
+    }
+
+    /**
+     * Raises the recovery signal, if any, once a call has succeeded, meaning that an attempt returned a result
+     * which is not retried.
+     */
+    private void signalRecovery() {
+        if (recoverySignal != null) {
+            recoverySignal.signalRecovered();
+        }
+    }
+
+    /**
+     * Records a call which ended because an attempt was interrupted or threw an {@link Error}, releasing the
+     * permission acquired from the circuit breaker, if any, for the attempt.
+     */
+    private void abandon() {
+        if (circuitBreaker != null) {
+            circuitBreaker.releasePermission();
+        }
+        metrics.recordFailure();
+    }
+
+    /**
+     * Records the outcome of an attempt in the circuit breaker, if any. An attempt fails if it threw an
+     * exception or if it must be retried.
+     */
+    private void recordOutcome(Attempt<?> attempt, boolean retry) {
+        if (circuitBreaker == null) {
+            return;
+        }
+        if (retry || attempt.hasException()) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess();
+        }
+    }
+
+    /**
+     * @return the source of the time used by this retryer
+     */
+    Ticker getTicker() {
+        return ticker;
+    }
+
+    private long nanosSince(long startTimeNanos) {
+        return ticker.read() - startTimeNanos;
+    }
+
+    private void notifyListeners(Attempt<?> attempt) {
+        // use an indexed loop rather than a lambda, to avoid allocating on each attempt
+        for (int i = 0, size = listeners.size(); i < size; i++) {
+            safeInvokeListener(listeners.get(i), attempt);
+        }
     }
 
     private static <T> void safeInvokeListener(RetryListener listener, Attempt<T> attempt) {
@@ -138,6 +443,118 @@ public final class Retryer {
         }
     }
 
+    /**
+     * Executes the given callable asynchronously, retrying if necessary. Each attempt runs as a separate
+     * task on the given executor. Instead of blocking a thread using the {@link BlockStrategy}, the next
+     * attempt is scheduled to run on the executor after the time computed by the wait strategy has elapsed.
+     * <p>
+     * The returned future completes with the result of the first accepted attempt. If all the attempts
+     * failed before the stop strategy decided to abort, it completes exceptionally with a {@link RetryException}.
+     * If an attempt is interrupted, it completes exceptionally with the {@link InterruptedException}. Cancelling
+     * the returned future prevents any further attempts from being made.
+     *
+     * @param callable the callable task to be executed
+     * @param executor the executor used to run each attempt
+     * @param <T>      the return type of the Callable
+     * @return a future that completes with the computed result of the given callable
+     * @implNote Delays are implemented using {@link CompletableFuture#delayedExecutor(long, TimeUnit, Executor)},
+     * which uses a single shared daemon thread to trigger the delayed tasks.
+     */
+    public <T> CompletableFuture<T> callAsync(@Nonnull Callable<T> callable, @Nonnull Executor executor) {
+        checkNotNull(callable, "callable may not be null");
+        checkNotNull(executor, "executor may not be null");
+        return new AsyncRetry<>(callable, delayingScheduler(executor)).start();
+    }
+
+    private static AsyncScheduler delayingScheduler(Executor executor) {
+        return (task, delayNanos) -> {
+            if (delayNanos > 0) {
+                CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS, executor).execute(task);
+            } else {
+                executor.execute(task);
+            }
+        };
+    }
+
+    /**
+     * Executes the given callable asynchronously, retrying if necessary. Each attempt runs as a separate
+     * task on the given scheduler, and the next attempt is scheduled on it using the time computed by
+     * the wait strategy as the delay.
+     *
+     * @param callable  the callable task to be executed
+     * @param scheduler the scheduled executor used to run and schedule each attempt
+     * @param <T>       the return type of the Callable
+     * @return a future that completes with the computed result of the given callable
+     * @see #callAsync(Callable, Executor)
+     */
+    public <T> CompletableFuture<T> callAsync(@Nonnull Callable<T> callable,
+                                              @Nonnull ScheduledExecutorService scheduler) {
+        checkNotNull(callable, "callable may not be null");
+        checkNotNull(scheduler, "scheduler may not be null");
+        return new AsyncRetry<>(callable,
+                (task, delayNanos) -> scheduler.schedule(task, delayNanos, TimeUnit.NANOSECONDS)).start();
+    }
+
+    /**
+     * Retries a non-blocking operation which returns a {@link CompletionStage}, without blocking any
+     * thread during either the attempts or the waits between them. The retry predicates, stop strategy
+     * and wait strategy are applied in a completion callback of each stage, and the next attempt is
+     * started after the time computed by the wait strategy has elapsed.
+     * <p>
+     * The first attempt is started on the calling thread, and subsequent attempts are started by
+     * {@link ForkJoinPool#commonPool()}. The supplier should therefore only <em>start</em> the operation
+     * and must not block.
+     * <p>
+     * The {@link AttemptTimeLimiter} and {@link BlockStrategy} are not used. Time limits on individual
+     * attempts should instead be applied to the returned stages, e.g. using
+     * {@link CompletableFuture#orTimeout(long, TimeUnit)}.
+     *
+     * @param supplier supplies a new stage for each attempt
+     * @param <T>      the result type of the CompletionStage
+     * @return a future that completes with the result of the first accepted attempt, or exceptionally with
+     * a {@link RetryException} if all the attempts failed before the stop strategy decided to abort
+     */
+    public <T> CompletableFuture<T> retryStage(@Nonnull Supplier<? extends CompletionStage<T>> supplier) {
+        return retryStage(supplier, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Retries a non-blocking operation which returns a {@link CompletionStage}, starting each attempt
+     * after the first on the given executor.
+     *
+     * @param supplier supplies a new stage for each attempt
+     * @param executor the executor used to start attempts after the first
+     * @param <T>      the result type of the CompletionStage
+     * @return a future that completes with the result of the first accepted attempt, or exceptionally with
+     * a {@link RetryException} if all the attempts failed before the stop strategy decided to abort
+     * @see #retryStage(Supplier)
+     */
+    public <T> CompletableFuture<T> retryStage(@Nonnull Supplier<? extends CompletionStage<T>> supplier,
+                                               @Nonnull Executor executor) {
+        checkNotNull(supplier, "supplier may not be null");
+        checkNotNull(executor, "executor may not be null");
+        return new StageRetry<>(supplier, delayingScheduler(executor)).start();
+    }
+
+    /**
+     * Retries a non-blocking operation which returns a {@link CompletionStage}, starting each attempt
+     * after the first on the given scheduler, using the time computed by the wait strategy as the delay.
+     *
+     * @param supplier  supplies a new stage for each attempt
+     * @param scheduler the scheduled executor used to start attempts after the first
+     * @param <T>       the result type of the CompletionStage
+     * @return a future that completes with the result of the first accepted attempt, or exceptionally with
+     * a {@link RetryException} if all the attempts failed before the stop strategy decided to abort
+     * @see #retryStage(Supplier)
+     */
+    public <T> CompletableFuture<T> retryStage(@Nonnull Supplier<? extends CompletionStage<T>> supplier,
+                                               @Nonnull ScheduledExecutorService scheduler) {
+        checkNotNull(supplier, "supplier may not be null");
+        checkNotNull(scheduler, "scheduler may not be null");
+        return new StageRetry<>(supplier,
+                (task, delayNanos) -> scheduler.schedule(task, delayNanos, TimeUnit.NANOSECONDS)).start();
+    }
+
     /**
      * Executes the given runnable, retrying if necessary. If the retry predicate
      * accepts the attempt, the stop strategy is used to decide if a new attempt
@@ -159,7 +576,7 @@ public final class Retryer {
 
     /**
      * Throw the Attempt's exception, if it has one, wrapped in a RetryException. Otherwise,
-     * return the attempt's result.
+     * record the success in the retry budget and metrics and return the attempt's result.
      *
      * @param attempt An attempt that was made by invoking the call
      * @param <T>     The type of the attempt
@@ -168,26 +585,270 @@ public final class Retryer {
      */
     private <T> T getOrThrow(Attempt<T> attempt) throws RetryException {
         if (attempt.hasException()) {
+            metrics.recordFailure();
             throw new RetryException(attempt);
         }
+        retryBudget.recordSuccess();
+        metrics.recordSuccess();
+        signalRecovery();
         return attempt.getResult();
     }
 
     /**
-     * Applies the retry predicates to the attempt, in order, until either one
+     * Applies the exception or result retry predicates to the attempt, in order, until either one
      * predicate returns true or all predicates return false.
      *
      * @param attempt The attempt made by invoking the call
      */
     private boolean shouldRetry(Attempt<?> attempt) {
-        for (Predicate<Attempt<?>> predicate : retryPredicates) {
-            if (predicate.test(attempt)) {
+        var predicates = attempt.hasException() ? exceptionPredicates : resultPredicates;
+        for (int i = 0, size = predicates.size(); i < size; i++) {
+            if (predicates.get(i).test(attempt)) {
                 return true;
             }
         }
         return false;
     }
 
+    /**
+     * Schedules a task to run after a delay, in nanoseconds.
+     */
+    @FunctionalInterface
+    private interface AsyncScheduler {
+        void schedule(Runnable task, long delayNanos);
+    }
+
+    /**
+     * The state of a single asynchronous invocation. Attempts are made one at a time, each one
+     * scheduling the next, so the mutable state is never accessed concurrently.
+     */
+    private abstract class AbstractAsyncRetry<T> implements Runnable {
+        private final AsyncScheduler scheduler;
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        private final RetryContext context = newContextIfNeeded();
+        Deadline deadline;
+        long startTimeNanos;
+        int attemptNumber;
+        long attemptStartTimeNanos;
+        private Attempt<T> previousAttempt;
+
+        AbstractAsyncRetry(AsyncScheduler scheduler) {
+            this.scheduler = scheduler;
+        }
+
+        CompletableFuture<T> start() {
+            startTimeNanos = ticker.read();
+            deadline = newDeadlineIfNeeded();
+            metrics.recordCall();
+            return future;
+        }
+
+        /**
+         * Makes the next attempt, which must eventually be passed to {@link #onAttempt(Attempt)}.
+         */
+        abstract void attempt() throws InterruptedException;
+
+        @Override
+        public void run() {
+            if (future.isDone()) {
+                return;
+            }
+
+            try {
+                acquirePermission(previousAttempt);
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+                return;
+            }
+
+            try {
+                attemptStartTimeNanos = ticker.read();
+                attempt();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                metrics.recordAttempt(attemptNumber, ticker.read() - attemptStartTimeNanos);
+                abandon();
+                future.completeExceptionally(e);
+            } catch (Throwable t) {
+                metrics.recordAttempt(attemptNumber, ticker.read() - attemptStartTimeNanos);
+                abandon();
+                future.completeExceptionally(t);
+            }
+        }
+
+        void onAttempt(Attempt<T> attempt) {
+            previousAttempt = attempt;
+            try {
+                var attemptDurationNanos = ticker.read() - attemptStartTimeNanos;
+                metrics.recordAttempt(attempt.getAttemptNumber(), attemptDurationNanos);
+                if (context != null) {
+                    context.recordAttempt(attemptDurationNanos);
+                }
+                notifyListeners(attempt);
+
+                var retry = shouldRetry(attempt);
+                recordOutcome(attempt, retry);
+                if (retry) {
+                    scheduleRetry(attempt);
+                } else {
+                    future.complete(getOrThrow(attempt));
+                }
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        }
+
+        private void scheduleRetry(Attempt<T> attempt) {
+            var sleepTimeNanos = computeSleepTimeNanos(attempt, context);
+            if (shouldStop(attempt, context, sleepTimeNanos)) {
+                exhausted(attempt, STOPPED_BY_STOP_STRATEGY);
+                future.completeExceptionally(new RetryException(attempt));
+            } else if (crossesDeadline(deadline, sleepTimeNanos)) {
+                exhausted(attempt, STOPPED_BY_DEADLINE);
+                future.completeExceptionally(new RetryException(attempt));
+            } else if (!retryBudget.tryAcquireRetry()) {
+                exhausted(attempt, STOPPED_BY_RETRY_BUDGET);
+                future.completeExceptionally(new RetryException(attempt));
+            } else {
+                metrics.recordSleep(sleepTimeNanos);
+                if (context != null) {
+                    // Nothing blocks between asynchronous attempts; the scheduled delay is the time waited
+                    context.recordSleep(sleepTimeNanos, sleepTimeNanos);
+                }
+                schedule(sleepTimeNanos);
+            }
+        }
+
+        void schedule(long delayNanos) {
+            try {
+                scheduler.schedule(this, delayNanos);
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * Runs each attempt of a {@link Callable}, as scheduled by {@link #callAsync}.
+     */
+    private final class AsyncRetry<T> extends AbstractAsyncRetry<T> {
+        private final Callable<T> callable;
+
+        AsyncRetry(Callable<T> callable, AsyncScheduler scheduler) {
+            super(scheduler);
+            this.callable = callable;
+        }
+
+        @Override
+        CompletableFuture<T> start() {
+            var result = super.start();
+            schedule(0L);
+            return result;
+        }
+
+        @Override
+        void attempt() throws InterruptedException {
+            onAttempt(call(callable, startTimeNanos, deadline, ++attemptNumber));
+        }
+    }
+
+    /**
+     * Starts each attempt of a {@link CompletionStage} and handles its outcome in a completion callback,
+     * as scheduled by {@link #retryStage}.
+     */
+    private final class StageRetry<T> extends AbstractAsyncRetry<T> {
+        private final Supplier<? extends CompletionStage<T>> supplier;
+
+        StageRetry(Supplier<? extends CompletionStage<T>> supplier, AsyncScheduler scheduler) {
+            super(scheduler);
+            this.supplier = supplier;
+        }
+
+        @Override
+        CompletableFuture<T> start() {
+            var result = super.start();
+            run();
+            return result;
+        }
+
+        @Override
+        void attempt() {
+            var thisAttemptNumber = ++attemptNumber;
+            var attemptEvent = RetryEvents.beginAttempt(thisAttemptNumber);
+            CompletionStage<T> stage;
+            try {
+                stage = checkNotNull(getStage(), "supplier returned a null CompletionStage");
+            } catch (Exception e) {
+                RetryEvents.endAttempt(attemptEvent, e);
+                onAttempt(newExceptionAttempt(e, thisAttemptNumber, nanosSince(startTimeNanos),
+                        TimeUnit.NANOSECONDS));
+                return;
+            }
+
+            stage.whenComplete((result, throwable) -> {
+                var delaySinceFirstAttemptNanos = nanosSince(startTimeNanos);
+                if (throwable == null) {
+                    RetryEvents.endAttempt(attemptEvent, null);
+                    onAttempt(newResultAttempt(result, thisAttemptNumber, delaySinceFirstAttemptNanos,
+                            TimeUnit.NANOSECONDS));
+                    return;
+                }
+
+                var cause = unwrap(throwable);
+                RetryEvents.endAttempt(attemptEvent, cause);
+                if (cause instanceof Exception && !(cause instanceof InterruptedException)) {
+                    onAttempt(newExceptionAttempt((Exception) cause, thisAttemptNumber, delaySinceFirstAttemptNanos,
+                            TimeUnit.NANOSECONDS));
+                } else {
+                    metrics.recordAttempt(thisAttemptNumber, ticker.read() - attemptStartTimeNanos);
+                    abandon();
+                    future.completeExceptionally(cause);
+                }
+            });
+        }
+
+        /**
+         * Gets the stage for the next attempt. With a deadline, the deadline is current while the supplier
+         * runs, and the stage times out when the deadline passes.
+         */
+        private CompletionStage<T> getStage() throws Exception {
+            if (deadline == null) {
+                return supplier.get();
+            }
+
+            CompletionStage<T> stage = deadline.bind(supplier::get).call();
+            if (stage == null) {
+                return null;
+            }
+            var limited = new CompletableFuture<T>();
+            stage.whenComplete((result, throwable) -> {
+                if (throwable == null) {
+                    limited.complete(result);
+                } else {
+                    limited.completeExceptionally(throwable);
+                }
+            });
+            return limited.orTimeout(deadline.getRemainingNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        private Throwable unwrap(Throwable throwable) {
+            if ((throwable instanceof CompletionException || throwable instanceof ExecutionException)
+                    && throwable.getCause() != null) {
+                return throwable.getCause();
+            }
+            return throwable;
+        }
+    }
+
+    /**
+     * Returns the metrics of this retryer, which are recorded for all its synchronous and asynchronous invocations.
+     *
+     * @return the metrics of this retryer
+     */
+    public RetryerMetrics getMetrics() {
+        return metrics;
+    }
+
     /**
      * Wraps the given {@link Callable} in a {@link RetryerCallable}, which can
      * be submitted to an executor. The returned {@link RetryerCallable} uses
@@ -18,11 +18,15 @@
 
 package org.kiwiproject.retry;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Ticker;
 
 import javax.annotation.Nonnull;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
 /**
@@ -33,7 +37,16 @@ public class RetryerBuilder {
     private StopStrategy stopStrategy;
     private WaitStrategy waitStrategy;
     private BlockStrategy blockStrategy;
-    private final List<Predicate<Attempt<?>>> retryPredicates = new ArrayList<>();
+    private HedgingStrategy hedgingStrategy;
+    private int maxHedges;
+    private ExecutorService hedgingExecutor;
+    private RetryBudget retryBudget;
+    private CircuitBreaker circuitBreaker;
+    private RecoverySignal recoverySignal;
+    private Long deadlineNanos;
+    private Ticker ticker;
+    private final List<Predicate<Attempt<?>>> exceptionPredicates = new ArrayList<>();
+    private final List<Predicate<Attempt<?>>> resultPredicates = new ArrayList<>();
     private final List<RetryListener> listeners = new ArrayList<>();
 
     private RetryerBuilder() {
@@ -114,6 +127,148 @@ public class RetryerBuilder {
         return this;
     }
 
+    /**
+     * Sets the retry budget which must allow each retry. A budget can be shared by many retryers to
+     * limit the total number of retries they make, for example during an outage of a service they all call.
+     * When the budget refuses a retry, the retryer stops retrying and throws a {@link RetryException}
+     * just as if the stop strategy had decided to stop. The default is an unlimited budget.
+     *
+     * @param retryBudget the budget which must allow each retry
+     * @return <code>this</code>
+     * @throws IllegalStateException if a retry budget has already been set.
+     * @see RetryBudgets
+     */
+    public RetryerBuilder withRetryBudget(@Nonnull RetryBudget retryBudget) {
+        Preconditions.checkNotNull(retryBudget, "retryBudget may not be null");
+        Preconditions.checkState(this.retryBudget == null,
+                "a retry budget has already been set: %s", this.retryBudget);
+        this.retryBudget = retryBudget;
+        return this;
+    }
+
+    /**
+     * Sets the circuit breaker which must permit each attempt. The outcome of each attempt is recorded in the
+     * circuit breaker; an attempt fails if it throws an exception or if it must be retried. While the circuit
+     * is open, calls fail fast with a {@link CircuitBreakerOpenException} without making any attempt, and a
+     * call which is already retrying stops and throws a {@link RetryException}. A circuit breaker can be shared
+     * by many retryers which call the same service.
+     *
+     * @param circuitBreaker the circuit breaker which must permit each attempt
+     * @return <code>this</code>
+     * @throws IllegalStateException if a circuit breaker has already been set.
+     * @see CircuitBreakerBuilder
+     */
+    public RetryerBuilder withCircuitBreaker(@Nonnull CircuitBreaker circuitBreaker) {
+        Preconditions.checkNotNull(circuitBreaker, "circuitBreaker may not be null");
+        Preconditions.checkState(this.circuitBreaker == null,
+                "a circuit breaker has already been set: %s", this.circuitBreaker);
+        this.circuitBreaker = circuitBreaker;
+        return this;
+    }
+
+    /**
+     * Sets the signal raised whenever a call succeeds, meaning that an attempt returned a result which the
+     * retry predicates accept. This wakes the threads of other retryers calling the same dependency which are
+     * backing off in a {@link BlockStrategies#signalAware(RecoverySignal) signal-aware} block strategy. Results
+     * which are retried, and exceptions, do not raise the signal.
+     *
+     * @param recoverySignal the signal raised when a call succeeds
+     * @return <code>this</code>
+     * @throws IllegalStateException if a recovery signal has already been set.
+     */
+    public RetryerBuilder withRecoverySignal(@Nonnull RecoverySignal recoverySignal) {
+        Preconditions.checkNotNull(recoverySignal, "recoverySignal may not be null");
+        Preconditions.checkState(this.recoverySignal == null,
+                "a recovery signal has already been set: %s", this.recoverySignal);
+        this.recoverySignal = recoverySignal;
+        return this;
+    }
+
+    /**
+     * Sets the deadline by which each call must complete, including all of its attempts and the time waited
+     * between them.
+     * <ul>
+     *     <li>Each attempt's time limit is reduced to the time remaining until the deadline. When no attempt
+     *     time limiter has been set, attempts run on the calling thread, which is interrupted if the deadline
+     *     passes, as with {@link AttemptTimeLimiters#callerThreadTimeLimit(long, TimeUnit)}. The time remaining
+     *     is read from the retryer's ticker when each attempt starts, but the time limiter then measures it with
+     *     the system clock.</li>
+     *     <li>If the time to wait before the next attempt would reach the deadline, the retryer stops at once
+     *     and throws a {@link RetryException}, rather than waiting only to fail.</li>
+     *     <li>While an attempt runs, {@link Deadline#current()} returns the deadline, so the attempt can pass
+     *     the remaining time on to the services it calls.</li>
+     * </ul>
+     * The stop strategy still applies, so the retryer stops at whichever comes first. When hedging, the time
+     * limit of each invocation is reduced to the time remaining when that invocation starts.
+     *
+     * @param duration the time allowed for each call
+     * @param timeUnit the unit of the duration
+     * @return <code>this</code>
+     * @throws IllegalArgumentException if the duration is &lt;= 0
+     * @throws IllegalStateException    if a deadline has already been set.
+     */
+    public RetryerBuilder withDeadline(long duration, @Nonnull TimeUnit timeUnit) {
+        Preconditions.checkNotNull(timeUnit, "The time unit may not be null");
+        Preconditions.checkArgument(duration > 0L, "duration must be > 0 but is %s", duration);
+        Preconditions.checkState(this.deadlineNanos == null,
+                "a deadline has already been set: %s ns", this.deadlineNanos);
+        this.deadlineNanos = timeUnit.toNanos(duration);
+        return this;
+    }
+
+    /**
+     * Sets the source of the time used to measure attempts, the time waited between them and deadlines. By
+     * default, {@link Ticker#systemTicker()} is used. A different ticker is mainly useful to run a retryer in
+     * virtual time, together with a {@link BlockStrategy} or scheduler which advances the same ticker instead of
+     * waiting, as {@link RetryStormSimulation} does.
+     * <p>
+     * Attempt time limiters are not affected by the ticker. They always measure time limits with the system
+     * clock, including a limit reduced to the time remaining until a deadline.
+     *
+     * @param ticker the source of the time
+     * @return <code>this</code>
+     * @throws IllegalStateException if a ticker has already been set.
+     */
+    public RetryerBuilder withTicker(@Nonnull Ticker ticker) {
+        Preconditions.checkNotNull(ticker, "ticker may not be null");
+        Preconditions.checkState(this.ticker == null, "a ticker has already been set: %s", this.ticker);
+        this.ticker = ticker;
+        return this;
+    }
+
+    /**
+     * Configures the retryer to hedge each attempt. Each attempt starts an invocation of the call on the given
+     * executor, and if it has not completed after the delay computed by the hedging strategy, another invocation
+     * is started in parallel, up to {@code maxHedges} times. The first invocation to complete successfully
+     * provides the result of the attempt, and the others are cancelled. If all the invocations fail, the attempt
+     * fails with the exception of the last one to fail. Each hedge is reported to the retry listeners.
+     * <p>
+     * The attempt time limiter, if any, is applied to each invocation. The calling thread waits for the
+     * invocations to complete, so hedging should be used with {@link Retryer#call(java.util.concurrent.Callable)} rather than
+     * with asynchronous calls.
+     *
+     * @param hedgingStrategy the strategy used to decide how long to wait before starting a hedge
+     * @param maxHedges       the maximum number of hedges started for each attempt, which caps the extra
+     *                        load placed on the called service
+     * @param executor        the executor used to run the invocations
+     * @return <code>this</code>
+     * @throws IllegalArgumentException if maxHedges is &lt; 1
+     * @throws IllegalStateException    if a hedging strategy has already been set.
+     */
+    public RetryerBuilder withHedging(@Nonnull HedgingStrategy hedgingStrategy,
+                                      int maxHedges,
+                                      @Nonnull ExecutorService executor) {
+        Preconditions.checkNotNull(hedgingStrategy, "hedgingStrategy may not be null");
+        Preconditions.checkArgument(maxHedges >= 1, "maxHedges must be >= 1 but is %s", maxHedges);
+        Preconditions.checkNotNull(executor, "executor may not be null");
+        Preconditions.checkState(this.hedgingStrategy == null,
+                "a hedging strategy has already been set: %s", this.hedgingStrategy);
+        this.hedgingStrategy = hedgingStrategy;
+        this.maxHedges = maxHedges;
+        this.hedgingExecutor = executor;
+        return this;
+    }
+
     /**
      * Configures the retryer to retry if an exception (i.e. any <code>Exception</code> or subclass
      * of <code>Exception</code>) is thrown by the call.
@@ -121,7 +276,7 @@ public class RetryerBuilder {
      * @return <code>this</code>
      */
     public RetryerBuilder retryIfException() {
-        retryPredicates.add(new ExceptionClassPredicate(Exception.class));
+        exceptionPredicates.add(new ExceptionClassPredicate(Exception.class));
         return this;
     }
 
@@ -132,7 +287,7 @@ public class RetryerBuilder {
      * @return <code>this</code>
      */
     public RetryerBuilder retryIfRuntimeException() {
-        retryPredicates.add(new ExceptionClassPredicate(RuntimeException.class));
+        exceptionPredicates.add(new ExceptionClassPredicate(RuntimeException.class));
         return this;
     }
 
@@ -145,7 +300,7 @@ public class RetryerBuilder {
      */
     public RetryerBuilder retryIfExceptionOfType(@Nonnull Class<? extends Exception> exceptionClass) {
         Preconditions.checkNotNull(exceptionClass, "exceptionClass may not be null");
-        retryPredicates.add(new ExceptionClassPredicate(exceptionClass));
+        exceptionPredicates.add(new ExceptionClassPredicate(exceptionClass));
         return this;
     }
 
@@ -158,7 +313,7 @@ public class RetryerBuilder {
      */
     public RetryerBuilder retryIfException(@Nonnull Predicate<Exception> exceptionPredicate) {
         Preconditions.checkNotNull(exceptionPredicate, "exceptionPredicate may not be null");
-        retryPredicates.add(new ExceptionPredicate(exceptionPredicate));
+        exceptionPredicates.add(new ExceptionPredicate(exceptionPredicate));
         return this;
     }
 
@@ -172,7 +327,7 @@ public class RetryerBuilder {
      */
     public <T> RetryerBuilder retryIfResult(@Nonnull Predicate<T> resultPredicate) {
         Preconditions.checkNotNull(resultPredicate, "resultPredicate may not be null");
-        retryPredicates.add(new ResultPredicate<>(resultPredicate));
+        resultPredicates.add(new ResultPredicate<>(resultPredicate));
         return this;
     }
 
@@ -186,14 +341,56 @@ public class RetryerBuilder {
         StopStrategy theStopStrategy = stopStrategy == null ? StopStrategies.neverStop() : stopStrategy;
         WaitStrategy theWaitStrategy = waitStrategy == null ? WaitStrategies.noWait() : waitStrategy;
         BlockStrategy theBlockStrategy = blockStrategy == null ? BlockStrategies.threadSleepStrategy() : blockStrategy;
+        List<RetryListener> theListeners = List.copyOf(listeners);
+        Hedger theHedger = hedgingStrategy == null ? null :
+                new Hedger(hedgingStrategy, maxHedges, hedgingExecutor, theAttemptTimeLimiter, theListeners);
+        RetryBudget theRetryBudget = retryBudget == null ? RetryBudgets.unlimited() : retryBudget;
 
         return new Retryer(
                 theAttemptTimeLimiter,
                 theStopStrategy,
                 theWaitStrategy,
                 theBlockStrategy,
-                retryPredicates,
-                listeners);
+                compileExceptionPredicates(exceptionPredicates),
+                resultPredicates,
+                theListeners,
+                theHedger,
+                theRetryBudget,
+                circuitBreaker,
+                recoverySignal,
+                deadlineNanos == null ? 0L : deadlineNanos,
+                ticker == null ? Ticker.systemTicker() : ticker);
+    }
+
+    @VisibleForTesting
+    List<Predicate<Attempt<?>>> getExceptionPredicates() {
+        return exceptionPredicates;
+    }
+
+    /**
+     * Combines all the exception class predicates into a single {@link ExceptionClassesPredicate}, which is placed
+     * first since it is the cheapest to evaluate. Other exception predicates follow in the order they were added.
+     */
+    @VisibleForTesting
+    static List<Predicate<Attempt<?>>> compileExceptionPredicates(List<Predicate<Attempt<?>>> exceptionPredicates) {
+        var exceptionClasses = new ArrayList<Class<? extends Exception>>();
+        var otherPredicates = new ArrayList<Predicate<Attempt<?>>>();
+        for (var predicate : exceptionPredicates) {
+            if (predicate instanceof ExceptionClassPredicate) {
+                exceptionClasses.add(((ExceptionClassPredicate) predicate).exceptionClass);
+            } else {
+                otherPredicates.add(predicate);
+            }
+        }
+
+        if (exceptionClasses.isEmpty()) {
+            return otherPredicates;
+        }
+
+        var compiledPredicates = new ArrayList<Predicate<Attempt<?>>>(otherPredicates.size() + 1);
+        compiledPredicates.add(new ExceptionClassesPredicate(exceptionClasses));
+        compiledPredicates.addAll(otherPredicates);
+        return compiledPredicates;
     }
 
     private static final class ExceptionClassPredicate implements Predicate<Attempt<?>> {
@@ -211,6 +408,45 @@ public class RetryerBuilder {
         }
     }
 
+    /**
+     * Matches exceptions that are instances of any of a set of exception classes. The outcome for each thrown
+     * exception type is computed once and cached in a {@link ClassValue}, so classification costs a single lookup
+     * regardless of how many exception classes are configured.
+     */
+    @VisibleForTesting
+    static final class ExceptionClassesPredicate implements Predicate<Attempt<?>> {
+
+        private final List<Class<? extends Exception>> exceptionClasses;
+        private final ClassValue<Boolean> retryableTypes = new ClassValue<>() {
+            @Override
+            protected Boolean computeValue(Class<?> type) {
+                return isAnyAssignableFrom(type);
+            }
+        };
+
+        ExceptionClassesPredicate(List<Class<? extends Exception>> exceptionClasses) {
+            this.exceptionClasses = List.copyOf(exceptionClasses);
+        }
+
+        @Override
+        public boolean test(Attempt<?> attempt) {
+            return attempt.hasException() && retryableTypes.get(attempt.getException().getClass());
+        }
+
+        private boolean isAnyAssignableFrom(Class<?> type) {
+            for (var i = 0; i < exceptionClasses.size(); i++) {
+                if (exceptionClasses.get(i).isAssignableFrom(type)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        List<Class<? extends Exception>> getExceptionClasses() {
+            return exceptionClasses;
+        }
+    }
+
     private static final class ResultPredicate<T> implements Predicate<Attempt<?>> {
 
         private final Predicate<T> delegate;
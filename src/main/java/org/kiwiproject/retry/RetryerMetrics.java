@@ -0,0 +1,323 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import com.google.common.base.Preconditions;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.management.JMException;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics recorded by a {@link Retryer} for all its invocations. Counters are kept in {@link LongAdder}s and
+ * attempt latencies in fixed-bucket histograms, so recording never blocks and does not allocate.
+ * <p>
+ * Use {@link #snapshot()} to read a consistent-enough copy of the metrics, or {@link #registerMBean(String)} to
+ * expose them through JMX.
+ * <p>
+ * Attempt latencies are recorded separately for each of the first {@value #TRACKED_ATTEMPT_NUMBERS} attempt numbers;
+ * later attempts are recorded in the histogram of the last tracked attempt number. The histogram buckets have upper
+ * bounds which are powers of two nanoseconds, from about one microsecond to about 69 seconds, plus an overflow bucket.
+ */
+@ThreadSafe
+public final class RetryerMetrics implements RetryerMetricsMXBean {
+
+    /**
+     * The number of attempt numbers which have their own latency histogram.
+     */
+    public static final int TRACKED_ATTEMPT_NUMBERS = 10;
+
+    private static final String OBJECT_NAME_PREFIX = "org.kiwiproject.retry:type=Retryer,name=";
+    private static final int MIN_BUCKET_EXPONENT = 10;
+    private static final int MAX_BUCKET_EXPONENT = 36;
+    private static final int BUCKET_COUNT = MAX_BUCKET_EXPONENT - MIN_BUCKET_EXPONENT + 2;
+    private static final long[] BUCKET_UPPER_BOUNDS_NANOS = bucketUpperBounds();
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder attempts = new LongAdder();
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder exhaustions = new LongAdder();
+    private final LongAdder totalSleepTimeNanos = new LongAdder();
+    private final LongAdder[] attemptLatencyCounts = newAdders(TRACKED_ATTEMPT_NUMBERS * BUCKET_COUNT);
+
+    private volatile ObjectName objectName;
+
+    RetryerMetrics() {
+    }
+
+    private static long[] bucketUpperBounds() {
+        var upperBounds = new long[BUCKET_COUNT];
+        for (var i = 0; i < BUCKET_COUNT - 1; i++) {
+            upperBounds[i] = 1L << (MIN_BUCKET_EXPONENT + i);
+        }
+        upperBounds[BUCKET_COUNT - 1] = Long.MAX_VALUE;
+        return upperBounds;
+    }
+
+    /**
+     * Creates a separate adder for each histogram bucket, so that threads recording latencies in the same bucket
+     * do not contend on a single counter, nor on the cache line shared by neighbouring counters.
+     */
+    private static LongAdder[] newAdders(int count) {
+        var adders = new LongAdder[count];
+        for (var i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /**
+     * Returns the index of the smallest bucket whose upper bound is at least the given latency.
+     */
+    static int bucketIndex(long latencyNanos) {
+        if (latencyNanos <= (1L << MIN_BUCKET_EXPONENT)) {
+            return 0;
+        }
+        var exponent = Long.SIZE - Long.numberOfLeadingZeros(latencyNanos - 1);
+        return Math.min(exponent - MIN_BUCKET_EXPONENT, BUCKET_COUNT - 1);
+    }
+
+    void recordCall() {
+        calls.increment();
+    }
+
+    void recordAttempt(int attemptNumber, long latencyNanos) {
+        attempts.increment();
+        var histogram = Math.min(Math.max(attemptNumber, 1), TRACKED_ATTEMPT_NUMBERS) - 1;
+        attemptLatencyCounts[histogram * BUCKET_COUNT + bucketIndex(latencyNanos)].increment();
+    }
+
+    void recordSuccess() {
+        successes.increment();
+    }
+
+    void recordFailure() {
+        failures.increment();
+    }
+
+    void recordExhaustion() {
+        exhaustions.increment();
+    }
+
+    void recordSleep(long sleepTimeNanos) {
+        totalSleepTimeNanos.add(sleepTimeNanos);
+    }
+
+    @Override
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    @Override
+    public long getAttempts() {
+        return attempts.sum();
+    }
+
+    @Override
+    public long getSuccesses() {
+        return successes.sum();
+    }
+
+    @Override
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    @Override
+    public long getExhaustions() {
+        return exhaustions.sum();
+    }
+
+    @Override
+    public long getTotalSleepTime() {
+        return TimeUnit.NANOSECONDS.toMillis(getTotalSleepTimeNanos());
+    }
+
+    @Override
+    public long getTotalSleepTimeNanos() {
+        return totalSleepTimeNanos.sum();
+    }
+
+    @Override
+    public long[] getLatencyBucketUpperBoundsNanos() {
+        return BUCKET_UPPER_BOUNDS_NANOS.clone();
+    }
+
+    @Override
+    public long[][] getAttemptLatencyHistograms() {
+        var histograms = new long[TRACKED_ATTEMPT_NUMBERS][BUCKET_COUNT];
+        for (var i = 0; i < TRACKED_ATTEMPT_NUMBERS; i++) {
+            for (var j = 0; j < BUCKET_COUNT; j++) {
+                histograms[i][j] = attemptLatencyCounts[i * BUCKET_COUNT + j].sum();
+            }
+        }
+        return histograms;
+    }
+
+    /**
+     * Takes a snapshot of the current metrics. The counters are read one after another while other threads may
+     * be updating them, so the snapshot is not atomic, but each value is accurate as of when it was read.
+     *
+     * @return a new snapshot
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(this);
+    }
+
+    /**
+     * Registers these metrics with the platform MBean server, using an object name of
+     * {@code org.kiwiproject.retry:type=Retryer,name=<name>}.
+     *
+     * @param name the name of the retryer, which must be unique among registered retryers and a valid
+     *             {@link ObjectName} value
+     * @return the object name the metrics were registered with
+     * @throws IllegalStateException if these metrics are already registered, or registration fails
+     */
+    public synchronized ObjectName registerMBean(@Nonnull String name) {
+        Preconditions.checkNotNull(name, "name may not be null");
+        Preconditions.checkState(objectName == null, "metrics are already registered as %s", objectName);
+
+        try {
+            var newObjectName = new ObjectName(OBJECT_NAME_PREFIX + name);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, newObjectName);
+            objectName = newObjectName;
+            return newObjectName;
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalArgumentException("invalid retryer name: " + name, e);
+        } catch (JMException e) {
+            throw new IllegalStateException("unable to register metrics for retryer " + name, e);
+        }
+    }
+
+    /**
+     * Unregisters these metrics from the platform MBean server, if they are registered.
+     *
+     * @throws IllegalStateException if unregistration fails
+     */
+    public synchronized void unregisterMBean() {
+        if (objectName == null) {
+            return;
+        }
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            objectName = null;
+        } catch (JMException e) {
+            throw new IllegalStateException("unable to unregister metrics " + objectName, e);
+        }
+    }
+
+    /**
+     * An immutable copy of the metrics of a {@link Retryer} at a point in time.
+     */
+    @Immutable
+    public static final class Snapshot {
+        private final long calls;
+        private final long attempts;
+        private final long successes;
+        private final long failures;
+        private final long exhaustions;
+        private final long totalSleepTimeNanos;
+        private final long[][] attemptLatencyHistograms;
+
+        private Snapshot(RetryerMetrics metrics) {
+            this.calls = metrics.getCalls();
+            this.attempts = metrics.getAttempts();
+            this.successes = metrics.getSuccesses();
+            this.failures = metrics.getFailures();
+            this.exhaustions = metrics.getExhaustions();
+            this.totalSleepTimeNanos = metrics.getTotalSleepTimeNanos();
+            this.attemptLatencyHistograms = metrics.getAttemptLatencyHistograms();
+        }
+
+        /**
+         * @return the number of invocations of the retryer
+         */
+        public long getCalls() {
+            return calls;
+        }
+
+        /**
+         * @return the number of attempts made
+         */
+        public long getAttempts() {
+            return attempts;
+        }
+
+        /**
+         * @return the number of invocations which returned a result
+         */
+        public long getSuccesses() {
+            return successes;
+        }
+
+        /**
+         * @return the number of invocations which failed without being retried
+         */
+        public long getFailures() {
+            return failures;
+        }
+
+        /**
+         * @return the number of invocations which gave up because another retry was not allowed
+         */
+        public long getExhaustions() {
+            return exhaustions;
+        }
+
+        /**
+         * @return the sum of all sleep times computed between attempts, in milliseconds
+         */
+        public long getTotalSleepTime() {
+            return TimeUnit.NANOSECONDS.toMillis(totalSleepTimeNanos);
+        }
+
+        /**
+         * @return the sum of all sleep times computed between attempts, in nanoseconds
+         */
+        public long getTotalSleepTimeNanos() {
+            return totalSleepTimeNanos;
+        }
+
+        /**
+         * @return the upper bound, in nanoseconds, of each bucket of the attempt latency histograms
+         */
+        public long[] getLatencyBucketUpperBoundsNanos() {
+            return BUCKET_UPPER_BOUNDS_NANOS.clone();
+        }
+
+        /**
+         * Returns the latency histogram of the given attempt number.
+         *
+         * @param attemptNumber the attempt number, starting at 1; numbers greater than
+         *                      {@link #TRACKED_ATTEMPT_NUMBERS} return the histogram which includes all later attempts
+         * @return the number of attempts in each bucket
+         * @throws IllegalArgumentException if the attempt number is less than 1
+         */
+        public long[] getAttemptLatencyHistogram(int attemptNumber) {
+            Preconditions.checkArgument(attemptNumber >= 1, "attemptNumber must be >= 1 but is %s", attemptNumber);
+            return attemptLatencyHistograms[Math.min(attemptNumber, TRACKED_ATTEMPT_NUMBERS) - 1].clone();
+        }
+    }
+}
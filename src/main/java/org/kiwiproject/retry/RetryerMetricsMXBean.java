@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+/**
+ * JMX management interface for the {@link RetryerMetrics} of a {@link Retryer}.
+ *
+ * @see RetryerMetrics#registerMBean(String)
+ */
+public interface RetryerMetricsMXBean {
+
+    /**
+     * @return the number of invocations of the retryer
+     */
+    long getCalls();
+
+    /**
+     * @return the number of attempts made, including hedged attempts only once
+     */
+    long getAttempts();
+
+    /**
+     * @return the number of invocations which returned a result
+     */
+    long getSuccesses();
+
+    /**
+     * @return the number of invocations which failed without being retried, for example because the exception
+     * thrown was not retryable, the thread was interrupted, or the circuit breaker was open
+     */
+    long getFailures();
+
+    /**
+     * @return the number of invocations which gave up because the stop strategy, retry budget, or circuit breaker
+     * did not allow another retry
+     */
+    long getExhaustions();
+
+    /**
+     * @return the sum of all sleep times computed between attempts, in milliseconds
+     */
+    long getTotalSleepTime();
+
+    /**
+     * @return the sum of all sleep times computed between attempts, in nanoseconds
+     */
+    long getTotalSleepTimeNanos();
+
+    /**
+     * @return the upper bound, in nanoseconds, of each bucket of the attempt latency histograms
+     */
+    long[] getLatencyBucketUpperBoundsNanos();
+
+    /**
+     * @return the attempt latency histogram for each attempt number, indexed by attempt number minus one; the last
+     * histogram includes all later attempts
+     */
+    long[][] getAttemptLatencyHistograms();
+}
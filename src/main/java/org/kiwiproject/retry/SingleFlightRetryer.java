@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collapses concurrent calls for the same key into a single call of a {@link Retryer}, so that when many threads
+ * need the same thing from a failing service, one retry sequence is made for each key rather than one for each
+ * thread.
+ * <p>
+ * The first thread to call with a key makes the call, retrying as configured, on its own thread. Threads which
+ * call with the same key while that call is in flight do not call their own callable; they wait for the call in
+ * flight and receive its result, or the same {@link RetryException} or runtime exception. Once the call
+ * completes, the key is removed, so the next call with it starts a new call. If the thread making the call is
+ * interrupted, one of the waiting threads makes a new call instead, since they were not interrupted themselves.
+ * <p>
+ * The calls for a key must all return the same type, since any of them may receive the result of another.
+ *
+ * @param <K> the type of the keys
+ */
+@ThreadSafe
+public final class SingleFlightRetryer<K> {
+
+    private final Retryer retryer;
+    private final ConcurrentMap<K, CompletableFuture<Object>> callsInFlight = new ConcurrentHashMap<>();
+    private final LongAdder collapsedCallCount = new LongAdder();
+
+    /**
+     * @param retryer the retryer used to make each call
+     */
+    public SingleFlightRetryer(@Nonnull Retryer retryer) {
+        this.retryer = checkNotNull(retryer, "retryer may not be null");
+    }
+
+    /**
+     * Calls the given callable using the retryer, unless a call with the same key is already in flight, in which
+     * case waits for that call to complete instead.
+     *
+     * @param key      identifies the calls which return the same thing
+     * @param callable the callable task to be executed, if no call with the same key is in flight
+     * @param <T>      the return type of the Callable
+     * @return the computed result of the call
+     * @throws RetryException       if all the attempts of the call failed before the stop strategy decided to abort
+     * @throws InterruptedException if this thread is interrupted while making the call or waiting for it
+     * @see Retryer#call(Callable)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T call(@Nonnull K key, @Nonnull Callable<T> callable) throws RetryException, InterruptedException {
+        checkNotNull(key, "key may not be null");
+        checkNotNull(callable, "callable may not be null");
+
+        while (true) {
+            var call = new CompletableFuture<>();
+            var callInFlight = callsInFlight.putIfAbsent(key, call);
+            if (callInFlight == null) {
+                return makeCall(key, callable, call);
+            }
+
+            collapsedCallCount.increment();
+            try {
+                return (T) callInFlight.get();
+            } catch (ExecutionException e) {
+                var cause = e.getCause();
+                if (cause instanceof InterruptedException) {
+                    // the thread making the call was interrupted, but this one was not, so try again
+                    continue;
+                }
+                throw rethrow(cause);
+            }
+        }
+    }
+
+    private <T> T makeCall(K key, Callable<T> callable, CompletableFuture<Object> call)
+            throws RetryException, InterruptedException {
+
+        T result;
+        try {
+            result = retryer.call(callable);
+        } catch (Throwable t) {
+            // remove before completing, so that no caller joins a call which has already failed
+            callsInFlight.remove(key, call);
+            call.completeExceptionally(t);
+            throw t;
+        }
+
+        callsInFlight.remove(key, call);
+        call.complete(result);
+        return result;
+    }
+
+    private static RuntimeException rethrow(Throwable cause) throws RetryException {
+        if (cause instanceof RetryException) {
+            throw (RetryException) cause;
+        } else if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        } else if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        // Retryer#call does not throw any other checked exception
+        throw new IllegalStateException(cause);
+    }
+
+    /**
+     * @return the number of keys with a call in flight
+     */
+    public int getCallsInFlightCount() {
+        return callsInFlight.size();
+    }
+
+    /**
+     * @return the number of calls which waited for a call in flight instead of making their own
+     */
+    public long getCollapsedCallCount() {
+        return collapsedCallCount.sum();
+    }
+}
@@ -22,7 +22,10 @@ import com.google.common.base.Preconditions;
 
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Factory class for {@link StopStrategy} instances.
@@ -67,7 +70,55 @@ public final class StopStrategies {
      */
     public static StopStrategy stopAfterDelay(long duration, @Nonnull TimeUnit timeUnit) {
         Preconditions.checkNotNull(timeUnit, "The time unit may not be null");
-        return new StopAfterDelayStrategy(timeUnit.toMillis(duration));
+        return new StopAfterDelayStrategy(duration, timeUnit);
+    }
+
+    /**
+     * Returns a stop strategy which stops after the given delay has elapsed since the first attempt,
+     * compared with nanosecond precision.
+     *
+     * @param duration the delay, starting from first attempt
+     * @return a stop strategy which stops after {@code duration} has elapsed
+     * @throws IllegalArgumentException if the duration is &lt; 0
+     */
+    public static StopStrategy stopAfterDelay(@Nonnull Duration duration) {
+        Preconditions.checkNotNull(duration, "The duration may not be null");
+        return new StopAfterDelayStrategy(duration.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns a stop strategy which, like {@link #stopAfterDelay(long, TimeUnit)}, stops once the given delay
+     * has elapsed since the first attempt, but which also stops early if the next attempt is not expected to
+     * finish before then. The next attempt is skipped when the time remaining, less the sleep time before it, is
+     * less than the expected duration of an attempt, saving the called service work whose result would come
+     * too late to be used.
+     * <p>
+     * The expected duration is an exponentially weighted moving average of the durations of failed attempts,
+     * which is shared by every call of the retryers using the returned strategy, so that a call can be stopped
+     * early based on what previous calls have seen. The first duration recorded seeds the average.
+     *
+     * @param duration the delay, starting from first attempt
+     * @param timeUnit the unit of the duration
+     * @return a stop strategy which stops when the next attempt cannot finish within {@code duration}
+     * @throws IllegalArgumentException if the duration is &lt; 0
+     */
+    public static StopStrategy stopIfNextAttemptExceedsDelay(long duration, @Nonnull TimeUnit timeUnit) {
+        Preconditions.checkNotNull(timeUnit, "The time unit may not be null");
+        return new PredictiveStopAfterDelayStrategy(duration, timeUnit);
+    }
+
+    /**
+     * Returns a stop strategy which stops once the given delay has elapsed since the first attempt, or earlier if
+     * the next attempt is not expected to finish before then.
+     *
+     * @param duration the delay, starting from first attempt
+     * @return a stop strategy which stops when the next attempt cannot finish within {@code duration}
+     * @throws IllegalArgumentException if the duration is &lt; 0
+     * @see #stopIfNextAttemptExceedsDelay(long, TimeUnit)
+     */
+    public static StopStrategy stopIfNextAttemptExceedsDelay(@Nonnull Duration duration) {
+        Preconditions.checkNotNull(duration, "The duration may not be null");
+        return new PredictiveStopAfterDelayStrategy(duration.toNanos(), TimeUnit.NANOSECONDS);
     }
 
     @Immutable
@@ -95,16 +146,60 @@ public final class StopStrategies {
 
     @Immutable
     private static final class StopAfterDelayStrategy implements StopStrategy {
-        private final long maxDelay;
+        private final long maxDelayNanos;
 
-        StopAfterDelayStrategy(long maxDelay) {
+        StopAfterDelayStrategy(long maxDelay, TimeUnit unit) {
             Preconditions.checkArgument(maxDelay >= 0L, "maxDelay must be >= 0 but is %s", maxDelay);
-            this.maxDelay = maxDelay;
+            this.maxDelayNanos = unit.toNanos(maxDelay);
         }
 
         @Override
         public boolean shouldStop(Attempt<?> failedAttempt) {
-            return failedAttempt.getDelaySinceFirstAttempt() >= maxDelay;
+            return failedAttempt.getDelaySinceFirstAttemptNanos() >= maxDelayNanos;
+        }
+    }
+
+    @ThreadSafe
+    private static final class PredictiveStopAfterDelayStrategy implements ContextualStopStrategy {
+        private static final double SMOOTHING_FACTOR = 0.25;
+        private static final long NO_ESTIMATE = -1L;
+
+        private final long maxDelayNanos;
+        private final AtomicLong expectedAttemptDurationNanos = new AtomicLong(NO_ESTIMATE);
+
+        PredictiveStopAfterDelayStrategy(long maxDelay, TimeUnit unit) {
+            Preconditions.checkArgument(maxDelay >= 0L, "maxDelay must be >= 0 but is %s", maxDelay);
+            this.maxDelayNanos = unit.toNanos(maxDelay);
+        }
+
+        @Override
+        public boolean shouldStop(Attempt<?> failedAttempt, RetryContext context) {
+            var remainingNanos = maxDelayNanos - failedAttempt.getDelaySinceFirstAttemptNanos();
+            if (remainingNanos <= 0L) {
+                return true;
+            }
+
+            var expectedNanos = updateExpectedAttemptDuration(context.getLastAttemptDurationNanos());
+            return remainingNanos - context.getNextSleepTimeNanos() < expectedNanos;
+        }
+
+        /**
+         * Adds the given attempt duration, if there is one, to the moving average, and returns the new average.
+         */
+        private long updateExpectedAttemptDuration(long attemptDurationNanos) {
+            if (attemptDurationNanos <= 0L) {
+                var expectedNanos = expectedAttemptDurationNanos.get();
+                return (expectedNanos == NO_ESTIMATE) ? 0L : expectedNanos;
+            }
+
+            while (true) {
+                var currentNanos = expectedAttemptDurationNanos.get();
+                var updatedNanos = (currentNanos == NO_ESTIMATE) ? attemptDurationNanos :
+                        currentNanos + Math.round(SMOOTHING_FACTOR * (attemptDurationNanos - currentNanos));
+                if (expectedAttemptDurationNanos.compareAndSet(currentNanos, updatedNanos)) {
+                    return updatedNanos;
+                }
+            }
         }
     }
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import com.google.common.base.Ticker;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link ScheduledExecutorService} which runs tasks in virtual time, on the thread which calls
+ * {@link #runUntil(long)}. Scheduling a task never waits. Instead, tasks run in the order they are due, and
+ * the time read from the {@link #ticker() ticker} jumps to when each task is due before it runs. Tasks due at
+ * the same time run in the order they were scheduled, so a run is deterministic.
+ * <p>
+ * Periodic tasks are not supported.
+ */
+@NotThreadSafe
+final class VirtualTimeScheduler extends AbstractExecutorService implements ScheduledExecutorService {
+
+    private final PriorityQueue<VirtualTask<?>> tasks = new PriorityQueue<>();
+    private final Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return nowNanos;
+        }
+    };
+    private long nowNanos;
+    private long sequence;
+    private boolean shutdown;
+
+    /**
+     * @return a ticker which reads the virtual time of this scheduler
+     */
+    Ticker ticker() {
+        return ticker;
+    }
+
+    /**
+     * Runs the tasks which are due up to the given virtual time, including tasks scheduled by those tasks,
+     * and then advances the virtual time to the given time.
+     *
+     * @param timeNanos the virtual time to run until, in nanoseconds
+     * @return the number of tasks which are still scheduled
+     */
+    int runUntil(long timeNanos) {
+        VirtualTask<?> task;
+        while ((task = tasks.peek()) != null && task.timeNanos <= timeNanos) {
+            tasks.poll();
+            nowNanos = task.timeNanos;
+            task.run();
+        }
+        nowNanos = Math.max(nowNanos, timeNanos);
+        return tasks.size();
+    }
+
+    /**
+     * Discards all the scheduled tasks, and sets the virtual time back to zero.
+     */
+    void reset() {
+        tasks.clear();
+        nowNanos = 0L;
+        sequence = 0L;
+        shutdown = false;
+    }
+
+    @Override
+    public void execute(@Nonnull Runnable command) {
+        schedule(command, 0L, TimeUnit.NANOSECONDS);
+    }
+
+    @Nonnull
+    @Override
+    public ScheduledFuture<?> schedule(@Nonnull Runnable command, long delay, @Nonnull TimeUnit unit) {
+        return schedule(Executors.callable(command), delay, unit);
+    }
+
+    @Nonnull
+    @Override
+    public <V> ScheduledFuture<V> schedule(@Nonnull Callable<V> callable, long delay, @Nonnull TimeUnit unit) {
+        if (shutdown) {
+            throw new RejectedExecutionException("scheduler has been shut down");
+        }
+        var task = new VirtualTask<>(callable, nowNanos + Math.max(0L, unit.toNanos(delay)), sequence++);
+        tasks.add(task);
+        return task;
+    }
+
+    @Nonnull
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(@Nonnull Runnable command,
+                                                  long initialDelay,
+                                                  long period,
+                                                  @Nonnull TimeUnit unit) {
+        throw new UnsupportedOperationException("periodic tasks are not supported");
+    }
+
+    @Nonnull
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(@Nonnull Runnable command,
+                                                     long initialDelay,
+                                                     long delay,
+                                                     @Nonnull TimeUnit unit) {
+        throw new UnsupportedOperationException("periodic tasks are not supported");
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+    }
+
+    @Nonnull
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        var pending = new ArrayList<Runnable>(tasks);
+        tasks.clear();
+        return pending;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && tasks.isEmpty();
+    }
+
+    /**
+     * Virtual time does not pass while waiting, so this only reports whether the scheduler has terminated.
+     */
+    @Override
+    public boolean awaitTermination(long timeout, @Nonnull TimeUnit unit) {
+        return isTerminated();
+    }
+
+    private final class VirtualTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+        private final long timeNanos;
+        private final long sequence;
+
+        VirtualTask(Callable<V> callable, long timeNanos, long sequence) {
+            super(callable);
+            this.timeNanos = timeNanos;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return false;
+        }
+
+        @Override
+        public long getDelay(@Nonnull TimeUnit unit) {
+            return unit.convert(timeNanos - nowNanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(@Nonnull Delayed other) {
+            if (other instanceof VirtualTask) {
+                var otherTask = (VirtualTask<?>) other;
+                var result = Long.compare(timeNanos, otherTask.timeNanos);
+                return (result == 0) ? Long.compare(sequence, otherTask.sequence) : result;
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -22,21 +22,29 @@ import com.google.common.base.Preconditions;
 
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.Immutable;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.IntToLongFunction;
 
 /**
  * Factory class for instances of {@link WaitStrategy}.
  */
 public final class WaitStrategies {
 
-    private static final WaitStrategy NO_WAIT_STRATEGY = new FixedWaitStrategy(0L);
+    private static final WaitStrategy NO_WAIT_STRATEGY = new FixedWaitStrategy(0L, TimeUnit.NANOSECONDS);
     private static final String MAX_TIME_UNIT_MUST_BE_NON_NULL = "The maximum time unit may not be null";
 
+    /**
+     * The maximum number of sleep times precomputed by the exponential and Fibonacci strategies. Sleep times for
+     * attempts beyond this are calculated on demand (or are simply the maximum wait, once it has been reached).
+     */
+    private static final int MAX_PRECOMPUTED_ATTEMPTS = 1_024;
+
     private WaitStrategies() {
     }
 
@@ -59,7 +67,19 @@ public final class WaitStrategies {
      */
     public static WaitStrategy fixedWait(long sleepTime, @Nonnull TimeUnit timeUnit) {
         Preconditions.checkNotNull(timeUnit, "The time unit may not be null");
-        return new FixedWaitStrategy(timeUnit.toMillis(sleepTime));
+        return new FixedWaitStrategy(sleepTime, timeUnit);
+    }
+
+    /**
+     * Returns a wait strategy that sleeps a fixed amount of time before retrying, with nanosecond precision.
+     *
+     * @param sleepTime the time to sleep
+     * @return a wait strategy that sleeps a fixed amount of time
+     * @throws IllegalArgumentException if the sleep time is &lt; 0
+     */
+    public static WaitStrategy fixedWait(@Nonnull Duration sleepTime) {
+        Preconditions.checkNotNull(sleepTime, "The sleep time may not be null");
+        return new FixedWaitStrategy(sleepTime.toNanos(), TimeUnit.NANOSECONDS);
     }
 
     /**
@@ -68,11 +88,11 @@ public final class WaitStrategies {
      * @param maximumTime the maximum time to sleep
      * @param timeUnit    the unit of the maximum time
      * @return a wait strategy with a random wait time
-     * @throws IllegalStateException if the maximum sleep time is &lt;= 0.
+     * @throws IllegalArgumentException if the maximum sleep time is &lt;= 0.
      */
     public static WaitStrategy randomWait(long maximumTime, @Nonnull TimeUnit timeUnit) {
         Preconditions.checkNotNull(timeUnit, "The time unit may not be null");
-        return new RandomWaitStrategy(0L, timeUnit.toMillis(maximumTime));
+        return new RandomWaitStrategy(0L, maximumTime, timeUnit);
     }
 
     /**
@@ -83,8 +103,8 @@ public final class WaitStrategies {
      * @param maximumTime     the maximum time to sleep
      * @param maximumTimeUnit the unit of the maximum time
      * @return a wait strategy with a random wait time
-     * @throws IllegalStateException if the minimum sleep time is &lt; 0, or if the
-     *                               maximum sleep time is less than (or equals to) the minimum.
+     * @throws IllegalArgumentException if the minimum sleep time is &lt; 0, or if the
+     *                                  maximum sleep time is less than (or equals to) the minimum.
      */
     public static WaitStrategy randomWait(long minimumTime,
                                           @Nonnull TimeUnit minimumTimeUnit,
@@ -92,8 +112,24 @@ public final class WaitStrategies {
                                           @Nonnull TimeUnit maximumTimeUnit) {
         Preconditions.checkNotNull(minimumTimeUnit, "The minimum time unit may not be null");
         Preconditions.checkNotNull(maximumTimeUnit, MAX_TIME_UNIT_MUST_BE_NON_NULL);
-        return new RandomWaitStrategy(minimumTimeUnit.toMillis(minimumTime),
-                maximumTimeUnit.toMillis(maximumTime));
+        var unit = finerOf(minimumTimeUnit, maximumTimeUnit);
+        return new RandomWaitStrategy(unit.convert(minimumTime, minimumTimeUnit),
+                unit.convert(maximumTime, maximumTimeUnit), unit);
+    }
+
+    /**
+     * Returns a strategy that sleeps a random amount of time before retrying, with nanosecond precision.
+     *
+     * @param minimumTime the minimum time to sleep
+     * @param maximumTime the maximum time to sleep
+     * @return a wait strategy with a random wait time
+     * @throws IllegalArgumentException if the minimum sleep time is &lt; 0, or if the
+     *                                  maximum sleep time is less than (or equals to) the minimum.
+     */
+    public static WaitStrategy randomWait(@Nonnull Duration minimumTime, @Nonnull Duration maximumTime) {
+        Preconditions.checkNotNull(minimumTime, "The minimum time may not be null");
+        Preconditions.checkNotNull(maximumTime, "The maximum time may not be null");
+        return new RandomWaitStrategy(minimumTime.toNanos(), maximumTime.toNanos(), TimeUnit.NANOSECONDS);
     }
 
     /**
@@ -113,8 +149,32 @@ public final class WaitStrategies {
                                                 @Nonnull TimeUnit incrementTimeUnit) {
         Preconditions.checkNotNull(initialSleepTimeUnit, "The initial sleep time unit may not be null");
         Preconditions.checkNotNull(incrementTimeUnit, "The increment time unit may not be null");
-        return new IncrementingWaitStrategy(initialSleepTimeUnit.toMillis(initialSleepTime),
-                incrementTimeUnit.toMillis(increment));
+        var unit = finerOf(initialSleepTimeUnit, incrementTimeUnit);
+        return new IncrementingWaitStrategy(unit.convert(initialSleepTime, initialSleepTimeUnit),
+                unit.convert(increment, incrementTimeUnit), unit);
+    }
+
+    /**
+     * Returns a strategy that sleeps a fixed amount of time after the first
+     * failed attempt and in incrementing amounts of time after each additional
+     * failed attempt, with nanosecond precision.
+     *
+     * @param initialSleepTime the time to sleep before retrying the first time
+     * @param increment        the increment added to the previous sleep time after each failed attempt
+     * @return a wait strategy that incrementally sleeps an additional fixed time after each failed attempt
+     * @throws IllegalArgumentException if the initial sleep time is &lt; 0
+     */
+    public static WaitStrategy incrementingWait(@Nonnull Duration initialSleepTime, @Nonnull Duration increment) {
+        Preconditions.checkNotNull(initialSleepTime, "The initial sleep time may not be null");
+        Preconditions.checkNotNull(increment, "The increment may not be null");
+        return new IncrementingWaitStrategy(initialSleepTime.toNanos(), increment.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns whichever of the given units is finer, so that converting to it does not lose precision.
+     */
+    private static TimeUnit finerOf(TimeUnit unit1, TimeUnit unit2) {
+        return (unit1.compareTo(unit2) <= 0) ? unit1 : unit2;
     }
 
     /**
@@ -124,7 +184,7 @@ public final class WaitStrategies {
      * @return a wait strategy that increments with each failed attempt using exponential backoff
      */
     public static WaitStrategy exponentialWait() {
-        return new ExponentialWaitStrategy(1, Long.MAX_VALUE);
+        return new ExponentialWaitStrategy(2.0, 1, Long.MAX_VALUE);
     }
 
     /**
@@ -138,7 +198,7 @@ public final class WaitStrategies {
     public static WaitStrategy exponentialWait(long maximumTime,
                                                @Nonnull TimeUnit maximumTimeUnit) {
         Preconditions.checkNotNull(maximumTimeUnit, MAX_TIME_UNIT_MUST_BE_NON_NULL);
-        return new ExponentialWaitStrategy(1, maximumTimeUnit.toMillis(maximumTime));
+        return new ExponentialWaitStrategy(2.0, 1, maximumTimeUnit.toMillis(maximumTime));
     }
 
     /**
@@ -156,7 +216,27 @@ public final class WaitStrategies {
                                                long maximumTime,
                                                @Nonnull TimeUnit maximumTimeUnit) {
         Preconditions.checkNotNull(maximumTimeUnit, MAX_TIME_UNIT_MUST_BE_NON_NULL);
-        return new ExponentialWaitStrategy(multiplier, maximumTimeUnit.toMillis(maximumTime));
+        return new ExponentialWaitStrategy(2.0, multiplier, maximumTimeUnit.toMillis(maximumTime));
+    }
+
+    /**
+     * Returns a strategy which sleeps for an exponential amount of time after the first failed attempt,
+     * and in exponentially incrementing amounts after each failed attempt up to the maximumTime.
+     * The growth factor of the wait time is controlled by the base, which need not be an integer.
+     * nextWaitTime = {@code base}<sup>attemptNumber</sup> * {@code multiplier}.
+     *
+     * @param base            the growth factor applied after each failed attempt; must be greater than 1
+     * @param multiplier      multiply the wait time calculated by this
+     * @param maximumTime     the maximum time to sleep
+     * @param maximumTimeUnit the unit of the maximum time
+     * @return a wait strategy that increments with each failed attempt using exponential backoff
+     */
+    public static WaitStrategy exponentialWait(double base,
+                                               long multiplier,
+                                               long maximumTime,
+                                               @Nonnull TimeUnit maximumTimeUnit) {
+        Preconditions.checkNotNull(maximumTimeUnit, MAX_TIME_UNIT_MUST_BE_NON_NULL);
+        return new ExponentialWaitStrategy(base, multiplier, maximumTimeUnit.toMillis(maximumTime));
     }
 
     /**
@@ -201,6 +281,65 @@ public final class WaitStrategies {
         return new FibonacciWaitStrategy(multiplier, maximumTimeUnit.toMillis(maximumTime));
     }
 
+    /**
+     * Returns a strategy which sleeps for a random amount of time between zero and an exponentially increasing
+     * ceiling, which is capped at the {@code maximumTime}. This is "full jitter" and spreads out retries from
+     * many clients that failed at the same time more than any other jitter strategy.
+     * sleepTime = random(0, min(maximumTime, {@code multiplier} * 2<sup>attemptNumber</sup>)).
+     *
+     * @param multiplier      multiply the exponential ceiling by this
+     * @param maximumTime     the maximum time to sleep
+     * @param maximumTimeUnit the unit of the maximum time
+     * @return a wait strategy that sleeps a random time up to an exponentially increasing ceiling
+     */
+    public static WaitStrategy fullJitterWait(long multiplier,
+                                              long maximumTime,
+                                              @Nonnull TimeUnit maximumTimeUnit) {
+        Preconditions.checkNotNull(maximumTimeUnit, MAX_TIME_UNIT_MUST_BE_NON_NULL);
+        return new FullJitterWaitStrategy(multiplier, maximumTimeUnit.toMillis(maximumTime));
+    }
+
+    /**
+     * Returns a strategy which sleeps for half of an exponentially increasing time, which is capped at the
+     * {@code maximumTime}, plus a random amount of time up to the other half. This is "equal jitter" and
+     * guarantees some backoff after every failed attempt, at the cost of less spreading than full jitter.
+     * sleepTime = ceiling / 2 + random(0, ceiling / 2), where
+     * ceiling = min(maximumTime, {@code multiplier} * 2<sup>attemptNumber</sup>).
+     *
+     * @param multiplier      multiply the exponential ceiling by this
+     * @param maximumTime     the maximum time to sleep
+     * @param maximumTimeUnit the unit of the maximum time
+     * @return a wait strategy that sleeps at least half of an exponentially increasing ceiling
+     */
+    public static WaitStrategy equalJitterWait(long multiplier,
+                                               long maximumTime,
+                                               @Nonnull TimeUnit maximumTimeUnit) {
+        Preconditions.checkNotNull(maximumTimeUnit, MAX_TIME_UNIT_MUST_BE_NON_NULL);
+        return new EqualJitterWaitStrategy(multiplier, maximumTimeUnit.toMillis(maximumTime));
+    }
+
+    /**
+     * Returns a strategy which sleeps for a random amount of time between the {@code multiplier} and three times
+     * the previous sleep time, capped at the {@code maximumTime}. This is "decorrelated jitter", which keeps sleep
+     * times of different clients from moving in lockstep.
+     * sleepTime = random({@code multiplier}, min(maximumTime, previousSleepTime * 3)).
+     * <p>
+     * The returned strategy is a {@link ContextualWaitStrategy}. When used without a {@link RetryContext}, the
+     * previous sleep time is unknown, and the ceiling is {@code multiplier} * 3<sup>attemptNumber</sup> instead.
+     *
+     * @param multiplier      the minimum time to sleep in milliseconds, which is also multiplied by the growth
+     *                        factor to compute the ceiling
+     * @param maximumTime     the maximum time to sleep
+     * @param maximumTimeUnit the unit of the maximum time
+     * @return a wait strategy that sleeps a random time between a minimum and a growing ceiling
+     */
+    public static WaitStrategy decorrelatedJitterWait(long multiplier,
+                                                      long maximumTime,
+                                                      @Nonnull TimeUnit maximumTimeUnit) {
+        Preconditions.checkNotNull(maximumTimeUnit, MAX_TIME_UNIT_MUST_BE_NON_NULL);
+        return new DecorrelatedJitterWaitStrategy(multiplier, maximumTimeUnit.toMillis(maximumTime));
+    }
+
     /**
      * Returns a strategy which sleeps for an amount of time based on the Exception that occurred. The
      * {@code function} determines how the sleep time should be calculated for the given
@@ -221,6 +360,8 @@ public final class WaitStrategies {
     /**
      * Joins one or more wait strategies to derive a composite wait strategy.
      * The new joined strategy will have a wait time which is total of all wait times computed one after another in order.
+     * If any of the strategies is a {@link ContextualWaitStrategy}, so is the composite, and it passes the
+     * {@link RetryContext} through to them.
      *
      * @param waitStrategies Wait strategies that need to be applied one after another for computing the sleep time.
      * @return A composite wait strategy
@@ -229,97 +370,134 @@ public final class WaitStrategies {
         Preconditions.checkState(waitStrategies.length > 0, "Must have at least one wait strategy");
         List<WaitStrategy> waitStrategyList = new ArrayList<>(Arrays.asList(waitStrategies));
         Preconditions.checkState(!waitStrategyList.contains(null), "Cannot have a null wait strategy");
+        if (waitStrategyList.stream().anyMatch(ContextualWaitStrategy.class::isInstance)) {
+            return new ContextualCompositeWaitStrategy(waitStrategyList);
+        }
         return new CompositeWaitStrategy(waitStrategyList);
     }
 
     @Immutable
     private static final class FixedWaitStrategy implements WaitStrategy {
-        private final long sleepTime;
+        private final long sleepTimeNanos;
 
-        FixedWaitStrategy(long sleepTime) {
+        FixedWaitStrategy(long sleepTime, TimeUnit unit) {
             Preconditions.checkArgument(sleepTime >= 0L, "sleepTime must be >= 0 but is %s", sleepTime);
-            this.sleepTime = sleepTime;
+            this.sleepTimeNanos = unit.toNanos(sleepTime);
         }
 
         @Override
         public long computeSleepTime(Attempt<?> failedAttempt) {
-            return sleepTime;
+            return TimeUnit.NANOSECONDS.toMillis(sleepTimeNanos);
+        }
+
+        @Override
+        public long computeSleepTimeNanos(Attempt<?> failedAttempt) {
+            return sleepTimeNanos;
         }
     }
 
     @Immutable
     private static final class RandomWaitStrategy implements WaitStrategy {
-        private static final Random RANDOM = new Random();
-        private static final long MIN_LONG_PLUS_ONE = Long.MIN_VALUE + 1;
-        private final long minimum;
-        private final long maximum;
+        private final long minimumNanos;
+        private final long maximumNanos;
 
-        RandomWaitStrategy(long minimum, long maximum) {
+        RandomWaitStrategy(long minimum, long maximum, TimeUnit unit) {
             Preconditions.checkArgument(minimum >= 0, "minimum must be >= 0 but is %s", minimum);
             Preconditions.checkArgument(maximum > minimum,
                     "maximum must be > minimum but maximum is %s and minimum is %s", maximum, minimum);
 
-            this.minimum = minimum;
-            this.maximum = maximum;
+            this.minimumNanos = unit.toNanos(minimum);
+            this.maximumNanos = unit.toNanos(maximum);
         }
 
         @Override
         public long computeSleepTime(Attempt<?> failedAttempt) {
-            long randomMillis = randomPositiveLong() % (maximum - minimum);
-            return randomMillis + minimum;
+            return TimeUnit.NANOSECONDS.toMillis(computeSleepTimeNanos(failedAttempt));
         }
 
-        /*
-         Sonar rule java:S2676 states:
-         "Neither Math.abs nor negation should be used on numbers that could be MIN_VALUE"
-
-         Math.abs(Long.MIN_VALUE) returns Long.MIN_VALUE (and is thus negative). As a result, this
-         method never returns Long.MIN_VALUE to ensure the Math.abs always returns a positive number.
-        */
-        private static long randomPositiveLong() {
-            var aLong = RANDOM.nextLong();
-            var rand = (aLong == Long.MIN_VALUE) ? MIN_LONG_PLUS_ONE : aLong;
-            return Math.abs(rand);
+        @Override
+        public long computeSleepTimeNanos(Attempt<?> failedAttempt) {
+            return ThreadLocalRandom.current().nextLong(minimumNanos, maximumNanos);
         }
     }
 
     @Immutable
     private static final class IncrementingWaitStrategy implements WaitStrategy {
-        private final long initialSleepTime;
-        private final long increment;
+        private final long initialSleepTimeNanos;
+        private final long incrementNanos;
 
         IncrementingWaitStrategy(long initialSleepTime,
-                                 long increment) {
+                                 long increment,
+                                 TimeUnit unit) {
             Preconditions.checkArgument(initialSleepTime >= 0L, "initialSleepTime must be >= 0 but is %s", initialSleepTime);
-            this.initialSleepTime = initialSleepTime;
-            this.increment = increment;
+            this.initialSleepTimeNanos = unit.toNanos(initialSleepTime);
+            this.incrementNanos = unit.toNanos(increment);
         }
 
         @Override
         public long computeSleepTime(Attempt<?> failedAttempt) {
-            long result = initialSleepTime + (increment * (failedAttempt.getAttemptNumber() - 1));
+            return TimeUnit.NANOSECONDS.toMillis(computeSleepTimeNanos(failedAttempt));
+        }
+
+        @Override
+        public long computeSleepTimeNanos(Attempt<?> failedAttempt) {
+            long result = initialSleepTimeNanos + (incrementNanos * (failedAttempt.getAttemptNumber() - 1));
             return Math.max(result, 0L);
         }
     }
 
+    /**
+     * Precomputes the sleep time for each attempt number, using the given function, until either the sleep time
+     * reaches {@code maximumWait} or {@link #MAX_PRECOMPUTED_ATTEMPTS} entries have been computed. The function
+     * must return non-decreasing values capped at {@code maximumWait}.
+     */
+    private static long[] precomputeSleepTimes(long maximumWait, IntToLongFunction sleepTimeFunction) {
+        var sleepTimes = new long[MAX_PRECOMPUTED_ATTEMPTS];
+        var size = 0;
+        while (size < MAX_PRECOMPUTED_ATTEMPTS) {
+            var sleepTime = sleepTimeFunction.applyAsLong(size);
+            sleepTimes[size++] = sleepTime;
+            if (sleepTime >= maximumWait) {
+                break;
+            }
+        }
+        return Arrays.copyOf(sleepTimes, size);
+    }
+
     @Immutable
     private static final class ExponentialWaitStrategy implements WaitStrategy {
+        private final double base;
         private final long multiplier;
         private final long maximumWait;
+        private final long[] sleepTimes;
+        private final boolean saturated;
 
-        ExponentialWaitStrategy(long multiplier,
+        ExponentialWaitStrategy(double base,
+                                long multiplier,
                                 long maximumWait) {
+            Preconditions.checkArgument(base > 1.0 && Double.isFinite(base), "base must be > 1 but is %s", base);
             Preconditions.checkArgument(multiplier > 0L, "multiplier must be > 0 but is %s", multiplier);
             Preconditions.checkArgument(maximumWait >= 0L, "maximumWait must be >= 0 but is %s", maximumWait);
             Preconditions.checkArgument(multiplier < maximumWait,
                     "multiplier must be < maximumWait (%s) but is %s", maximumWait, multiplier);
+            this.base = base;
             this.multiplier = multiplier;
             this.maximumWait = maximumWait;
+            this.sleepTimes = precomputeSleepTimes(maximumWait, this::calculateSleepTime);
+            this.saturated = sleepTimes[sleepTimes.length - 1] >= maximumWait;
         }
 
         @Override
         public long computeSleepTime(Attempt<?> failedAttempt) {
-            double exp = Math.pow(2, failedAttempt.getAttemptNumber());
+            var attemptNumber = failedAttempt.getAttemptNumber();
+            if (attemptNumber < sleepTimes.length) {
+                return sleepTimes[attemptNumber];
+            }
+            return saturated ? maximumWait : calculateSleepTime(attemptNumber);
+        }
+
+        private long calculateSleepTime(int attemptNumber) {
+            double exp = Math.pow(base, attemptNumber);
             long result = Math.round(multiplier * exp);
             if (result > maximumWait) {
                 result = maximumWait;
@@ -330,45 +508,118 @@ public final class WaitStrategies {
 
     @Immutable
     private static final class FibonacciWaitStrategy implements WaitStrategy {
-        private final long multiplier;
+
+        /**
+         * The Fibonacci numbers that fit in a long; F(93) and beyond overflow.
+         */
+        private static final long[] FIBONACCI = fibonacciNumbers(93);
+
         private final long maximumWait;
+        private final long[] sleepTimes;
 
         FibonacciWaitStrategy(long multiplier, long maximumWait) {
             Preconditions.checkArgument(multiplier > 0L, "multiplier must be > 0 but is %s", multiplier);
             Preconditions.checkArgument(maximumWait >= 0L, "maximumWait must be >= 0 but is %s", maximumWait);
             Preconditions.checkArgument(multiplier < maximumWait,
                     "multiplier must be < maximumWait (%s) but is %s", maximumWait, multiplier);
-            this.multiplier = multiplier;
             this.maximumWait = maximumWait;
+            this.sleepTimes = precomputeFibonacciSleepTimes(multiplier, maximumWait);
+        }
+
+        private static long[] precomputeFibonacciSleepTimes(long multiplier, long maximumWait) {
+            return precomputeSleepTimes(maximumWait, n -> {
+                if (n >= FIBONACCI.length || FIBONACCI[n] > maximumWait / multiplier) {
+                    return maximumWait;
+                }
+                return Math.min(FIBONACCI[n] * multiplier, maximumWait);
+            });
         }
 
         @Override
         public long computeSleepTime(Attempt<?> failedAttempt) {
-            long fib = fib(failedAttempt.getAttemptNumber());
-            long result = multiplier * fib;
+            var attemptNumber = failedAttempt.getAttemptNumber();
+            return attemptNumber < sleepTimes.length ? sleepTimes[attemptNumber] : maximumWait;
+        }
 
-            if (result > maximumWait || result < 0L) {
-                result = maximumWait;
+        private static long[] fibonacciNumbers(int count) {
+            var fibonacci = new long[count];
+            fibonacci[1] = 1L;
+            for (var i = 2; i < count; i++) {
+                fibonacci[i] = fibonacci[i - 1] + fibonacci[i - 2];
             }
+            return fibonacci;
+        }
+    }
 
-            return Math.max(result, 0L);
+    /**
+     * Returns a random value between {@code minimum} and {@code maximum}, both inclusive, without contending with
+     * other threads for a shared random number generator.
+     */
+    private static long randomBetweenInclusive(long minimum, long maximum) {
+        if (minimum >= maximum) {
+            return maximum;
         }
+        var bound = (maximum == Long.MAX_VALUE) ? maximum : maximum + 1;
+        return ThreadLocalRandom.current().nextLong(minimum, bound);
+    }
 
-        private long fib(long n) {
-            if (n == 0L) return 0L;
-            if (n == 1L) return 1L;
+    @Immutable
+    private static final class FullJitterWaitStrategy implements WaitStrategy {
+        private final ExponentialWaitStrategy ceiling;
 
-            var prevPrev = 0L;
-            var prev = 1L;
-            var result = 0L;
+        FullJitterWaitStrategy(long multiplier, long maximumWait) {
+            this.ceiling = new ExponentialWaitStrategy(2.0, multiplier, maximumWait);
+        }
 
-            for (var i = 2L; i <= n; i++) {
-                result = prev + prevPrev;
-                prevPrev = prev;
-                prev = result;
-            }
+        @Override
+        public long computeSleepTime(Attempt<?> failedAttempt) {
+            return randomBetweenInclusive(0L, ceiling.computeSleepTime(failedAttempt));
+        }
+    }
+
+    @Immutable
+    private static final class EqualJitterWaitStrategy implements WaitStrategy {
+        private final ExponentialWaitStrategy ceiling;
+
+        EqualJitterWaitStrategy(long multiplier, long maximumWait) {
+            this.ceiling = new ExponentialWaitStrategy(2.0, multiplier, maximumWait);
+        }
 
-            return result;
+        @Override
+        public long computeSleepTime(Attempt<?> failedAttempt) {
+            var halfCeiling = ceiling.computeSleepTime(failedAttempt) / 2;
+            return halfCeiling + randomBetweenInclusive(0L, halfCeiling);
+        }
+    }
+
+    @Immutable
+    private static final class DecorrelatedJitterWaitStrategy implements ContextualWaitStrategy {
+        private static final long GROWTH_FACTOR = 3L;
+
+        private final long minimumWait;
+        private final long maximumWait;
+        private final ExponentialWaitStrategy ceiling;
+
+        DecorrelatedJitterWaitStrategy(long multiplier, long maximumWait) {
+            this.minimumWait = multiplier;
+            this.maximumWait = maximumWait;
+            this.ceiling = new ExponentialWaitStrategy(GROWTH_FACTOR, multiplier, maximumWait);
+        }
+
+        /**
+         * Without a context the previous sleep time is unknown, so the ceiling grows with the attempt number.
+         */
+        @Override
+        public long computeSleepTime(Attempt<?> failedAttempt) {
+            return randomBetweenInclusive(minimumWait, ceiling.computeSleepTime(failedAttempt));
+        }
+
+        @Override
+        public long computeSleepTime(Attempt<?> failedAttempt, RetryContext context) {
+            var previousSleepTime = Math.max(context.getPreviousSleepTime(), minimumWait);
+            var upperBound = (previousSleepTime > maximumWait / GROWTH_FACTOR) ?
+                    maximumWait : Math.min(previousSleepTime * GROWTH_FACTOR, maximumWait);
+            return randomBetweenInclusive(minimumWait, upperBound);
         }
     }
 
@@ -389,6 +640,51 @@ public final class WaitStrategies {
             }
             return waitTime;
         }
+
+        @Override
+        public long computeSleepTimeNanos(Attempt<?> failedAttempt) {
+            var waitTimeNanos = 0L;
+            for (WaitStrategy waitStrategy : waitStrategies) {
+                waitTimeNanos += waitStrategy.computeSleepTimeNanos(failedAttempt);
+            }
+            return waitTimeNanos;
+        }
+    }
+
+    @Immutable
+    private static final class ContextualCompositeWaitStrategy implements ContextualWaitStrategy {
+        private final List<WaitStrategy> waitStrategies;
+
+        ContextualCompositeWaitStrategy(List<WaitStrategy> waitStrategies) {
+            Preconditions.checkState(!waitStrategies.isEmpty(), "Need at least one wait strategy");
+            this.waitStrategies = waitStrategies;
+        }
+
+        @Override
+        public long computeSleepTime(Attempt<?> failedAttempt, RetryContext context) {
+            var waitTime = 0L;
+            for (WaitStrategy waitStrategy : waitStrategies) {
+                if (waitStrategy instanceof ContextualWaitStrategy) {
+                    waitTime += ((ContextualWaitStrategy) waitStrategy).computeSleepTime(failedAttempt, context);
+                } else {
+                    waitTime += waitStrategy.computeSleepTime(failedAttempt);
+                }
+            }
+            return waitTime;
+        }
+
+        @Override
+        public long computeSleepTimeNanos(Attempt<?> failedAttempt, RetryContext context) {
+            var waitTimeNanos = 0L;
+            for (WaitStrategy waitStrategy : waitStrategies) {
+                if (waitStrategy instanceof ContextualWaitStrategy) {
+                    waitTimeNanos += ((ContextualWaitStrategy) waitStrategy).computeSleepTimeNanos(failedAttempt, context);
+                } else {
+                    waitTimeNanos += waitStrategy.computeSleepTimeNanos(failedAttempt);
+                }
+            }
+            return waitTimeNanos;
+        }
     }
 
     @Immutable
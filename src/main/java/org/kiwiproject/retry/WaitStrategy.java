@@ -17,6 +17,8 @@
 
 package org.kiwiproject.retry;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * A strategy used to decide how long to sleep before retrying after a failed attempt.
  */
@@ -29,4 +31,17 @@ public interface WaitStrategy {
      * @return the sleep time before next attempt
      */
     long computeSleepTime(Attempt<?> failedAttempt);
+
+    /**
+     * Returns the time, in nanoseconds, to sleep before retrying. A {@link Retryer} uses this method, so strategies
+     * which compute sleep times more precisely than milliseconds should override it.
+     * <p>
+     * The default implementation converts the result of {@link #computeSleepTime(Attempt)} to nanoseconds.
+     *
+     * @param failedAttempt the previous failed {@code Attempt}
+     * @return the sleep time before next attempt, in nanoseconds
+     */
+    default long computeSleepTimeNanos(Attempt<?> failedAttempt) {
+        return TimeUnit.MILLISECONDS.toNanos(computeSleepTime(failedAttempt));
+    }
 }
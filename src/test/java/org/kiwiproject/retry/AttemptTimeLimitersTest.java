@@ -17,9 +17,14 @@
 package org.kiwiproject.retry;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
@@ -27,6 +32,8 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 class AttemptTimeLimitersTest {
@@ -60,6 +67,108 @@ class AttemptTimeLimitersTest {
                 .hasSize(numThreads);
     }
 
+    @Test
+    void testVirtualThreadTimeLimitRunsEachAttemptOnNewVirtualThread() throws Exception {
+        assumeTrue(VirtualThreads.isSupported(), "virtual threads are not supported by this JVM");
+
+        var timeLimiter = AttemptTimeLimiters.virtualThreadTimeLimit(1, TimeUnit.SECONDS);
+        var isVirtual = Thread.class.getMethod("isVirtual");
+
+        Callable<Thread> currentThread = Thread::currentThread;
+        var first = timeLimiter.call(currentThread);
+        var second = timeLimiter.call(currentThread);
+
+        assertThat(isVirtual.invoke(first)).isEqualTo(true);
+        assertThat(second).isNotSameAs(first);
+    }
+
+    @Test
+    void testVirtualThreadTimeLimitThrowsWhenVirtualThreadsNotSupported() {
+        assumeFalse(VirtualThreads.isSupported(), "virtual threads are supported by this JVM");
+
+        assertThatThrownBy(() -> AttemptTimeLimiters.virtualThreadTimeLimit(1, TimeUnit.SECONDS))
+                .isExactlyInstanceOf(UnsupportedOperationException.class)
+                .hasMessageContaining("Java 21");
+    }
+
+    @Test
+    void testCallerThreadTimeLimitRunsAttemptOnCallingThread() throws Exception {
+        var timeLimiter = AttemptTimeLimiters.callerThreadTimeLimit(1, TimeUnit.SECONDS);
+
+        assertThat(timeLimiter.call(Thread::currentThread)).isSameAs(Thread.currentThread());
+    }
+
+    @Test
+    void testCallerThreadTimeLimitDoesNotLeaveInterruptStatusAfterManyFastAttempts() throws Exception {
+        var timeLimiter = AttemptTimeLimiters.callerThreadTimeLimit(50, TimeUnit.MILLISECONDS);
+
+        for (var i = 0; i < 10_000; i++) {
+            assertThat(timeLimiter.call(() -> "fast")).isEqualTo("fast");
+        }
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    @Test
+    void testCallerThreadTimeLimitPropagatesExceptionsUnchanged() {
+        var timeLimiter = AttemptTimeLimiters.callerThreadTimeLimit(1, TimeUnit.SECONDS);
+
+        assertThatThrownBy(() -> timeLimiter.call(() -> {
+            throw new IOException("failed in time");
+        })).isExactlyInstanceOf(IOException.class).hasMessage("failed in time");
+    }
+
+    @Test
+    void testCallerThreadTimeLimitInterruptsAttempt_AndClearsInterruptStatus() {
+        var timeLimiter = AttemptTimeLimiters.callerThreadTimeLimit(20, TimeUnit.MILLISECONDS);
+
+        assertThatThrownBy(() -> timeLimiter.call(() -> {
+            Thread.sleep(10_000L);
+            return null;
+        }))
+                .isExactlyInstanceOf(TimeoutException.class)
+                .hasCauseExactlyInstanceOf(InterruptedException.class);
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    @Test
+    void testCallerThreadTimeLimitThrowsTimeoutException_WhenAttemptIgnoresInterruption() {
+        var timeLimiter = AttemptTimeLimiters.callerThreadTimeLimit(10, TimeUnit.MILLISECONDS);
+
+        assertThatThrownBy(() -> timeLimiter.call(() -> {
+            var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(50);
+            while (System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            return "too late";
+        }))
+                .isExactlyInstanceOf(TimeoutException.class)
+                .hasNoCause();
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    @Test
+    void testNoTimeLimitWithMaximumTime_InterruptsAttemptOnCallingThread() {
+        var timeLimiter = AttemptTimeLimiters.noTimeLimit();
+        var attemptThread = new AtomicReference<Thread>();
+
+        assertThatThrownBy(() -> timeLimiter.call(() -> {
+            attemptThread.set(Thread.currentThread());
+            Thread.sleep(10_000L);
+            return null;
+        }, TimeUnit.MILLISECONDS.toNanos(20)))
+                .isExactlyInstanceOf(TimeoutException.class)
+                .hasCauseExactlyInstanceOf(InterruptedException.class);
+        assertThat(attemptThread.get()).isSameAs(Thread.currentThread());
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    @Test
+    void testCallerThreadTimeLimit_ShouldRequirePositiveDuration() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> AttemptTimeLimiters.callerThreadTimeLimit(0, TimeUnit.SECONDS))
+                .withMessage("duration must be > 0 but is 0");
+    }
+
     private static void callMultipleTimesWithNewTimeLimiter(Callable<Void> callable,
                                                             int numIterations,
                                                             Supplier<AttemptTimeLimiter> supplier) throws Exception {
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+class BlockStrategiesTest {
+
+    @AfterEach
+    void clearInterruptedFlag() {
+        //noinspection ResultOfMethodCallIgnored
+        Thread.interrupted();
+    }
+
+    @Test
+    void testParkStrategyBlocksForAtLeastSleepTime() throws InterruptedException {
+        var start = System.nanoTime();
+        BlockStrategies.parkStrategy().block(50L);
+        var elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(50L);
+    }
+
+    @Test
+    void testParkStrategyDoesNotBlockForZeroSleepTime() throws InterruptedException {
+        var start = System.nanoTime();
+        BlockStrategies.parkStrategy().block(0L);
+        var elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(elapsedMillis).isLessThan(50L);
+    }
+
+    @Test
+    void testParkStrategyThrowsInterruptedException_AndClearsFlag_WhenInterrupted() {
+        Thread.currentThread().interrupt();
+
+        assertThatThrownBy(() -> BlockStrategies.parkStrategy().block(10_000L))
+                .isExactlyInstanceOf(InterruptedException.class);
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    @Test
+    void testParkStrategyBlocksForAtLeastSleepTimeNanos() throws InterruptedException {
+        var start = System.nanoTime();
+        BlockStrategies.parkStrategy().blockNanos(1_500_000L);
+        var elapsedNanos = System.nanoTime() - start;
+
+        assertThat(elapsedNanos).isGreaterThanOrEqualTo(1_500_000L);
+    }
+
+    @Test
+    void testThreadSleepStrategyBlocksForAtLeastSleepTimeNanos() throws InterruptedException {
+        var start = System.nanoTime();
+        BlockStrategies.threadSleepStrategy().blockNanos(1_500_000L);
+        var elapsedNanos = System.nanoTime() - start;
+
+        assertThat(elapsedNanos).isGreaterThanOrEqualTo(1_500_000L);
+    }
+
+    @Test
+    void testDefaultBlockNanos_RoundsUpToWholeMilliseconds() throws InterruptedException {
+        var blockedMillis = new ArrayList<Long>();
+        BlockStrategy blockStrategy = blockedMillis::add;
+
+        blockStrategy.blockNanos(0L);
+        blockStrategy.blockNanos(1L);
+        blockStrategy.blockNanos(1_000_000L);
+        blockStrategy.blockNanos(1_000_001L);
+
+        assertThat(blockedMillis).containsExactly(0L, 1L, 1L, 2L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0L, 20_000L, 200_000L, 2_000_000L, 15_000_000L})
+    void testSpinThenParkBlocksForAtLeastSleepTimeNanos(long sleepTimeNanos) throws InterruptedException {
+        var start = System.nanoTime();
+        BlockStrategies.spinThenPark().blockNanos(sleepTimeNanos);
+        var elapsedNanos = System.nanoTime() - start;
+
+        assertThat(elapsedNanos).isGreaterThanOrEqualTo(sleepTimeNanos);
+    }
+
+    @Test
+    void testSpinThenParkBlocksForAtLeastSleepTime() throws InterruptedException {
+        var blockStrategy = BlockStrategies.spinThenPark(Duration.ofNanos(100_000), Duration.ofMillis(1));
+
+        var start = System.nanoTime();
+        blockStrategy.block(5L);
+        var elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(5L);
+    }
+
+    @Test
+    void testSpinThenPark_WithZeroSpinThreshold_ShouldOnlyPark() throws InterruptedException {
+        var blockStrategy = BlockStrategies.spinThenPark(Duration.ZERO, Duration.ZERO);
+
+        var start = System.nanoTime();
+        blockStrategy.blockNanos(300_000L);
+
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(300_000L);
+    }
+
+    @Test
+    void testSpinThenParkThrowsInterruptedException_AndClearsFlag_WhenAlreadyInterrupted() {
+        Thread.currentThread().interrupt();
+
+        assertThatThrownBy(() -> BlockStrategies.spinThenPark().blockNanos(0L))
+                .isExactlyInstanceOf(InterruptedException.class);
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    @Test
+    void testSpinThenParkThrowsInterruptedException_WhenInterruptedWhileSpinning() throws InterruptedException {
+        var blockStrategy = BlockStrategies.spinThenPark(Duration.ofSeconds(30), Duration.ofSeconds(30));
+        var thrown = new AtomicReference<Throwable>();
+        var interruptedAfterwards = new AtomicBoolean(true);
+        var blocker = new Thread(() -> {
+            try {
+                blockStrategy.blockNanos(TimeUnit.SECONDS.toNanos(20));
+            } catch (Throwable t) {
+                thrown.set(t);
+            }
+            interruptedAfterwards.set(Thread.currentThread().isInterrupted());
+        });
+
+        blocker.start();
+        Thread.sleep(50L);
+        blocker.interrupt();
+        blocker.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertThat(blocker.isAlive()).isFalse();
+        assertThat(thrown.get()).isExactlyInstanceOf(InterruptedException.class);
+        assertThat(interruptedAfterwards.get()).isFalse();
+    }
+
+    @Test
+    void testSpinThenParkThrowsInterruptedException_WhenInterruptedWhileParked() throws InterruptedException {
+        var blockStrategy = BlockStrategies.spinThenPark(Duration.ZERO, Duration.ofSeconds(30));
+        var thrown = new AtomicReference<Throwable>();
+        var blocker = new Thread(() -> {
+            try {
+                blockStrategy.blockNanos(TimeUnit.SECONDS.toNanos(20));
+            } catch (Throwable t) {
+                thrown.set(t);
+            }
+        });
+
+        blocker.start();
+        Thread.sleep(50L);
+        blocker.interrupt();
+        blocker.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertThat(blocker.isAlive()).isFalse();
+        assertThat(thrown.get()).isExactlyInstanceOf(InterruptedException.class);
+    }
+
+    @Test
+    void testSpinThenPark_ShouldNotAllowNegativeSpinThreshold() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BlockStrategies.spinThenPark(Duration.ofNanos(-1), Duration.ofMillis(1)))
+                .withMessage("spinThreshold must be >= 0 but is -1 ns");
+    }
+
+    @Test
+    void testSpinThenPark_ShouldRequireSleepThreshold_ToBeAtLeastSpinThreshold() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BlockStrategies.spinThenPark(Duration.ofNanos(2_000), Duration.ofNanos(1_000)))
+                .withMessage("sleepThreshold must be >= spinThreshold but sleepThreshold is 1000 ns" +
+                        " and spinThreshold is 2000 ns");
+    }
+
+    @Test
+    void testSignalAwareBlocksForSleepTime_WhenNotSignalled() throws InterruptedException {
+        var blockStrategy = BlockStrategies.signalAware(new RecoverySignal());
+
+        var start = System.nanoTime();
+        blockStrategy.block(20L);
+        var elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(20L);
+    }
+
+    @Test
+    void testSignalAwareWakesEarly_WithJitter_WhenSignalled() throws InterruptedException {
+        var signal = new RecoverySignal();
+        var blockStrategy = BlockStrategies.signalAware(signal, Duration.ofMillis(20));
+        var blockedNanos = new AtomicReference<Long>();
+        var blocker = new Thread(() -> {
+            var start = System.nanoTime();
+            try {
+                blockStrategy.block(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                return;
+            }
+            blockedNanos.set(System.nanoTime() - start);
+        });
+
+        blocker.start();
+        while (signal.getWaiterCount() == 0) {
+            Thread.sleep(1L);
+        }
+        signal.signalRecovered();
+        blocker.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertThat(blocker.isAlive()).isFalse();
+        assertThat(blockedNanos.get()).isLessThan(TimeUnit.SECONDS.toNanos(5));
+    }
+
+    @Test
+    void testSignalAwareThrowsInterruptedException_AndClearsFlag_WhenInterrupted() {
+        Thread.currentThread().interrupt();
+
+        assertThatThrownBy(() -> BlockStrategies.signalAware(new RecoverySignal()).block(10_000L))
+                .isExactlyInstanceOf(InterruptedException.class);
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    @Test
+    void testSignalAware_ShouldNotAllowNegativeJitter() {
+        var signal = new RecoverySignal();
+        var negativeJitter = Duration.ofNanos(-5);
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BlockStrategies.signalAware(signal, negativeJitter))
+                .withMessage("maxJitter must be >= 0 but is -5 ns");
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+class BoundedAttemptTimeLimiterTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedAttemptTimeLimiter timeLimiter;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (timeLimiter != null) {
+            timeLimiter.close();
+        }
+    }
+
+    @Test
+    void shouldReturnResult_OnNamedThread() throws Exception {
+        timeLimiter = BoundedAttemptTimeLimiterBuilder.newBuilder()
+                .withName("inventory")
+                .withTimeLimit(5, TimeUnit.SECONDS)
+                .build();
+
+        var threadName = timeLimiter.call(() -> Thread.currentThread().getName());
+
+        assertThat(threadName).startsWith("inventory-");
+        assertThat(timeLimiter.getName()).isEqualTo("inventory");
+        assertThat(timeLimiter.getCompletedAttemptCount()).isOne();
+    }
+
+    @Test
+    void shouldRethrowExceptionFromAttempt_WithoutWrapping() {
+        timeLimiter = BoundedAttemptTimeLimiterBuilder.newBuilder()
+                .withTimeLimit(5, TimeUnit.SECONDS)
+                .build();
+
+        assertThatThrownBy(() -> timeLimiter.call(() -> {
+            throw new IOException("backend failure");
+        })).isExactlyInstanceOf(IOException.class).hasMessage("backend failure");
+        assertThat(timeLimiter.getCompletedAttemptCount()).isOne();
+    }
+
+    @Test
+    void shouldTimeOut_AndInterruptAttempt() {
+        timeLimiter = BoundedAttemptTimeLimiterBuilder.newBuilder()
+                .withTimeLimit(20, TimeUnit.MILLISECONDS)
+                .build();
+        var interrupted = new CompletableFuture<Boolean>();
+
+        assertThatThrownBy(() -> timeLimiter.call(() -> {
+            try {
+                Thread.sleep(10_000L);
+                interrupted.complete(false);
+            } catch (InterruptedException e) {
+                interrupted.complete(true);
+            }
+            return null;
+        })).isExactlyInstanceOf(TimeoutException.class);
+
+        assertThat(interrupted).succeedsWithin(5, TimeUnit.SECONDS).isEqualTo(true);
+        assertThat(timeLimiter.getTimedOutAttemptCount()).isOne();
+    }
+
+    @Test
+    void shouldTrackAbandonedAttempts_AndRejectWhenCapIsReached() throws Exception {
+        timeLimiter = BoundedAttemptTimeLimiterBuilder.newBuilder()
+                .withTimeLimit(10, TimeUnit.MILLISECONDS)
+                .withMaxThreads(4)
+                .withMaxAbandonedAttempts(2)
+                .build();
+
+        for (var i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> timeLimiter.call(this::ignoreInterruptsUntilReleased))
+                    .isExactlyInstanceOf(TimeoutException.class);
+        }
+        assertThat(timeLimiter.getAbandonedAttemptCount()).isEqualTo(2);
+
+        assertThatThrownBy(() -> timeLimiter.call(() -> "never called"))
+                .isExactlyInstanceOf(RejectedExecutionException.class)
+                .hasMessage("attempt-time-limiter has 2 abandoned attempts still running; no attempt was made");
+        assertThat(timeLimiter.getRejectedAttemptCount()).isOne();
+
+        release.countDown();
+        awaitAbandonedAttemptCount(0);
+        assertThat(timeLimiter.call(() -> "accepted again")).isEqualTo("accepted again");
+    }
+
+    @Test
+    void shouldReject_WhenAllThreadsAreBusy() throws Exception {
+        timeLimiter = BoundedAttemptTimeLimiterBuilder.newBuilder()
+                .withName("busy")
+                .withTimeLimit(10, TimeUnit.SECONDS)
+                .withMaxThreads(1)
+                .build();
+        var started = new CountDownLatch(1);
+
+        var running = CompletableFuture.supplyAsync(() -> {
+            try {
+                return timeLimiter.call(() -> {
+                    started.countDown();
+                    release.await();
+                    return "first";
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> timeLimiter.call(() -> "second"))
+                .isExactlyInstanceOf(RejectedExecutionException.class)
+                .hasMessage("all 1 threads of busy are busy; no attempt was made");
+        assertThat(timeLimiter.getActiveThreadCount()).isOne();
+
+        release.countDown();
+        assertThat(running).succeedsWithin(5, TimeUnit.SECONDS).isEqualTo("first");
+    }
+
+    @Test
+    void shouldLetRetryerMatchUnwrappedExceptions() throws Exception {
+        timeLimiter = BoundedAttemptTimeLimiterBuilder.newBuilder()
+                .withTimeLimit(5, TimeUnit.SECONDS)
+                .build();
+        var retryer = RetryerBuilder.newBuilder()
+                .withAttemptTimeLimiter(timeLimiter)
+                .retryIfExceptionOfType(IOException.class)
+                .withStopStrategy(StopStrategies.stopAfterAttempt(3))
+                .build();
+        var calls = new int[1];
+
+        var result = retryer.call(() -> {
+            if (calls[0]++ == 0) {
+                throw new IOException("first attempt fails");
+            }
+            return "second attempt succeeds";
+        });
+
+        assertThat(result).isEqualTo("second attempt succeeds");
+        assertThat(timeLimiter.getCompletedAttemptCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRequireTimeLimit() {
+        var builder = BoundedAttemptTimeLimiterBuilder.newBuilder();
+
+        assertThatIllegalStateException()
+                .isThrownBy(builder::build)
+                .withMessage("a time limit must be set");
+    }
+
+    @Test
+    void shouldNotAllowTimeLimitToBeSetTwice() {
+        var builder = BoundedAttemptTimeLimiterBuilder.newBuilder().withTimeLimit(1, TimeUnit.SECONDS);
+
+        assertThatIllegalStateException()
+                .isThrownBy(() -> builder.withTimeLimit(2, TimeUnit.SECONDS))
+                .withMessage("a time limit has already been set: 1000000000 ns");
+    }
+
+    @Test
+    void shouldValidateBuilderArguments() {
+        var builder = BoundedAttemptTimeLimiterBuilder.newBuilder();
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> builder.withTimeLimit(0, TimeUnit.SECONDS))
+                .withMessage("duration must be > 0 but is 0");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> builder.withMaxThreads(0))
+                .withMessage("maxThreads must be >= 1 but is 0");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> builder.withMaxAbandonedAttempts(0))
+                .withMessage("maxAbandonedAttempts must be >= 1 but is 0");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> builder.withName(" "))
+                .withMessage("name may not be blank");
+    }
+
+    @Test
+    void shouldNotAllowMoreAbandonedAttemptsThanThreads() {
+        var builder = BoundedAttemptTimeLimiterBuilder.newBuilder()
+                .withTimeLimit(1, TimeUnit.SECONDS)
+                .withMaxThreads(2)
+                .withMaxAbandonedAttempts(3);
+
+        assertThatIllegalStateException()
+                .isThrownBy(builder::build)
+                .withMessage("maxAbandonedAttempts must be <= maxThreads but maxAbandonedAttempts is 3" +
+                        " and maxThreads is 2");
+    }
+
+    private String ignoreInterruptsUntilReleased() {
+        while (true) {
+            try {
+                release.await();
+                return "released";
+            } catch (InterruptedException e) {
+                // keep running, as a badly behaved attempt would
+            }
+        }
+    }
+
+    private void awaitAbandonedAttemptCount(int expectedCount) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (timeLimiter.getAbandonedAttemptCount() != expectedCount) {
+            assertThat(System.nanoTime()).describedAs("timed out waiting for abandoned attempts").isLessThan(deadline);
+            Thread.sleep(1L);
+        }
+    }
+}
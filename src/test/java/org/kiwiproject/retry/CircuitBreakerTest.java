@@ -0,0 +1,279 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.kiwiproject.retry.RetryerAssert.assertThatRetryer;
+
+import com.google.common.base.Ticker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+class CircuitBreakerTest {
+
+    private FakeTicker ticker;
+
+    @BeforeEach
+    void setUp() {
+        ticker = new FakeTicker();
+    }
+
+    @Test
+    void testOpens_WhenFailureRateThresholdReached() {
+        var circuitBreaker = countBasedCircuitBreaker(4);
+
+        recordOutcomes(circuitBreaker, false, true, false);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        recordOutcomes(circuitBreaker, true);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void testDoesNotOpen_BeforeMinimumNumberOfCalls() {
+        var circuitBreaker = countBasedCircuitBreaker(4);
+
+        recordOutcomes(circuitBreaker, true, true, true);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void testCountBasedWindow_OnlyCountsMostRecentCalls() {
+        var circuitBreaker = countBasedCircuitBreaker(4);
+
+        recordOutcomes(circuitBreaker, true, false, false, false, false, true);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void testTimeBasedWindow_ForgetsOldCalls() {
+        var circuitBreaker = CircuitBreakerBuilder.newBuilder()
+                .withTimeBasedSlidingWindow(10, TimeUnit.SECONDS)
+                .withMinimumNumberOfCalls(4)
+                .withTicker(ticker)
+                .build();
+
+        recordOutcomes(circuitBreaker, true, true, true);
+        ticker.advance(11, TimeUnit.SECONDS);
+        recordOutcomes(circuitBreaker, false, false, false, true);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        recordOutcomes(circuitBreaker, true);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        recordOutcomes(circuitBreaker, true);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void testHalfOpen_AfterWaitDuration_PermitsLimitedProbes() {
+        var circuitBreaker = openCircuitBreaker(2);
+
+        ticker.advance(30, TimeUnit.SECONDS);
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+
+        circuitBreaker.releasePermission();
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void testHalfOpen_Closes_WhenAllProbesSucceed() {
+        var circuitBreaker = openCircuitBreaker(2);
+        ticker.advance(30, TimeUnit.SECONDS);
+
+        circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onSuccess();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onSuccess();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void testHalfOpen_Reopens_WhenProbeFails() {
+        var circuitBreaker = openCircuitBreaker(2);
+        ticker.advance(30, TimeUnit.SECONDS);
+
+        circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void testRetryerFailsFast_WhenCircuitIsOpen() {
+        var circuitBreaker = countBasedCircuitBreaker(3);
+        var invocations = new AtomicInteger();
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfExceptionOfType(IOException.class)
+                .withStopStrategy(StopStrategies.stopAfterAttempt(10))
+                .withCircuitBreaker(circuitBreaker)
+                .build();
+        Callable<Void> alwaysFails = () -> {
+            invocations.incrementAndGet();
+            throw new IOException("down");
+        };
+
+        assertThatRetryer(retryer)
+                .throwsRetryExceptionCalling(alwaysFails)
+                .hasNumberOfFailedAttempts(3);
+
+        assertThatThrownBy(() -> retryer.call(alwaysFails))
+                .isExactlyInstanceOf(CircuitBreakerOpenException.class);
+        assertThat(invocations).hasValue(3);
+    }
+
+    @Test
+    void testAsyncAttemptThrowingError_ReleasesHalfOpenProbeOnce() {
+        var circuitBreaker = openCircuitBreaker(1);
+        ticker.advance(30, TimeUnit.SECONDS);
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfException()
+                .withCircuitBreaker(circuitBreaker)
+                .build();
+
+        var future = retryer.callAsync(() -> {
+            throw new AssertionError("boom");
+        }, Runnable::run);
+
+        assertThat(future).isCompletedExceptionally();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void testRetryerRecordsRetryableResultsAsFailures() {
+        var circuitBreaker = countBasedCircuitBreaker(2);
+        var retryer = RetryerBuilder.newBuilder()
+                .<String>retryIfResult("retry"::equals)
+                .withStopStrategy(StopStrategies.stopAfterAttempt(2))
+                .withCircuitBreaker(circuitBreaker)
+                .build();
+
+        assertThatRetryer(retryer).throwsRetryExceptionCalling(() -> "retry");
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void testRetryerReleasesProbe_WhenInterrupted() {
+        var circuitBreaker = openCircuitBreaker(1);
+        ticker.advance(30, TimeUnit.SECONDS);
+        var retryer = RetryerBuilder.newBuilder()
+                .withCircuitBreaker(circuitBreaker)
+                .build();
+
+        assertThatThrownBy(() -> retryer.call(() -> {
+            throw new InterruptedException();
+        })).isExactlyInstanceOf(InterruptedException.class);
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void testCallAsyncFailsFast_WhenCircuitIsOpen() {
+        var circuitBreaker = openCircuitBreaker(1);
+        var retryer = RetryerBuilder.newBuilder()
+                .withCircuitBreaker(circuitBreaker)
+                .build();
+
+        var future = retryer.callAsync(() -> "ok", Runnable::run);
+
+        assertThatThrownBy(future::join).hasCauseExactlyInstanceOf(CircuitBreakerOpenException.class);
+    }
+
+    @Test
+    void testBuilder_ShouldNotAllowSettingSlidingWindowTwice() {
+        var builder = CircuitBreakerBuilder.newBuilder().withCountBasedSlidingWindow(10);
+
+        assertThatIllegalStateException()
+                .isThrownBy(() -> builder.withTimeBasedSlidingWindow(10, TimeUnit.SECONDS))
+                .withMessage("a sliding window has already been set");
+    }
+
+    @Test
+    void testBuilder_ShouldNotAllowInvalidFailureRateThreshold() {
+        var builder = CircuitBreakerBuilder.newBuilder();
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> builder.withFailureRateThreshold(0.0))
+                .withMessage("failureRateThreshold must be > 0 and <= 100 but is 0.0");
+    }
+
+    private CircuitBreaker countBasedCircuitBreaker(int size) {
+        return CircuitBreakerBuilder.newBuilder()
+                .withCountBasedSlidingWindow(size)
+                .withFailureRateThreshold(50.0)
+                .withWaitDurationInOpenState(30, TimeUnit.SECONDS)
+                .withTicker(ticker)
+                .build();
+    }
+
+    private CircuitBreaker openCircuitBreaker(int permittedProbes) {
+        var circuitBreaker = CircuitBreakerBuilder.newBuilder()
+                .withCountBasedSlidingWindow(1)
+                .withWaitDurationInOpenState(30, TimeUnit.SECONDS)
+                .withPermittedProbesInHalfOpenState(permittedProbes)
+                .withTicker(ticker)
+                .build();
+        circuitBreaker.onFailure();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        return circuitBreaker;
+    }
+
+    private static void recordOutcomes(CircuitBreaker circuitBreaker, boolean... failures) {
+        for (var failed : failures) {
+            if (failed) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onSuccess();
+            }
+        }
+    }
+
+    private static class FakeTicker extends Ticker {
+        private final AtomicLong nanos = new AtomicLong();
+
+        void advance(long duration, TimeUnit timeUnit) {
+            nanos.addAndGet(timeUnit.toNanos(duration));
+        }
+
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+    }
+}
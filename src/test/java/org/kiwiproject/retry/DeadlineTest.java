@@ -0,0 +1,292 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.base.Ticker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+class DeadlineTest {
+
+    @AfterEach
+    void clearInterruptedFlag() {
+        //noinspection ResultOfMethodCallIgnored
+        Thread.interrupted();
+    }
+
+    @Test
+    void shouldHaveNoCurrentDeadline_OutsideOfAttempt() {
+        assertThat(Deadline.current()).isEmpty();
+    }
+
+    @Test
+    void shouldReportRemainingTime() {
+        var deadline = Deadline.after(TimeUnit.SECONDS.toNanos(10));
+
+        assertThat(deadline.isExpired()).isFalse();
+        assertThat(deadline.getRemainingNanos()).isBetween(TimeUnit.SECONDS.toNanos(9), TimeUnit.SECONDS.toNanos(10));
+        assertThat(deadline.getRemaining(TimeUnit.SECONDS)).isBetween(9L, 10L);
+        assertThat(deadline.getRemaining()).isBetween(Duration.ofSeconds(9), Duration.ofSeconds(10));
+    }
+
+    @Test
+    void shouldReportZeroRemaining_WhenExpired() {
+        var deadline = Deadline.after(-1L);
+
+        assertThat(deadline.isExpired()).isTrue();
+        assertThat(deadline.getRemainingNanos()).isZero();
+        assertThat(deadline.getRemaining()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void shouldBeCurrent_OnlyWhileBoundCallableRuns() throws Exception {
+        var outer = Deadline.after(TimeUnit.SECONDS.toNanos(10));
+        var inner = Deadline.after(TimeUnit.SECONDS.toNanos(5));
+
+        var seen = outer.bind(() -> {
+            var innerSeen = inner.bind(() -> Deadline.current().orElseThrow()).call();
+            assertThat(innerSeen).isSameAs(inner);
+            return Deadline.current().orElseThrow();
+        }).call();
+
+        assertThat(seen).isSameAs(outer);
+        assertThat(Deadline.current()).isEmpty();
+    }
+
+    @Test
+    void shouldMakeDeadlineAvailable_ToEachAttempt() throws Exception {
+        var retryer = RetryerBuilder.newBuilder()
+                .withDeadline(10, TimeUnit.SECONDS)
+                .build();
+
+        var remaining = retryer.call(() -> Deadline.current().orElseThrow().getRemaining());
+
+        assertThat(remaining).isBetween(Duration.ofSeconds(5), Duration.ofSeconds(10));
+        assertThat(Deadline.current()).isEmpty();
+    }
+
+    @Test
+    void shouldFailNow_RatherThanBackOffPastDeadline() {
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfExceptionOfType(IOException.class)
+                .withWaitStrategy(WaitStrategies.fixedWait(30, TimeUnit.SECONDS))
+                .withDeadline(5, TimeUnit.SECONDS)
+                .build();
+        var attempts = new AtomicInteger();
+
+        var start = System.nanoTime();
+        assertThatThrownBy(() -> retryer.call(() -> {
+            attempts.incrementAndGet();
+            throw new IOException("down");
+        }))
+                .isExactlyInstanceOf(RetryException.class)
+                .hasCauseExactlyInstanceOf(IOException.class);
+
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(5));
+        assertThat(attempts).hasValue(1);
+        assertThat(retryer.getMetrics().getExhaustions()).isOne();
+    }
+
+    @Test
+    void shouldInterruptAttempt_OnCallingThread_WhenDeadlinePasses() {
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfException()
+                .withDeadline(50, TimeUnit.MILLISECONDS)
+                .build();
+        var attemptThread = new AtomicReference<Thread>();
+
+        var start = System.nanoTime();
+        assertThatThrownBy(() -> retryer.call(() -> {
+            attemptThread.set(Thread.currentThread());
+            Thread.sleep(10_000L);
+            return "too late";
+        }))
+                .isExactlyInstanceOf(RetryException.class)
+                .hasCauseExactlyInstanceOf(TimeoutException.class);
+
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(5));
+        assertThat(attemptThread.get()).isSameAs(Thread.currentThread());
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    @Test
+    void shouldInterruptAttempt_InRealTime_WhenTickerDoesNotAdvance() {
+        var frozenTicker = new Ticker() {
+            @Override
+            public long read() {
+                return 0L;
+            }
+        };
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfException()
+                .withStopStrategy(StopStrategies.stopAfterAttempt(1))
+                .withDeadline(50, TimeUnit.MILLISECONDS)
+                .withTicker(frozenTicker)
+                .build();
+
+        var start = System.nanoTime();
+        assertThatThrownBy(() -> retryer.call(() -> {
+            Thread.sleep(10_000L);
+            return "too late";
+        }))
+                .isExactlyInstanceOf(RetryException.class)
+                .hasCauseExactlyInstanceOf(TimeoutException.class);
+
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(5));
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    @Test
+    void shouldClampAttemptTimeLimit_ToRemainingTime() {
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfException()
+                .withAttemptTimeLimiter(AttemptTimeLimiters.fixedTimeLimit(30, TimeUnit.SECONDS))
+                .withDeadline(50, TimeUnit.MILLISECONDS)
+                .build();
+
+        var start = System.nanoTime();
+        assertThatThrownBy(() -> retryer.call(() -> {
+            Thread.sleep(10_000L);
+            return "too late";
+        }))
+                .isExactlyInstanceOf(RetryException.class)
+                .hasCauseExactlyInstanceOf(TimeoutException.class);
+
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(5));
+    }
+
+    @Test
+    void shouldTimeOutFixedTimeLimit_WhenNoTimeRemains() {
+        var limiter = AttemptTimeLimiters.fixedTimeLimit(30, TimeUnit.SECONDS);
+        var expired = Deadline.after(-1L);
+        var invocations = new AtomicInteger();
+
+        assertThatThrownBy(() -> limiter.call(invocations::incrementAndGet, expired.getRemainingNanos()))
+                .isExactlyInstanceOf(TimeoutException.class);
+
+        assertThat(invocations).hasValue(0);
+    }
+
+    @Test
+    void shouldNotStartAttempt_WhenDeadlineHasPassed() {
+        var ticker = new Ticker() {
+            private final AtomicLong nanos = new AtomicLong();
+
+            @Override
+            public long read() {
+                return nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+            }
+        };
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfException()
+                .withAttemptTimeLimiter(AttemptTimeLimiters.fixedTimeLimit(30, TimeUnit.SECONDS))
+                .withDeadline(500, TimeUnit.MILLISECONDS)
+                .withTicker(ticker)
+                .build();
+        var invocations = new AtomicInteger();
+
+        assertThatThrownBy(() -> retryer.call(invocations::incrementAndGet))
+                .isExactlyInstanceOf(RetryException.class)
+                .hasCauseExactlyInstanceOf(TimeoutException.class);
+
+        assertThat(invocations).hasValue(0);
+    }
+
+    @Test
+    void shouldClampHedgedInvocationTimeLimit_ToRemainingTime() {
+        var executor = Executors.newCachedThreadPool();
+        try {
+            var retryer = RetryerBuilder.newBuilder()
+                    .retryIfException()
+                    .withAttemptTimeLimiter(AttemptTimeLimiters.fixedTimeLimit(30, TimeUnit.SECONDS))
+                    .withHedging(HedgingStrategies.fixedDelay(10, TimeUnit.SECONDS), 1, executor)
+                    .withDeadline(50, TimeUnit.MILLISECONDS)
+                    .build();
+
+            var start = System.nanoTime();
+            assertThatThrownBy(() -> retryer.call(() -> {
+                Thread.sleep(10_000L);
+                return "too late";
+            }))
+                    .isExactlyInstanceOf(RetryException.class)
+                    .hasCauseExactlyInstanceOf(TimeoutException.class);
+
+            assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(5));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldStopAsyncCall_AtDeadline() throws InterruptedException {
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfExceptionOfType(IOException.class)
+                .withWaitStrategy(WaitStrategies.fixedWait(20, TimeUnit.MILLISECONDS))
+                .withDeadline(100, TimeUnit.MILLISECONDS)
+                .build();
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var future = retryer.callAsync(() -> {
+                throw new IOException("down");
+            }, executor);
+
+            assertThat(future)
+                    .failsWithin(5, TimeUnit.SECONDS)
+                    .withThrowableOfType(ExecutionException.class)
+                    .withCauseExactlyInstanceOf(RetryException.class);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldTimeOutStage_AtDeadline() {
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfException()
+                .withDeadline(50, TimeUnit.MILLISECONDS)
+                .build();
+        var seenDeadline = new AtomicReference<Deadline>();
+
+        var future = retryer.retryStage(() -> {
+            seenDeadline.set(Deadline.current().orElseThrow());
+            return new CompletableFuture<String>();
+        });
+
+        assertThat(future)
+                .failsWithin(5, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseExactlyInstanceOf(RetryException.class);
+        assertThat(seenDeadline.get()).isNotNull();
+        assertThat(future.handle((result, t) -> t).join())
+                .isExactlyInstanceOf(RetryException.class)
+                .hasCauseExactlyInstanceOf(TimeoutException.class);
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.base.Ticker;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+class FailoverRetryerTest {
+
+    private final AtomicLong nowNanos = new AtomicLong();
+    private final Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return nowNanos.get();
+        }
+    };
+
+    @RepeatedTest(20)
+    void shouldRetryOnDifferentEndpoint_AfterAttemptFails() throws Exception {
+        var failover = newFailoverRetryer(List.of("a", "b", "c"));
+        var attempted = new ArrayList<String>();
+
+        var result = failover.call(endpoint -> {
+            attempted.add(endpoint);
+            if (attempted.size() == 1) {
+                throw new IOException(endpoint + " is down");
+            }
+            return endpoint;
+        });
+
+        assertThat(attempted).hasSize(2).doesNotHaveDuplicates();
+        assertThat(result).isEqualTo(attempted.get(1));
+        assertThat(failover.isDeprioritized(attempted.get(0))).isTrue();
+        assertThat(failover.isDeprioritized(attempted.get(1))).isFalse();
+    }
+
+    @Test
+    void shouldKeepTryingEndpoints_WhenAllAreDeprioritized() {
+        var failover = newFailoverRetryer(List.of("a", "b"));
+        var attempted = new ArrayList<String>();
+
+        assertThatThrownBy(() -> failover.call(endpoint -> {
+            attempted.add(endpoint);
+            throw new IOException(endpoint + " is down");
+        }))
+                .isExactlyInstanceOf(RetryException.class);
+
+        assertThat(attempted).hasSize(4).contains("a", "b");
+        assertThat(failover.isDeprioritized("a")).isTrue();
+        assertThat(failover.isDeprioritized("b")).isTrue();
+    }
+
+    @Test
+    void shouldPreferEndpointWithLowerLatency() throws Exception {
+        var latencies = Map.of("fast", Duration.ofMillis(10), "slow", Duration.ofMillis(100));
+        var failover = newFailoverRetryer(List.of("fast", "slow"));
+        var attempted = new ArrayList<String>();
+
+        for (var i = 0; i < 50; i++) {
+            failover.call(endpoint -> {
+                attempted.add(endpoint);
+                nowNanos.addAndGet(latencies.get(endpoint).toNanos());
+                return endpoint;
+            });
+        }
+
+        // each endpoint is tried until it has a latency, and after that the fast one always wins
+        assertThat(attempted).filteredOn("slow"::equals).hasSizeLessThanOrEqualTo(1);
+        assertThat(failover.getLatency("fast")).isEqualTo(Duration.ofMillis(10));
+    }
+
+    @Test
+    void shouldPreferEndpointWithLowerErrorRate_OverFasterOne() {
+        var failover = newFailoverRetryer(List.of("flaky", "steady"));
+        failover.record("flaky", TimeUnit.MILLISECONDS.toNanos(5), true);
+        failover.record("steady", TimeUnit.MILLISECONDS.toNanos(50), false);
+        nowNanos.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        // flaky is no longer deprioritized, but its error rate still costs more than steady's latency
+        assertThat(failover.isDeprioritized("flaky")).isFalse();
+        assertThat(failover.getEndpoints().get(failover.selectIndex())).isEqualTo("steady");
+    }
+
+    @Test
+    void shouldComputeMovingAverages() {
+        var failover = newFailoverRetryer(List.of("only"));
+
+        failover.record("only", TimeUnit.MILLISECONDS.toNanos(100), false);
+        failover.record("only", TimeUnit.MILLISECONDS.toNanos(200), true);
+
+        assertThat(failover.getLatency("only")).isEqualTo(Duration.ofMillis(125));
+        assertThat(failover.getErrorRate("only")).isEqualTo(0.25);
+        assertThat(failover.isDeprioritized("only")).isTrue();
+
+        nowNanos.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertThat(failover.getErrorRate("only")).isEqualTo(0.125);
+        assertThat(failover.isDeprioritized("only")).isFalse();
+    }
+
+    @Test
+    void shouldNotAllowUnknownEndpoint() {
+        var failover = newFailoverRetryer(List.of("a"));
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> failover.getLatency("z"))
+                .withMessage("unknown endpoint: z");
+    }
+
+    @Test
+    void shouldRequireDistinctEndpoints() {
+        var builder = FailoverRetryerBuilder.newBuilder();
+        var retryer = RetryerBuilder.newBuilder().build();
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> builder.build(List.of(), retryer))
+                .withMessage("endpoints may not be empty");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> builder.build(List.of("a", "a"), retryer))
+                .withMessage("endpoints may not contain duplicates");
+    }
+
+    @Test
+    void shouldRequirePositiveFailurePenalty() {
+        var builder = FailoverRetryerBuilder.newBuilder();
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> builder.withFailurePenalty(0, TimeUnit.SECONDS))
+                .withMessage("duration must be > 0 but is 0");
+    }
+
+    private FailoverRetryer<String> newFailoverRetryer(List<String> endpoints) {
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfException()
+                .withStopStrategy(StopStrategies.stopAfterAttempt(4))
+                .withTicker(ticker)
+                .build();
+        return FailoverRetryerBuilder.newBuilder()
+                .withFailurePenalty(10, TimeUnit.SECONDS)
+                .build(endpoints, retryer);
+    }
+}
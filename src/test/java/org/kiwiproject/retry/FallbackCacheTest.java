@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.base.Ticker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+class FallbackCacheTest {
+
+    private final AtomicLong nowNanos = new AtomicLong();
+    private final Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return nowNanos.get();
+        }
+    };
+
+    private FallbackCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = FallbackCacheBuilder.newBuilder()
+                .withMaximumSize(2)
+                .withTimeToLive(10, TimeUnit.MINUTES)
+                .build(newRetryer().build());
+    }
+
+    @Test
+    void shouldReturnFreshResult_WhenCallSucceeds() throws Exception {
+        var result = cache.call("key", () -> "value");
+
+        assertThat(result.getValue()).isEqualTo("value");
+        assertThat(result.isStale()).isFalse();
+        assertThat(result.getAge()).isZero();
+        assertThat(result.getFailure()).isEmpty();
+    }
+
+    @Test
+    void shouldServeRecordedValueAsStale_WhenRetriesAreExhausted() throws Exception {
+        cache.call("key", () -> "value");
+        nowNanos.addAndGet(TimeUnit.MINUTES.toNanos(3));
+
+        var result = cache.call("key", failingCall());
+
+        assertThat(result.getValue()).isEqualTo("value");
+        assertThat(result.isStale()).isTrue();
+        assertThat(result.getAge()).isEqualTo(Duration.ofMinutes(3));
+        assertThat(result.getFailure()).containsInstanceOf(RetryException.class);
+        assertThat(cache.getStaleResultCount()).isOne();
+    }
+
+    @Test
+    void shouldServeRecordedValueAsStale_WhenCircuitBreakerIsOpen() throws Exception {
+        var circuitBreaker = CircuitBreakerBuilder.newBuilder()
+                .withCountBasedSlidingWindow(1)
+                .withMinimumNumberOfCalls(1)
+                .build();
+        FallbackCache<String, String> breakerCache = FallbackCacheBuilder.newBuilder()
+                .withTimeToLive(10, TimeUnit.MINUTES)
+                .build(newRetryer().withCircuitBreaker(circuitBreaker).build());
+        breakerCache.call("key", () -> "value");
+        circuitBreaker.onFailure();
+
+        var result = breakerCache.call("key", () -> "not called");
+
+        assertThat(result.getValue()).isEqualTo("value");
+        assertThat(result.getFailure()).containsInstanceOf(CircuitBreakerOpenException.class);
+    }
+
+    @Test
+    void shouldThrow_WhenNoValueIsRecorded() {
+        assertThatThrownBy(() -> cache.call("key", failingCall()))
+                .isExactlyInstanceOf(RetryException.class);
+        assertThat(cache.getStaleResultCount()).isZero();
+    }
+
+    @Test
+    void shouldThrow_WhenRecordedValueHasExpired() throws Exception {
+        cache.call("key", () -> "value");
+        nowNanos.addAndGet(TimeUnit.MINUTES.toNanos(10));
+
+        assertThatThrownBy(() -> cache.call("key", failingCall()))
+                .isExactlyInstanceOf(RetryException.class);
+    }
+
+    @Test
+    void shouldReplaceRecordedValue_WhenCallSucceedsAgain() throws Exception {
+        cache.call("key", () -> "old");
+        nowNanos.addAndGet(TimeUnit.MINUTES.toNanos(5));
+        cache.call("key", () -> "new");
+        nowNanos.addAndGet(TimeUnit.MINUTES.toNanos(6));
+
+        var result = cache.call("key", failingCall());
+
+        assertThat(result.getValue()).isEqualTo("new");
+        assertThat(result.getAge()).isEqualTo(Duration.ofMinutes(6));
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedValue_WhenMaximumSizeIsReached() throws Exception {
+        cache.call("first", () -> "1");
+        cache.call("second", () -> "2");
+        cache.call("third", () -> "3");
+
+        assertThatThrownBy(() -> cache.call("first", failingCall()))
+                .isExactlyInstanceOf(RetryException.class);
+        assertThat(cache.call("third", failingCall()).getValue()).isEqualTo("3");
+    }
+
+    @Test
+    void shouldNotRecordNullValues() throws Exception {
+        cache.call("key", () -> "value");
+
+        assertThat(cache.call("key", () -> null).getValue()).isNull();
+        assertThat(cache.call("key", failingCall()).getValue()).isEqualTo("value");
+    }
+
+    @Test
+    void shouldNotServeInvalidatedValue() throws Exception {
+        cache.call("key", () -> "value");
+
+        cache.invalidate("key");
+
+        assertThatThrownBy(() -> cache.call("key", failingCall()))
+                .isExactlyInstanceOf(RetryException.class);
+    }
+
+    @Test
+    void shouldRequireTimeToLive() {
+        var builder = FallbackCacheBuilder.newBuilder();
+        var retryer = RetryerBuilder.newBuilder().build();
+
+        assertThatIllegalStateException()
+                .isThrownBy(() -> builder.build(retryer))
+                .withMessage("a time to live must be set");
+    }
+
+    @Test
+    void shouldNotAllowSettingTimeToLiveTwice() {
+        var builder = FallbackCacheBuilder.newBuilder().withTimeToLive(1, TimeUnit.SECONDS);
+
+        assertThatIllegalStateException()
+                .isThrownBy(() -> builder.withTimeToLive(2, TimeUnit.SECONDS))
+                .withMessage("a time to live has already been set: 1000000000 ns");
+    }
+
+    @Test
+    void shouldRequirePositiveMaximumSize() {
+        var builder = FallbackCacheBuilder.newBuilder();
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> builder.withMaximumSize(0))
+                .withMessage("maximumSize must be >= 1 but is 0");
+    }
+
+    private RetryerBuilder newRetryer() {
+        return RetryerBuilder.newBuilder()
+                .retryIfException()
+                .withStopStrategy(StopStrategies.stopAfterAttempt(2))
+                .withTicker(ticker);
+    }
+
+    private static Callable<String> failingCall() {
+        return () -> {
+            throw new IOException("unavailable");
+        };
+    }
+}
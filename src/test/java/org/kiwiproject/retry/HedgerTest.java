@@ -0,0 +1,235 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.kiwiproject.retry.RetryerAssert.assertThatRetryer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class HedgerTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testDoesNotHedgeFastAttempts() {
+        var hedges = new AtomicInteger();
+        var invocations = new AtomicInteger();
+        var retryer = RetryerBuilder.newBuilder()
+                .withHedging(HedgingStrategies.fixedDelay(1, TimeUnit.SECONDS), 2, executor)
+                .withRetryListener(hedgeCounter(hedges))
+                .build();
+
+        assertThatRetryer(retryer)
+                .completesSuccessfullyCalling(() -> invocations.incrementAndGet())
+                .hasResult(1);
+
+        assertThat(hedges).hasValue(0);
+    }
+
+    @Test
+    void testSlowAttemptIsHedged_AndFastestResultWins() {
+        var invocations = new AtomicInteger();
+        var slowInvocationInterrupted = new CountDownLatch(1);
+        List<String> hedges = Collections.synchronizedList(new ArrayList<>());
+        var retryer = RetryerBuilder.newBuilder()
+                .withHedging(HedgingStrategies.fixedDelay(50, TimeUnit.MILLISECONDS), 2, executor)
+                .withRetryListener(new RetryListener() {
+                    @Override
+                    public void onRetry(Attempt<?> attempt) {
+                        // not used by this test
+                    }
+
+                    @Override
+                    public void onHedge(int attemptNumber, int hedgeNumber) {
+                        hedges.add(attemptNumber + ":" + hedgeNumber);
+                    }
+                })
+                .build();
+
+        Callable<String> callable = () -> {
+            if (invocations.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+                } catch (InterruptedException e) {
+                    slowInvocationInterrupted.countDown();
+                    throw e;
+                }
+                return "slow";
+            }
+            return "fast";
+        };
+
+        assertThatRetryer(retryer)
+                .completesSuccessfullyCalling(callable)
+                .hasResult("fast");
+
+        assertThat(hedges).containsExactly("1:1");
+        assertThat(invocations).hasValue(2);
+        assertThat(awaitQuietly(slowInvocationInterrupted))
+                .describedAs("slow invocation should have been cancelled")
+                .isTrue();
+    }
+
+    @Test
+    void testNumberOfHedgesIsCapped() {
+        var hedges = new AtomicInteger();
+        var invocations = new AtomicInteger();
+        var retryer = RetryerBuilder.newBuilder()
+                .withHedging(HedgingStrategies.fixedDelay(10, TimeUnit.MILLISECONDS), 2, executor)
+                .withRetryListener(hedgeCounter(hedges))
+                .build();
+
+        assertThatRetryer(retryer)
+                .completesSuccessfullyCalling(() -> {
+                    invocations.incrementAndGet();
+                    Thread.sleep(200);
+                    return "done";
+                })
+                .hasResult("done");
+
+        assertThat(hedges).hasValue(2);
+        assertThat(invocations).hasValue(3);
+    }
+
+    @Test
+    void testListenersAddedAfterBuild_AreNotNotifiedOfHedges() {
+        var hedges = new AtomicInteger();
+        var lateHedges = new AtomicInteger();
+        var builder = RetryerBuilder.newBuilder()
+                .withHedging(HedgingStrategies.fixedDelay(10, TimeUnit.MILLISECONDS), 1, executor)
+                .withRetryListener(hedgeCounter(hedges));
+        var retryer = builder.build();
+        builder.withRetryListener(hedgeCounter(lateHedges));
+
+        assertThatRetryer(retryer)
+                .completesSuccessfullyCalling(() -> {
+                    Thread.sleep(200);
+                    return "done";
+                })
+                .hasResult("done");
+
+        assertThat(hedges).hasValue(1);
+        assertThat(lateHedges).hasValue(0);
+    }
+
+    @Test
+    void testAttemptFails_WhenAllInvocationsFail() {
+        var invocations = new AtomicInteger();
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfExceptionOfType(IOException.class)
+                .withStopStrategy(StopStrategies.stopAfterAttempt(2))
+                .withHedging(HedgingStrategies.fixedDelay(10, TimeUnit.MILLISECONDS), 1, executor)
+                .build();
+
+        assertThatRetryer(retryer)
+                .throwsRetryExceptionCalling(() -> {
+                    invocations.incrementAndGet();
+                    Thread.sleep(50);
+                    throw new IOException("failed");
+                })
+                .hasCauseExactlyInstanceOf(IOException.class)
+                .hasNumberOfFailedAttempts(2);
+
+        assertThat(invocations).hasValue(4);
+    }
+
+    @Test
+    void testRecordsLatencyOfWinningInvocation() {
+        var latencies = new ArrayList<Long>();
+        HedgingStrategy hedgingStrategy = new HedgingStrategy() {
+            @Override
+            public long computeHedgeDelay(int attemptNumber, int hedgeNumber) {
+                return 1_000L;
+            }
+
+            @Override
+            public void recordLatency(long latencyNanos) {
+                latencies.add(latencyNanos);
+            }
+        };
+        var retryer = RetryerBuilder.newBuilder()
+                .withHedging(hedgingStrategy, 1, executor)
+                .build();
+
+        assertThatRetryer(retryer)
+                .completesSuccessfullyCalling(() -> {
+                    Thread.sleep(20);
+                    return "done";
+                });
+
+        assertThat(latencies).singleElement()
+                .satisfies(latency -> assertThat(latency).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20)));
+    }
+
+    @Test
+    void testWithHedging_ShouldNotAllowZeroMaxHedges() {
+        var builder = RetryerBuilder.newBuilder();
+        var hedgingStrategy = HedgingStrategies.fixedDelay(10, TimeUnit.MILLISECONDS);
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> builder.withHedging(hedgingStrategy, 0, executor))
+                .withMessage("maxHedges must be >= 1 but is 0");
+    }
+
+    private static RetryListener hedgeCounter(AtomicInteger hedges) {
+        return new RetryListener() {
+            @Override
+            public void onRetry(Attempt<?> attempt) {
+                // not used by this test
+            }
+
+            @Override
+            public void onHedge(int attemptNumber, int hedgeNumber) {
+                hedges.incrementAndGet();
+            }
+        };
+    }
+
+    private static boolean awaitQuietly(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.concurrent.TimeUnit;
+
+class HedgingStrategiesTest {
+
+    @Test
+    void testFixedDelay() {
+        var hedgingStrategy = HedgingStrategies.fixedDelay(250L, TimeUnit.MILLISECONDS);
+
+        assertThat(hedgingStrategy.computeHedgeDelay(1, 1)).isEqualTo(250L);
+        assertThat(hedgingStrategy.computeHedgeDelay(3, 2)).isEqualTo(250L);
+    }
+
+    @Test
+    void testFixedDelay_ShouldNotAllowNegativeDelay() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> HedgingStrategies.fixedDelay(-1L, TimeUnit.MILLISECONDS))
+                .withMessage("delay must be >= 0 but is -1");
+    }
+
+    @Test
+    void testLatencyPercentile_UsesInitialDelay_UntilLatenciesRecorded() {
+        var hedgingStrategy = HedgingStrategies.latencyPercentile(95.0, 100L, TimeUnit.MILLISECONDS);
+
+        assertThat(hedgingStrategy.computeHedgeDelay(1, 1)).isEqualTo(100L);
+    }
+
+    @Test
+    void testLatencyPercentile_AdaptsToRecordedLatencies() {
+        var hedgingStrategy = HedgingStrategies.latencyPercentile(90.0, 100L, TimeUnit.MILLISECONDS);
+
+        for (var millis = 1L; millis <= 160L; millis++) {
+            hedgingStrategy.recordLatency(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        assertThat(hedgingStrategy.computeHedgeDelay(1, 1)).isEqualTo(144L);
+    }
+
+    @Test
+    void testLatencyPercentile_OnlyUsesMostRecentLatencies() {
+        var hedgingStrategy = new HedgingStrategies.LatencyPercentileHedgingStrategy(50.0, 100L, 32);
+
+        for (var i = 0; i < 32; i++) {
+            hedgingStrategy.recordLatency(TimeUnit.SECONDS.toNanos(10));
+        }
+        for (var i = 0; i < 32; i++) {
+            hedgingStrategy.recordLatency(TimeUnit.MILLISECONDS.toNanos(5));
+        }
+
+        assertThat(hedgingStrategy.computeHedgeDelay(1, 1)).isEqualTo(5L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {-1.0, 0.0, 100.0, 101.0})
+    void testLatencyPercentile_ShouldNotAllowInvalidPercentile(double percentile) {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> HedgingStrategies.latencyPercentile(percentile, 100L, TimeUnit.MILLISECONDS))
+                .withMessage("percentile must be > 0 and < 100 but is %s", percentile);
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+class RecoverySignalTest {
+
+    private RecoverySignal signal;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        signal = new RecoverySignal();
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldTimeOut_WhenNotSignalled() throws InterruptedException {
+        assertThat(signal.awaitNanos(TimeUnit.MILLISECONDS.toNanos(10))).isFalse();
+        assertThat(signal.getWaiterCount()).isZero();
+    }
+
+    @Test
+    void shouldWakeAllWaiters_WhenSignalled() throws Exception {
+        var waiters = new ArrayList<Future<Boolean>>();
+        for (var i = 0; i < 5; i++) {
+            waiters.add(executor.submit(() -> signal.awaitNanos(TimeUnit.SECONDS.toNanos(30))));
+        }
+        awaitWaiterCount(5);
+
+        signal.signalRecovered();
+
+        for (var waiter : waiters) {
+            assertThat(waiter.get(5, TimeUnit.SECONDS)).isTrue();
+        }
+        assertThat(signal.getWaiterCount()).isZero();
+    }
+
+    @Test
+    void shouldNotWakeLaterWaiters_WithEarlierSignal() throws Exception {
+        var first = executor.submit(() -> signal.awaitNanos(TimeUnit.SECONDS.toNanos(30)));
+        awaitWaiterCount(1);
+        signal.signalRecovered();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(signal.awaitNanos(TimeUnit.MILLISECONDS.toNanos(10))).isFalse();
+    }
+
+    @Test
+    void shouldIgnoreSignal_WhenNoThreadIsWaiting() throws InterruptedException {
+        signal.signalRecovered();
+
+        assertThat(signal.awaitNanos(TimeUnit.MILLISECONDS.toNanos(10))).isFalse();
+    }
+
+    @Test
+    void shouldSignal_FromRetryer_OnlyWhenCallSucceeds() throws Exception {
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfExceptionOfType(IOException.class)
+                .retryIfResult("not ready"::equals)
+                .withStopStrategy(StopStrategies.stopAfterAttempt(2))
+                .withRecoverySignal(signal)
+                .build();
+        var waiter = executor.submit(() -> signal.awaitNanos(TimeUnit.SECONDS.toNanos(30)));
+        awaitWaiterCount(1);
+
+        assertThatThrownBy(() -> retryer.call(() -> "not ready")).isExactlyInstanceOf(RetryException.class);
+        assertThatThrownBy(() -> retryer.call(() -> {
+            throw new IOException("down");
+        })).isExactlyInstanceOf(RetryException.class);
+        assertThat(waiter.isDone()).isFalse();
+
+        assertThat(retryer.call(() -> "ready")).isEqualTo("ready");
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldWakeBackingOffRetryers_WhenAnotherRetryerSucceeds() throws Exception {
+        var failing = RetryerBuilder.newBuilder()
+                .retryIfExceptionOfType(IOException.class)
+                .withWaitStrategy(WaitStrategies.fixedWait(30, TimeUnit.SECONDS))
+                .withStopStrategy(StopStrategies.stopAfterAttempt(2))
+                .withBlockStrategy(BlockStrategies.signalAware(signal))
+                .build();
+        var succeeding = RetryerBuilder.newBuilder()
+                .withRecoverySignal(signal)
+                .build();
+
+        List<Future<String>> backingOff = new ArrayList<>();
+        for (var i = 0; i < 3; i++) {
+            var calls = new int[1];
+            backingOff.add(executor.submit(() -> failing.call(() -> {
+                if (calls[0]++ == 0) {
+                    throw new IOException("dependency down");
+                }
+                return "retried";
+            })));
+        }
+        awaitWaiterCount(3);
+
+        var start = System.nanoTime();
+        assertThat(succeeding.call(() -> "recovered")).isEqualTo("recovered");
+
+        for (var future : backingOff) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("retried");
+        }
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(5));
+    }
+
+    private void awaitWaiterCount(int expectedWaiterCount) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (signal.getWaiterCount() < expectedWaiterCount) {
+            assertThat(System.nanoTime()).describedAs("timed out waiting for waiters").isLessThan(deadline);
+            Thread.sleep(1L);
+        }
+    }
+}
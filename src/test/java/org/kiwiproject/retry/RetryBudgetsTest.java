@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.kiwiproject.retry.RetryerAssert.assertThatRetryer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class RetryBudgetsTest {
+
+    @Test
+    void testUnlimited() {
+        var retryBudget = RetryBudgets.unlimited();
+        for (var i = 0; i < 1_000; i++) {
+            assertThat(retryBudget.tryAcquireRetry()).isTrue();
+        }
+    }
+
+    @Test
+    void testTokenBucket_RefusesRetries_WhenEmpty() {
+        var retryBudget = RetryBudgets.tokenBucket(3, 0.5);
+
+        assertThat(retryBudget.tryAcquireRetry()).isTrue();
+        assertThat(retryBudget.tryAcquireRetry()).isTrue();
+        assertThat(retryBudget.tryAcquireRetry()).isTrue();
+        assertThat(retryBudget.tryAcquireRetry()).isFalse();
+    }
+
+    @Test
+    void testTokenBucket_SuccessesDepositTokens() {
+        var retryBudget = RetryBudgets.tokenBucket(2, 0.5);
+        retryBudget.tryAcquireRetry();
+        retryBudget.tryAcquireRetry();
+        assertThat(retryBudget.tryAcquireRetry()).isFalse();
+
+        retryBudget.recordSuccess();
+        assertThat(retryBudget.tryAcquireRetry()).isFalse();
+
+        retryBudget.recordSuccess();
+        assertThat(retryBudget.tryAcquireRetry()).isTrue();
+        assertThat(retryBudget.tryAcquireRetry()).isFalse();
+    }
+
+    @Test
+    void testTokenBucket_DoesNotExceedMaxTokens() {
+        var retryBudget = (RetryBudgets.TokenBucketRetryBudget) RetryBudgets.tokenBucket(5, 1.0);
+        for (var i = 0; i < 100; i++) {
+            retryBudget.recordSuccess();
+        }
+
+        assertThat(retryBudget.getAvailableTokens()).isEqualTo(5.0);
+    }
+
+    @Test
+    void testTokenBucket_IsConsistentUnderContention() throws InterruptedException {
+        var retryBudget = (RetryBudgets.TokenBucketRetryBudget) RetryBudgets.tokenBucket(10_000, 1.0);
+        var acquired = new AtomicInteger();
+        var numThreads = 8;
+        var executor = Executors.newFixedThreadPool(numThreads);
+        try {
+            for (var i = 0; i < numThreads; i++) {
+                executor.execute(() -> {
+                    for (var j = 0; j < 5_000; j++) {
+                        if (retryBudget.tryAcquireRetry()) {
+                            acquired.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        } finally {
+            shutdownAndAwait(executor);
+        }
+
+        assertThat(acquired).hasValue(10_000);
+        assertThat(retryBudget.getAvailableTokens()).isZero();
+    }
+
+    @Test
+    void testTokenBucket_ShouldNotAllowInvalidArguments() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> RetryBudgets.tokenBucket(0, 0.1))
+                .withMessage("maxTokens must be >= 1 but is 0");
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> RetryBudgets.tokenBucket(10, 0.0))
+                .withMessage("tokenRatio must be > 0 but is 0.0");
+    }
+
+    @Test
+    void testSharedBudgetStopsRetriesAcrossRetryers() {
+        var retryBudget = RetryBudgets.tokenBucket(3, 0.1);
+        var invocations = new AtomicInteger();
+        Callable<Void> alwaysFails = () -> {
+            invocations.incrementAndGet();
+            throw new IOException("down");
+        };
+
+        var first = newRetryerWithBudget(retryBudget);
+        var second = newRetryerWithBudget(retryBudget);
+
+        assertThatRetryer(first)
+                .throwsRetryExceptionCalling(alwaysFails)
+                .hasNumberOfFailedAttempts(4);
+        assertThatRetryer(second)
+                .throwsRetryExceptionCalling(alwaysFails)
+                .hasNumberOfFailedAttempts(1);
+
+        assertThat(invocations).hasValue(5);
+    }
+
+    @Test
+    void testSuccessfulCallsReplenishSharedBudget() {
+        var retryBudget = RetryBudgets.tokenBucket(1, 1.0);
+        var retryer = newRetryerWithBudget(retryBudget);
+
+        assertThatRetryer(retryer)
+                .throwsRetryExceptionCalling(() -> {
+                    throw new IOException("down");
+                })
+                .hasNumberOfFailedAttempts(2);
+
+        assertThatRetryer(retryer)
+                .completesSuccessfullyCalling(() -> "up")
+                .hasResult("up");
+
+        assertThat(retryBudget.tryAcquireRetry()).isTrue();
+    }
+
+    private static Retryer newRetryerWithBudget(RetryBudget retryBudget) {
+        return RetryerBuilder.newBuilder()
+                .retryIfException()
+                .withStopStrategy(StopStrategies.stopAfterAttempt(10))
+                .withRetryBudget(retryBudget)
+                .build();
+    }
+
+    private static void shutdownAndAwait(ExecutorService executor) throws InterruptedException {
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class RetryContextTest {
+
+    @Test
+    void testNewContext() {
+        var context = new RetryContext();
+
+        assertThat(context.getAttemptCount()).isZero();
+        assertThat(context.getLastAttemptDurationNanos()).isZero();
+        assertThat(context.getTotalAttemptDurationNanos()).isZero();
+        assertThat(context.getPreviousSleepTime()).isZero();
+        assertThat(context.getTotalSleepTime()).isZero();
+        assertThat(context.getTotalBlockedTimeNanos()).isZero();
+    }
+
+    @Test
+    void testRecordAttempt_KeepsMostRecentDurations() {
+        var context = new RetryContext();
+
+        for (var i = 1; i <= 100; i++) {
+            context.recordAttempt(i * 1_000L);
+        }
+
+        var oldestKept = 100 - RetryContext.ATTEMPT_DURATION_WINDOW + 1;
+        assertThat(context.getAttemptCount()).isEqualTo(100);
+        assertThat(context.getAttemptDurationNanos(oldestKept)).isEqualTo(oldestKept * 1_000L);
+        assertThat(context.getAttemptDurationNanos(99)).isEqualTo(99_000L);
+        assertThat(context.getLastAttemptDurationNanos()).isEqualTo(100_000L);
+        assertThat(context.getTotalAttemptDurationNanos()).isEqualTo(5_050_000L);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> context.getAttemptDurationNanos(oldestKept - 1))
+                .withMessage("attemptNumber must be between %d and 100 but is %d", oldestKept, oldestKept - 1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0, 3})
+    void testGetAttemptDurationNanos_ShouldRequireAttemptThatWasMade(int attemptNumber) {
+        var context = new RetryContext();
+        context.recordAttempt(10L);
+        context.recordAttempt(20L);
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> context.getAttemptDurationNanos(attemptNumber))
+                .withMessage("attemptNumber must be between 1 and 2 but is %d", attemptNumber);
+    }
+
+    @Test
+    void testRecordSleep() {
+        var context = new RetryContext();
+
+        context.recordSleep(100_000_000L, 101_000_000L);
+        context.recordSleep(200_250_000L, 202_000_000L);
+
+        assertThat(context.getPreviousSleepTime()).isEqualTo(200L);
+        assertThat(context.getPreviousSleepTimeNanos()).isEqualTo(200_250_000L);
+        assertThat(context.getTotalSleepTime()).isEqualTo(300L);
+        assertThat(context.getTotalSleepTimeNanos()).isEqualTo(300_250_000L);
+        assertThat(context.getTotalBlockedTimeNanos()).isEqualTo(303_000_000L);
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class RetryEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testEventsAreNotCreated_WhenNotRecording() {
+        assertThat(RetryEvents.beginAttempt(1)).isNull();
+        assertThat(RetryEvents.beginBackoff(1, 100L)).isNull();
+    }
+
+    @Test
+    void testRetryerEmitsEvents() throws Exception {
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfExceptionOfType(IOException.class)
+                .withWaitStrategy(WaitStrategies.fixedWait(20, TimeUnit.MILLISECONDS))
+                .withStopStrategy(StopStrategies.stopAfterAttempt(3))
+                .build();
+        var invocations = new AtomicInteger();
+        Callable<String> alwaysFails = () -> {
+            invocations.incrementAndGet();
+            throw new IOException("failed");
+        };
+
+        var events = record(() -> assertThatThrownBy(() -> retryer.call(alwaysFails))
+                .isInstanceOf(RetryException.class));
+
+        var attempts = eventsNamed(events, RetryEvents.AttemptEvent.NAME);
+        assertThat(attempts).hasSize(3);
+        assertThat(attempts).extracting(event -> event.getInt("attemptNumber")).containsExactly(1, 2, 3);
+        assertThat(attempts).allSatisfy(event -> {
+            assertThat(event.getString("outcome")).isEqualTo("exception");
+            assertThat(event.getClass("exceptionClass").getName()).isEqualTo(IOException.class.getName());
+        });
+
+        var backoffs = eventsNamed(events, RetryEvents.BackoffEvent.NAME);
+        assertThat(backoffs).hasSize(2);
+        assertThat(backoffs).allSatisfy(event -> {
+            assertThat(event.getDuration("sleepTime")).isEqualTo(Duration.ofMillis(20));
+            assertThat(event.getDuration()).isGreaterThanOrEqualTo(Duration.ofMillis(20));
+        });
+
+        var exhausted = eventsNamed(events, RetryEvents.RetryExhaustedEvent.NAME);
+        assertThat(exhausted).hasSize(1);
+        assertThat(exhausted.get(0).getInt("attemptNumber")).isEqualTo(3);
+        assertThat(exhausted.get(0).getString("reason")).isEqualTo("stop strategy");
+        assertThat(exhausted.get(0).getClass("exceptionClass").getName()).isEqualTo(IOException.class.getName());
+    }
+
+    @Test
+    void testRetryerEmitsAttemptEvent_WhenFirstAttemptSucceeds() throws Exception {
+        var retryer = RetryerBuilder.newBuilder().build();
+
+        var events = record(() -> assertThat(retryer.<String>call(() -> "result")).isEqualTo("result"));
+
+        var attempts = eventsNamed(events, RetryEvents.AttemptEvent.NAME);
+        assertThat(attempts).hasSize(1);
+        assertThat(attempts.get(0).getString("outcome")).isEqualTo("result");
+        assertThat(attempts.get(0).getClass("exceptionClass")).isNull();
+        assertThat(eventsNamed(events, RetryEvents.BackoffEvent.NAME)).isEmpty();
+    }
+
+    @Test
+    void testRetryStageEmitsEvents() throws Exception {
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfExceptionOfType(IOException.class)
+                .withStopStrategy(StopStrategies.stopAfterAttempt(2))
+                .build();
+
+        var events = record(() -> assertThat(retryer.<String>retryStage(
+                () -> CompletableFuture.failedFuture(new IOException("failed"))))
+                .failsWithin(5, TimeUnit.SECONDS));
+
+        assertThat(eventsNamed(events, RetryEvents.AttemptEvent.NAME)).hasSize(2);
+        assertThat(eventsNamed(events, RetryEvents.RetryExhaustedEvent.NAME)).hasSize(1);
+    }
+
+    private List<RecordedEvent> record(ThrowingRunnable runnable) throws Exception {
+        var file = tempDir.resolve("retry.jfr");
+        try (var recording = new Recording()) {
+            recording.enable(RetryEvents.AttemptEvent.NAME);
+            recording.enable(RetryEvents.BackoffEvent.NAME);
+            recording.enable(RetryEvents.RetryExhaustedEvent.NAME);
+            recording.start();
+
+            runnable.run();
+
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static List<RecordedEvent> eventsNamed(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .collect(toList());
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
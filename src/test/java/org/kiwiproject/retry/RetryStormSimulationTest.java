@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+class RetryStormSimulationTest {
+
+    @Test
+    void shouldReportNoRetries_WhenBackendIsHealthy() {
+        var simulation = newSimulationBuilder().build();
+
+        var report = simulation.run(retryForever(simulation));
+
+        assertThat(report.getCalls()).isEqualTo(200 * 20);
+        assertThat(report.getSuccessfulCalls()).isEqualTo(report.getCalls());
+        assertThat(report.getFailedCalls()).isZero();
+        assertThat(report.getUnfinishedCalls()).isZero();
+        assertThat(report.getAttempts()).isEqualTo(report.getCalls());
+        assertThat(report.getWastedAttempts()).isZero();
+        assertThat(report.getAmplificationFactor()).isEqualTo(1.0);
+        assertThat(report.getTimeToRecovery()).contains(Duration.ZERO);
+        assertThat(report.getP50Latency()).isEqualTo(Duration.ofMillis(20));
+        assertThat(report.getP99Latency()).isEqualTo(Duration.ofMillis(20));
+    }
+
+    @Test
+    void shouldFailCallsWithoutRetrying_WhenThereIsAnOutage() {
+        var simulation = newSimulationBuilder()
+                .withOutage(Duration.ofSeconds(5), Duration.ofSeconds(3))
+                .build();
+
+        var report = simulation.run(RetryerBuilder.newBuilder().withTicker(simulation.ticker()).build());
+
+        // the clients start 600 calls during the outage
+        assertThat(report.getFailedCalls()).isEqualTo(600);
+        assertThat(report.getWastedAttempts()).isEqualTo(600);
+        assertThat(report.getAmplificationFactor()).isEqualTo(1.0);
+        assertThat(report.getTimeToRecovery()).contains(Duration.ZERO);
+    }
+
+    @Test
+    void shouldShowRetryStorm_WhenRetryingWithoutBackoff() {
+        var simulation = newSimulationBuilder()
+                .withOutage(Duration.ofSeconds(5), Duration.ofSeconds(3))
+                .withRecoveryTime(Duration.ofSeconds(1))
+                .build();
+
+        var withoutRetries = simulation.run(RetryerBuilder.newBuilder().withTicker(simulation.ticker()).build());
+        var retryStorm = simulation.run(retryForever(simulation));
+
+        assertThat(retryStorm.getSuccessfulCalls()).isEqualTo(retryStorm.getCalls());
+        assertThat(retryStorm.getAmplificationFactor()).isGreaterThan(5.0);
+        assertThat(retryStorm.getWastedAttempts()).isGreaterThan(10 * withoutRetries.getWastedAttempts());
+        assertThat(retryStorm.getTimeToRecovery()).isPresent();
+        assertThat(withoutRetries.getTimeToRecovery()).isPresent();
+        assertThat(retryStorm.getTimeToRecovery().orElseThrow())
+                .isGreaterThan(withoutRetries.getTimeToRecovery().orElseThrow());
+        assertThat(retryStorm.getP99Latency()).isGreaterThan(Duration.ofSeconds(3));
+    }
+
+    @Test
+    void shouldReportBackendWhichNeverRecovers() {
+        var simulation = newSimulationBuilder()
+                .withCapacity(150)
+                .build();
+
+        var report = simulation.run(RetryerBuilder.newBuilder().withTicker(simulation.ticker()).build());
+
+        // the clients make 200 calls per second, so a quarter of them fail for the whole simulation
+        assertThat(report.getTimeToRecovery()).isEmpty();
+        assertThat(report.getFailedCalls()).isEqualTo(report.getCalls() / 4);
+    }
+
+    @Test
+    void shouldUseFailureCurve() {
+        var simulation = newSimulationBuilder()
+                .withFailureCurve(utilization -> 0.5)
+                .build();
+
+        var report = simulation.run(RetryerBuilder.newBuilder().withTicker(simulation.ticker()).build());
+
+        assertThat(report.getFailedCalls()).isBetween(1_800, 2_200);
+    }
+
+    @Test
+    void shouldBeDeterministic() {
+        var simulation = newSimulationBuilder()
+                .withOutage(Duration.ofSeconds(5), Duration.ofSeconds(3))
+                .withFailureCurve(utilization -> Math.min(1.0, utilization * utilization / 4))
+                .build();
+
+        var first = simulation.run(retryWithBackoff(simulation));
+        var second = simulation.run(retryWithBackoff(simulation));
+
+        assertThat(second).hasToString(first.toString());
+    }
+
+    @Test
+    void shouldRequireRetryerUsingTheSimulationTicker() {
+        var simulation = newSimulationBuilder().build();
+        var retryer = RetryerBuilder.newBuilder().build();
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> simulation.run(retryer))
+                .withMessage("retryer must be built using the ticker of this simulation");
+    }
+
+    @Test
+    void shouldRequireOutageToEndBeforeTheDuration() {
+        var builder = newSimulationBuilder()
+                .withOutage(Duration.ofSeconds(15), Duration.ofSeconds(5));
+
+        assertThatIllegalStateException()
+                .isThrownBy(builder::build)
+                .withMessage("the outage must end before the duration has passed");
+    }
+
+    @Test
+    void shouldRequirePositiveValues() {
+        var builder = RetryStormSimulationBuilder.newBuilder();
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> builder.withClients(0))
+                .withMessage("clients must be >= 1 but is 0");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> builder.withCapacity(0))
+                .withMessage("capacityPerSecond must be >= 1 but is 0");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> builder.withDuration(Duration.ZERO))
+                .withMessage("duration must be > 0 but is PT0S");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> builder.withLatency(Duration.ofMillis(-1)))
+                .withMessage("latency must be >= 0 but is PT-0.001S");
+    }
+
+    @Test
+    void shouldRequireValidPercentile() {
+        var simulation = newSimulationBuilder().withDuration(Duration.ofSeconds(1)).build();
+        var report = simulation.run(RetryerBuilder.newBuilder().withTicker(simulation.ticker()).build());
+
+        assertThat(report.getLatencyPercentile(100.0)).isEqualTo(Duration.ofMillis(20));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> report.getLatencyPercentile(0.0))
+                .withMessage("percentile must be > 0 and <= 100 but is 0.0");
+    }
+
+    private static RetryStormSimulationBuilder newSimulationBuilder() {
+        return RetryStormSimulationBuilder.newBuilder()
+                .withClients(200)
+                .withDuration(Duration.ofSeconds(20))
+                .withCapacity(300);
+    }
+
+    private static Retryer retryForever(RetryStormSimulation simulation) {
+        return RetryerBuilder.newBuilder()
+                .retryIfException()
+                .withWaitStrategy(WaitStrategies.fixedWait(10, TimeUnit.MILLISECONDS))
+                .withTicker(simulation.ticker())
+                .build();
+    }
+
+    private static Retryer retryWithBackoff(RetryStormSimulation simulation) {
+        return RetryerBuilder.newBuilder()
+                .retryIfException()
+                .withWaitStrategy(WaitStrategies.exponentialWait(50, 5, TimeUnit.SECONDS))
+                .withStopStrategy(StopStrategies.stopAfterAttempt(5))
+                .withTicker(simulation.ticker())
+                .build();
+    }
+}
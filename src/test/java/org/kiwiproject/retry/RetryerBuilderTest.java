@@ -19,10 +19,12 @@
 package org.kiwiproject.retry;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.kiwiproject.retry.RetryerAssert.assertThatRetryer;
 
+import com.google.common.base.Ticker;
 import org.junit.jupiter.api.Test;
 import org.kiwiproject.retry.Retryer.RetryerCallable;
 
@@ -36,6 +38,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 class RetryerBuilderTest {
 
@@ -183,6 +186,68 @@ class RetryerBuilderTest {
                 .withMessage("a block strategy has already been set: %s", threadSleepStrategy);
     }
 
+    @Test
+    void testWithDeadline_ShouldNotAllowSettingIt_WhenOneAlreadyExists() {
+        assertThatIllegalStateException()
+                .isThrownBy(() -> RetryerBuilder.newBuilder()
+                        .withDeadline(1, TimeUnit.SECONDS)
+                        .withDeadline(2, TimeUnit.SECONDS)
+                        .build())
+                .withMessage("a deadline has already been set: 1000000000 ns");
+    }
+
+    @Test
+    void testWithDeadline_ShouldRequirePositiveDuration() {
+        var builder = RetryerBuilder.newBuilder();
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> builder.withDeadline(0, TimeUnit.SECONDS))
+                .withMessage("duration must be > 0 but is 0");
+    }
+
+    @Test
+    void testWithTicker_ShouldMeasureDelaysUsingTheTicker() throws Exception {
+        var nowNanos = new AtomicLong();
+        var ticker = new Ticker() {
+            @Override
+            public long read() {
+                return nowNanos.get();
+            }
+        };
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfException()
+                .withStopStrategy(StopStrategies.stopAfterDelay(5, TimeUnit.SECONDS))
+                .withTicker(ticker)
+                .build();
+
+        var attempts = new AtomicInteger();
+        assertThatThrownBy(() -> retryer.call(() -> {
+            attempts.incrementAndGet();
+            nowNanos.addAndGet(TimeUnit.SECONDS.toNanos(2));
+            throw new IOException();
+        }))
+                .isExactlyInstanceOf(RetryException.class);
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void testWithRecoverySignal_ShouldNotAllowSettingIt_WhenOneAlreadyExists() {
+        var builder = RetryerBuilder.newBuilder().withRecoverySignal(new RecoverySignal());
+
+        assertThatIllegalStateException()
+                .isThrownBy(() -> builder.withRecoverySignal(new RecoverySignal()))
+                .withMessageStartingWith("a recovery signal has already been set: ");
+    }
+
+    @Test
+    void testWithTicker_ShouldNotAllowSettingIt_WhenOneAlreadyExists() {
+        var builder = RetryerBuilder.newBuilder().withTicker(Ticker.systemTicker());
+
+        assertThatIllegalStateException()
+                .isThrownBy(() -> builder.withTicker(Ticker.systemTicker()))
+                .withMessageStartingWith("a ticker has already been set: ");
+    }
+
     @Test
     void testRetryIfException_WhenCompletesSuccessfully() throws Exception {
         Callable<Boolean> callable = noIOExceptionAfter5Attempts();
@@ -337,6 +402,73 @@ class RetryerBuilderTest {
                 .hasExceptionOnLastAttempt();
     }
 
+    @Test
+    void testRetryIfExceptionOfType_WithManyTypes_WhenSucceedsAfterMultipleAttempts() {
+        Callable<Boolean> callable = noIOExceptionAfter5Attempts();
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfExceptionOfType(IllegalArgumentException.class)
+                .retryIfExceptionOfType(UnsupportedOperationException.class)
+                .retryIfExceptionOfType(IOException.class)
+                .build();
+
+        assertThatRetryer(retryer)
+                .completesSuccessfullyCalling(callable)
+                .hasResult(true);
+    }
+
+    @Test
+    void testRetryIfExceptionOfType_WithManyTypes_WhenFailsToComplete() {
+        Callable<Boolean> callable = noIllegalStateExceptionAfter5Attempts();
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfExceptionOfType(IllegalArgumentException.class)
+                .retryIfExceptionOfType(IOException.class)
+                .retryIfException(e -> e instanceof UnsupportedOperationException)
+                .build();
+
+        assertThatRetryer(retryer)
+                .throwsRetryExceptionCalling(callable)
+                .hasCauseExactlyInstanceOf(IllegalStateException.class)
+                .hasNumberOfFailedAttempts(1)
+                .hasExceptionOnLastAttempt();
+    }
+
+    @Test
+    void testCompileExceptionPredicates_ShouldCombineExceptionClassPredicates() {
+        var customPredicate = new AtomicInteger();
+        var builder = RetryerBuilder.newBuilder()
+                .retryIfExceptionOfType(IllegalArgumentException.class)
+                .retryIfException(e -> customPredicate.incrementAndGet() > 100)
+                .retryIfExceptionOfType(IOException.class)
+                .retryIfRuntimeException();
+
+        var compiled = RetryerBuilder.compileExceptionPredicates(builder.getExceptionPredicates());
+
+        assertThat(compiled).hasSize(2);
+        assertThat(compiled.get(0)).isInstanceOfSatisfying(RetryerBuilder.ExceptionClassesPredicate.class,
+                predicate -> assertThat(predicate.getExceptionClasses()).containsExactly(
+                        IllegalArgumentException.class, IOException.class, RuntimeException.class));
+
+        var classesPredicate = compiled.get(0);
+        assertThat(classesPredicate.test(Attempt.newExceptionAttempt(new SocketException(), 1, 0L))).isTrue();
+        assertThat(classesPredicate.test(Attempt.newExceptionAttempt(new IllegalStateException(), 1, 0L))).isTrue();
+        assertThat(classesPredicate.test(Attempt.newExceptionAttempt(new InterruptedException(), 1, 0L))).isFalse();
+        assertThat(classesPredicate.test(Attempt.newResultAttempt("result", 1, 0L))).isFalse();
+
+        // Asking again for the same type uses the cached value
+        assertThat(classesPredicate.test(Attempt.newExceptionAttempt(new InterruptedException(), 2, 0L))).isFalse();
+        assertThat(customPredicate).hasValue(0);
+    }
+
+    @Test
+    void testCompileExceptionPredicates_WhenNoExceptionClassPredicates() {
+        var builder = RetryerBuilder.newBuilder()
+                .retryIfException(e -> true);
+
+        var compiled = RetryerBuilder.compileExceptionPredicates(builder.getExceptionPredicates());
+
+        assertThat(compiled).hasSize(1).doesNotHaveAnyElementsOfTypes(RetryerBuilder.ExceptionClassesPredicate.class);
+    }
+
     @Test
     void testRetryIfExceptionWithPredicate_WhenSucceedsAfterMultipleAttempts() {
         Callable<Boolean> callable = noIOExceptionAfter5Attempts();
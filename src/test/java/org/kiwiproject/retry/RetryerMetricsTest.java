@@ -0,0 +1,206 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+class RetryerMetricsTest {
+
+    private RetryerMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new RetryerMetrics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        metrics.unregisterMBean();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "0, 0",
+            "1, 0",
+            "1024, 0",
+            "1025, 1",
+            "2048, 1",
+            "2049, 2",
+            "1000000, 10",
+            "68719476736, 26",
+            "68719476737, 27",
+            "9223372036854775807, 27"
+    })
+    void testBucketIndex(long latencyNanos, int expectedIndex) {
+        assertThat(RetryerMetrics.bucketIndex(latencyNanos)).isEqualTo(expectedIndex);
+    }
+
+    @Test
+    void testLatencyBucketUpperBounds() {
+        var upperBounds = metrics.getLatencyBucketUpperBoundsNanos();
+
+        assertThat(upperBounds).hasSize(28);
+        assertThat(upperBounds[0]).isEqualTo(1_024L);
+        assertThat(upperBounds[26]).isEqualTo(1L << 36);
+        assertThat(upperBounds[27]).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void testSnapshot() {
+        metrics.recordCall();
+        metrics.recordCall();
+        metrics.recordAttempt(1, 500L);
+        metrics.recordAttempt(1, 2_000L);
+        metrics.recordAttempt(2, TimeUnit.MILLISECONDS.toNanos(1));
+        metrics.recordAttempt(25, TimeUnit.SECONDS.toNanos(1));
+        metrics.recordSuccess();
+        metrics.recordFailure();
+        metrics.recordExhaustion();
+        metrics.recordSleep(TimeUnit.MILLISECONDS.toNanos(150));
+        metrics.recordSleep(TimeUnit.MICROSECONDS.toNanos(50_500));
+
+        var snapshot = metrics.snapshot();
+
+        assertThat(snapshot.getCalls()).isEqualTo(2);
+        assertThat(snapshot.getAttempts()).isEqualTo(4);
+        assertThat(snapshot.getSuccesses()).isOne();
+        assertThat(snapshot.getFailures()).isOne();
+        assertThat(snapshot.getExhaustions()).isOne();
+        assertThat(snapshot.getTotalSleepTime()).isEqualTo(200L);
+        assertThat(snapshot.getTotalSleepTimeNanos()).isEqualTo(200_500_000L);
+        assertThat(snapshot.getLatencyBucketUpperBoundsNanos()).isEqualTo(metrics.getLatencyBucketUpperBoundsNanos());
+
+        assertThat(snapshot.getAttemptLatencyHistogram(1)[0]).isOne();
+        assertThat(snapshot.getAttemptLatencyHistogram(1)[1]).isOne();
+        assertThat(snapshot.getAttemptLatencyHistogram(2)[10]).isOne();
+        assertThat(snapshot.getAttemptLatencyHistogram(RetryerMetrics.TRACKED_ATTEMPT_NUMBERS)[20]).isOne();
+        assertThat(snapshot.getAttemptLatencyHistogram(100)).isEqualTo(
+                snapshot.getAttemptLatencyHistogram(RetryerMetrics.TRACKED_ATTEMPT_NUMBERS));
+        assertThat(snapshot.getAttemptLatencyHistogram(3)).containsOnly(0L);
+    }
+
+    @Test
+    void testRecordAttempt_FromManyThreads() throws Exception {
+        var threads = 8;
+        var attemptsPerThread = 10_000;
+        var executor = Executors.newFixedThreadPool(threads);
+        try {
+            var futures = new ArrayList<Future<?>>();
+            for (var i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    for (var j = 0; j < attemptsPerThread; j++) {
+                        metrics.recordAttempt(1, 500L);
+                    }
+                }));
+            }
+            for (var future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        var snapshot = metrics.snapshot();
+        assertThat(snapshot.getAttempts()).isEqualTo(threads * attemptsPerThread);
+        assertThat(snapshot.getAttemptLatencyHistogram(1)[0]).isEqualTo(threads * attemptsPerThread);
+    }
+
+    @Test
+    void testSnapshot_IsNotAffectedByLaterRecording() {
+        var snapshot = metrics.snapshot();
+
+        metrics.recordCall();
+        metrics.recordAttempt(1, 100L);
+
+        assertThat(snapshot.getCalls()).isZero();
+        assertThat(snapshot.getAttemptLatencyHistogram(1)).containsOnly(0L);
+    }
+
+    @Test
+    void testSnapshot_ShouldRequirePositiveAttemptNumber() {
+        var snapshot = metrics.snapshot();
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> snapshot.getAttemptLatencyHistogram(0))
+                .withMessage("attemptNumber must be >= 1 but is 0");
+    }
+
+    @Test
+    void testRegisterMBean() throws Exception {
+        metrics.recordCall();
+        metrics.recordAttempt(1, 100L);
+
+        var objectName = metrics.registerMBean("test-retryer");
+
+        assertThat(objectName.getCanonicalName()).isEqualTo("org.kiwiproject.retry:name=test-retryer,type=Retryer");
+        var server = ManagementFactory.getPlatformMBeanServer();
+        assertThat(server.getAttribute(objectName, "Calls")).isEqualTo(1L);
+        assertThat(server.getAttribute(objectName, "Attempts")).isEqualTo(1L);
+        assertThat(server.getAttribute(objectName, "AttemptLatencyHistograms")).isInstanceOf(long[][].class);
+
+        metrics.unregisterMBean();
+
+        assertThat(server.isRegistered(objectName)).isFalse();
+    }
+
+    @Test
+    void testRegisterMBean_ShouldNotAllowRegisteringTwice() {
+        var objectName = metrics.registerMBean("twice");
+
+        assertThatIllegalStateException()
+                .isThrownBy(() -> metrics.registerMBean("again"))
+                .withMessage("metrics are already registered as %s", objectName);
+    }
+
+    @Test
+    void testRegisterMBean_WhenNameIsAlreadyRegistered() {
+        metrics.registerMBean("duplicate");
+        var otherMetrics = new RetryerMetrics();
+
+        assertThatIllegalStateException()
+                .isThrownBy(() -> otherMetrics.registerMBean("duplicate"))
+                .withMessage("unable to register metrics for retryer duplicate");
+    }
+
+    @Test
+    void testRegisterMBean_WithInvalidName() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> metrics.registerMBean("invalid,name"))
+                .withMessage("invalid retryer name: invalid,name");
+    }
+
+    @Test
+    void testUnregisterMBean_WhenNotRegistered() {
+        metrics.unregisterMBean();
+
+        assertThat(metrics.snapshot().getCalls()).isZero();
+    }
+}
@@ -19,22 +19,49 @@ package org.kiwiproject.retry;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.kiwiproject.retry.RetryExceptionAssert.assertThatRetryExceptionThrownBy;
 import static org.kiwiproject.retry.RetryerAssert.assertThatRetryer;
 
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.lang.reflect.InvocationTargetException;
 import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 class RetryerTest {
 
+    private ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
     @ParameterizedTest
     @MethodSource("errors")
     void testCallDoesNotCatchError(Class<? extends Error> errorClass) {
@@ -240,6 +267,464 @@ class RetryerTest {
         assertThat(thrower.invocations).isEqualTo(3);
     }
 
+    @Test
+    void testCallDoesNotAllocate_WhenFirstAttemptSucceeds_WithNoListeners() throws Exception {
+        var threadMXBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean,
+                "thread allocation measurement is not available");
+        var allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        assumeTrue(allocationMXBean.isThreadAllocatedMemorySupported() && allocationMXBean.isThreadAllocatedMemoryEnabled(),
+                "thread allocation measurement is not enabled");
+
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfExceptionOfType(IOException.class)
+                .withStopStrategy(StopStrategies.stopAfterAttempt(3))
+                .withRetryBudget(RetryBudgets.tokenBucket(10, 0.1))
+                .build();
+        Callable<String> callable = () -> "result";
+        var threadId = Thread.currentThread().getId();
+
+        // Only warm up enough to initialize classes. Measuring before the JIT compiler has optimized the
+        // loop ensures that allocations are not hidden by escape analysis.
+        callRepeatedly(retryer, callable, 10);
+
+        var iterations = 10_000;
+        var allocatedBefore = allocationMXBean.getThreadAllocatedBytes(threadId);
+        var resultLength = callRepeatedly(retryer, callable, iterations);
+        var allocatedBytes = allocationMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        assertThat(resultLength).isEqualTo(iterations * "result".length());
+
+        // Allow a small amount for the measurement itself; an Attempt per call would be hundreds of kilobytes
+        assertThat(allocatedBytes)
+                .describedAs("bytes allocated by %d successful calls", iterations)
+                .isLessThan(1_024L);
+    }
+
+    private static int callRepeatedly(Retryer retryer, Callable<String> callable, int iterations)
+            throws Exception {
+        var resultLength = 0;
+        for (var i = 0; i < iterations; i++) {
+            resultLength += retryer.call(callable).length();
+        }
+        return resultLength;
+    }
+
+    @Test
+    void testMetrics_WhenFirstAttemptSucceeds() throws Exception {
+        var retryer = RetryerBuilder.newBuilder().build();
+
+        retryer.call(() -> "result");
+        retryer.call(() -> "result");
+
+        var snapshot = retryer.getMetrics().snapshot();
+        assertThat(snapshot.getCalls()).isEqualTo(2);
+        assertThat(snapshot.getAttempts()).isEqualTo(2);
+        assertThat(snapshot.getSuccesses()).isEqualTo(2);
+        assertThat(snapshot.getFailures()).isZero();
+        assertThat(snapshot.getExhaustions()).isZero();
+        assertThat(LongStream.of(snapshot.getAttemptLatencyHistogram(1)).sum()).isEqualTo(2);
+        assertThat(snapshot.getAttemptLatencyHistogram(2)).containsOnly(0L);
+    }
+
+    @Test
+    void testMetrics_WhenAsyncAttemptThrowsError() {
+        var retryer = RetryerBuilder.newBuilder().retryIfException().build();
+
+        var future = retryer.callAsync(() -> {
+            throw new AssertionError("boom");
+        }, scheduler);
+
+        assertThat(future).failsWithin(5, TimeUnit.SECONDS);
+        var snapshot = retryer.getMetrics().snapshot();
+        assertThat(snapshot.getCalls()).isOne();
+        assertThat(snapshot.getAttempts()).isOne();
+        assertThat(LongStream.of(snapshot.getAttemptLatencyHistogram(1)).sum()).isOne();
+        assertThat(snapshot.getFailures()).isOne();
+        assertThat(snapshot.getSuccesses()).isZero();
+    }
+
+    @Test
+    void testMetrics_WhenAsyncAttemptIsInterrupted() {
+        var retryer = RetryerBuilder.newBuilder().retryIfException().build();
+
+        var future = retryer.callAsync(() -> {
+            throw new InterruptedException("interrupted");
+        }, scheduler);
+
+        assertThat(future).failsWithin(5, TimeUnit.SECONDS);
+        var snapshot = retryer.getMetrics().snapshot();
+        assertThat(snapshot.getCalls()).isOne();
+        assertThat(snapshot.getAttempts()).isOne();
+        assertThat(LongStream.of(snapshot.getAttemptLatencyHistogram(1)).sum()).isOne();
+        assertThat(snapshot.getFailures()).isOne();
+    }
+
+    @Test
+    void testMetrics_WhenRetryThrowsError() {
+        var retryer = RetryerBuilder.newBuilder().retryIfException().build();
+        var attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> retryer.call(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IOException("first attempt");
+            }
+            throw new AssertionError("second attempt");
+        }))
+                .isExactlyInstanceOf(AssertionError.class);
+
+        var snapshot = retryer.getMetrics().snapshot();
+        assertThat(snapshot.getAttempts()).isEqualTo(2);
+        assertThat(LongStream.of(snapshot.getAttemptLatencyHistogram(2)).sum()).isOne();
+        assertThat(snapshot.getFailures()).isOne();
+    }
+
+    @Test
+    void testMetrics_WhenRetriedUntilSuccess() throws Exception {
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfExceptionOfType(IOException.class)
+                .withWaitStrategy(WaitStrategies.fixedWait(5, TimeUnit.MILLISECONDS))
+                .build();
+
+        retryer.call(new Thrower(IOException.class, 3));
+
+        var snapshot = retryer.getMetrics().snapshot();
+        assertThat(snapshot.getCalls()).isOne();
+        assertThat(snapshot.getAttempts()).isEqualTo(3);
+        assertThat(snapshot.getSuccesses()).isOne();
+        assertThat(snapshot.getTotalSleepTime()).isEqualTo(10L);
+        assertThat(LongStream.of(snapshot.getAttemptLatencyHistogram(3)).sum()).isOne();
+    }
+
+    @Test
+    void testSubMillisecondWaits_ArePassedToBlockStrategyInNanoseconds() throws Exception {
+        var blockedNanos = new ArrayList<Long>();
+        var blockStrategy = new BlockStrategy() {
+            @Override
+            public void block(long sleepTime) {
+                throw new AssertionError("should block in nanoseconds");
+            }
+
+            @Override
+            public void blockNanos(long sleepTimeNanos) {
+                blockedNanos.add(sleepTimeNanos);
+            }
+        };
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfExceptionOfType(IOException.class)
+                .withWaitStrategy(WaitStrategies.fixedWait(Duration.ofNanos(300_000)))
+                .withBlockStrategy(blockStrategy)
+                .build();
+
+        retryer.call(new Thrower(IOException.class, 3));
+
+        assertThat(blockedNanos).containsExactly(300_000L, 300_000L);
+        assertThat(retryer.getMetrics().getTotalSleepTime()).isZero();
+        assertThat(retryer.getMetrics().getTotalSleepTimeNanos()).isEqualTo(600_000L);
+    }
+
+    @Test
+    void testMetrics_WhenExhaustedOrNotRetryable() {
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfExceptionOfType(IOException.class)
+                .withStopStrategy(StopStrategies.stopAfterAttempt(2))
+                .build();
+
+        assertThatThrownBy(() -> retryer.call(new Thrower(IOException.class, 5))).isInstanceOf(RetryException.class);
+        assertThatThrownBy(() -> retryer.call(new Thrower(IllegalStateException.class, 5)))
+                .isInstanceOf(RetryException.class);
+
+        var snapshot = retryer.getMetrics().snapshot();
+        assertThat(snapshot.getCalls()).isEqualTo(2);
+        assertThat(snapshot.getAttempts()).isEqualTo(3);
+        assertThat(snapshot.getSuccesses()).isZero();
+        assertThat(snapshot.getExhaustions()).isOne();
+        assertThat(snapshot.getFailures()).isOne();
+    }
+
+    @Test
+    void testMetrics_WithCallAsync() {
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfExceptionOfType(IOException.class)
+                .build();
+
+        assertThat(retryer.callAsync(new Thrower(IOException.class, 2), scheduler))
+                .succeedsWithin(5, TimeUnit.SECONDS);
+
+        var snapshot = retryer.getMetrics().snapshot();
+        assertThat(snapshot.getCalls()).isOne();
+        assertThat(snapshot.getAttempts()).isEqualTo(2);
+        assertThat(snapshot.getSuccesses()).isOne();
+    }
+
+    @Test
+    void testCallPassesContextToContextualStrategies() throws Exception {
+        var waitStrategy = new RecordingContextualWaitStrategy();
+        ContextualStopStrategy stopStrategy = (attempt, context) -> context.getTotalSleepTime() >= 30;
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfException()
+                .withWaitStrategy(waitStrategy)
+                .withStopStrategy(stopStrategy)
+                .build();
+        var thrower = new Thrower(IOException.class, 10);
+
+        assertThatRetryExceptionThrownBy(() -> retryer.call(thrower))
+                .hasNumberOfFailedAttempts(4);
+
+        // the sleep time is computed before the stop strategy is consulted, so it can see the next sleep time
+        assertThat(waitStrategy.attemptCounts).containsExactly(1, 2, 3, 4);
+        assertThat(waitStrategy.previousSleepTimes).containsExactly(0L, 5L, 10L, 15L);
+        assertThat(waitStrategy.totalBlockedTimesNanos.get(0)).isZero();
+        assertThat(waitStrategy.totalBlockedTimesNanos.get(2))
+                .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(15));
+        assertThat(waitStrategy.lastAttemptDurationsNanos).hasSize(4).allSatisfy(duration -> assertThat(duration).isNotNegative());
+    }
+
+    @Test
+    void testCallAsyncPassesContextToContextualStrategies() {
+        var waitStrategy = new RecordingContextualWaitStrategy();
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfException()
+                .withWaitStrategy(waitStrategy)
+                .build();
+        var thrower = new Thrower(IOException.class, 4);
+
+        assertThat(retryer.callAsync(thrower, scheduler)).succeedsWithin(5, TimeUnit.SECONDS);
+
+        assertThat(waitStrategy.attemptCounts).containsExactly(1, 2, 3);
+        assertThat(waitStrategy.previousSleepTimes).containsExactly(0L, 5L, 10L);
+    }
+
+    @Test
+    void testContextualStrategyWithoutContext() {
+        var waitStrategy = new RecordingContextualWaitStrategy();
+
+        var sleepTime = waitStrategy.computeSleepTime(Attempt.newExceptionAttempt(new IOException(), 3, 100L));
+
+        assertThat(sleepTime).isEqualTo(5L);
+        assertThat(waitStrategy.attemptCounts).containsExactly(0);
+    }
+
+    /**
+     * Records what it sees in the context, and sleeps 5 milliseconds longer than the previous sleep.
+     */
+    private static class RecordingContextualWaitStrategy implements ContextualWaitStrategy {
+        final List<Integer> attemptCounts = Collections.synchronizedList(new ArrayList<>());
+        final List<Long> previousSleepTimes = Collections.synchronizedList(new ArrayList<>());
+        final List<Long> totalBlockedTimesNanos = Collections.synchronizedList(new ArrayList<>());
+        final List<Long> lastAttemptDurationsNanos = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public long computeSleepTime(Attempt<?> failedAttempt, RetryContext context) {
+            attemptCounts.add(context.getAttemptCount());
+            previousSleepTimes.add(context.getPreviousSleepTime());
+            totalBlockedTimesNanos.add(context.getTotalBlockedTimeNanos());
+            lastAttemptDurationsNanos.add(context.getLastAttemptDurationNanos());
+            return context.getPreviousSleepTime() + 5;
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("checkedAndUnchecked")
+    void testCallAsyncRetriesUntilSuccess(Class<? extends Exception> exceptionClass) {
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfExceptionOfType(exceptionClass)
+                .withWaitStrategy(WaitStrategies.fixedWait(10, TimeUnit.MILLISECONDS))
+                .build();
+        var thrower = new Thrower(exceptionClass, 5);
+
+        var future = retryer.callAsync(thrower, scheduler);
+
+        assertThat(future).succeedsWithin(5, TimeUnit.SECONDS);
+        assertThat(thrower.invocations).isEqualTo(5);
+    }
+
+    @Test
+    void testCallAsyncWithExecutorRetriesUntilSuccess() {
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfException()
+                .withWaitStrategy(WaitStrategies.fixedWait(10, TimeUnit.MILLISECONDS))
+                .build();
+        var thrower = new Thrower(IOException.class, 3);
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var future = retryer.callAsync(thrower, executor);
+
+            assertThat(future).succeedsWithin(5, TimeUnit.SECONDS);
+            assertThat(thrower.invocations).isEqualTo(3);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("checkedAndUnchecked")
+    void testCallAsyncCompletesExceptionallyWhenRetriesAreStopped(Class<? extends Exception> exceptionClass) {
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfExceptionOfType(exceptionClass)
+                .withStopStrategy(StopStrategies.stopAfterAttempt(3))
+                .build();
+        var thrower = new Thrower(exceptionClass, 5);
+
+        var future = retryer.callAsync(thrower, scheduler);
+
+        assertThatThrownBy(future::join)
+                .isExactlyInstanceOf(CompletionException.class)
+                .cause()
+                .isExactlyInstanceOf(RetryException.class)
+                .hasCauseExactlyInstanceOf(exceptionClass);
+        assertThat(thrower.invocations).isEqualTo(3);
+    }
+
+    @ParameterizedTest
+    @MethodSource("errors")
+    void testCallAsyncDoesNotRetryError(Class<? extends Error> errorClass) {
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfException()
+                .build();
+        var thrower = new Thrower(errorClass, 3);
+
+        var future = retryer.callAsync(thrower, scheduler);
+
+        assertThatThrownBy(future::join).hasCauseExactlyInstanceOf(errorClass);
+        assertThat(thrower.invocations).isOne();
+    }
+
+    @Test
+    void testCallAsyncThatIsInterrupted() {
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfRuntimeException()
+                .withStopStrategy(StopStrategies.stopAfterAttempt(10))
+                .build();
+        var interrupter = new Interrupter(4);
+
+        var future = retryer.callAsync(interrupter, scheduler);
+
+        assertThatThrownBy(future::join).hasCauseExactlyInstanceOf(InterruptedException.class);
+        assertThat(interrupter.invocations).isEqualTo(4);
+    }
+
+    @Test
+    void testCallAsyncNotifiesListeners() {
+        List<Integer> attemptNumbers = Collections.synchronizedList(new ArrayList<>());
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfException()
+                .withRetryListener(attempt -> attemptNumbers.add(attempt.getAttemptNumber()))
+                .build();
+        var thrower = new Thrower(IOException.class, 3);
+
+        assertThat(retryer.callAsync(thrower, scheduler)).succeedsWithin(5, TimeUnit.SECONDS);
+        assertThat(attemptNumbers).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void testCallAsyncDoesNotBlockCallerWhileWaiting() {
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfException()
+                .withWaitStrategy(WaitStrategies.fixedWait(1, TimeUnit.HOURS))
+                .withBlockStrategy(sleepTime -> {
+                    throw new IllegalStateException("block strategy should not be used");
+                })
+                .build();
+        var thrower = new Thrower(IOException.class, 2);
+
+        var future = retryer.callAsync(thrower, scheduler);
+
+        assertThat(future).isNotDone();
+        future.cancel(false);
+        assertThat(future).isCancelled();
+    }
+
+    @ParameterizedTest
+    @MethodSource("checkedAndUnchecked")
+    void testRetryStageRetriesUntilSuccess(Class<? extends Exception> exceptionClass) {
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfExceptionOfType(exceptionClass)
+                .withWaitStrategy(WaitStrategies.fixedWait(10, TimeUnit.MILLISECONDS))
+                .build();
+        var thrower = new Thrower(exceptionClass, 5);
+
+        var future = retryer.retryStage(() -> CompletableFuture.supplyAsync(() -> callUnchecked(thrower)));
+
+        assertThat(future).succeedsWithin(5, TimeUnit.SECONDS);
+        assertThat(thrower.invocations).isEqualTo(5);
+    }
+
+    @Test
+    void testRetryStageRetriesWhenSupplierThrows() {
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfRuntimeException()
+                .build();
+        var thrower = new Thrower(IllegalStateException.class, 3);
+
+        var future = retryer.retryStage(() -> {
+            thrower.run();
+            return CompletableFuture.completedFuture("done");
+        }, scheduler);
+
+        assertThat(future).succeedsWithin(5, TimeUnit.SECONDS).isEqualTo("done");
+        assertThat(thrower.invocations).isEqualTo(3);
+    }
+
+    @Test
+    void testRetryStageRetriesOnResult() {
+        var retryer = RetryerBuilder.newBuilder()
+                .<Integer>retryIfResult(value -> value < 3)
+                .build();
+        var counter = new AtomicInteger();
+
+        var future = retryer.retryStage(() -> CompletableFuture.completedFuture(counter.incrementAndGet()));
+
+        assertThat(future).succeedsWithin(5, TimeUnit.SECONDS).isEqualTo(3);
+    }
+
+    @ParameterizedTest
+    @MethodSource("checkedAndUnchecked")
+    void testRetryStageCompletesExceptionallyWhenRetriesAreStopped(Class<? extends Exception> exceptionClass) {
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfExceptionOfType(exceptionClass)
+                .withStopStrategy(StopStrategies.stopAfterAttempt(3))
+                .build();
+        var thrower = new Thrower(exceptionClass, 5);
+
+        var future = retryer.retryStage(() -> CompletableFuture.supplyAsync(() -> callUnchecked(thrower)));
+
+        assertThatThrownBy(future::join)
+                .isExactlyInstanceOf(CompletionException.class)
+                .cause()
+                .isExactlyInstanceOf(RetryException.class)
+                .hasCauseExactlyInstanceOf(exceptionClass);
+        assertThat(thrower.invocations).isEqualTo(3);
+    }
+
+    @ParameterizedTest
+    @MethodSource("errors")
+    void testRetryStageDoesNotRetryError(Class<? extends Error> errorClass) {
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfException()
+                .build();
+        var thrower = new Thrower(errorClass, 3);
+
+        var future = retryer.retryStage(() -> CompletableFuture.supplyAsync(() -> callUnchecked(thrower)));
+
+        assertThatThrownBy(future::join).hasCauseExactlyInstanceOf(errorClass);
+        assertThat(thrower.invocations).isOne();
+    }
+
+    /**
+     * Calls the given Thrower, rethrowing checked exceptions wrapped in a CompletionException, which
+     * is how a CompletableFuture reports a failure of one of its stages.
+     */
+    private static Void callUnchecked(Thrower thrower) {
+        try {
+            return thrower.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
     private static Stream<Arguments> checkedAndUnchecked() {
         return Stream.concat(unchecked(), Stream.of(
                 Arguments.of(ClassNotFoundException.class),
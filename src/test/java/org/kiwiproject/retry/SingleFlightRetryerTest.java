@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+class SingleFlightRetryerTest {
+
+    private static final int CALLERS = 8;
+
+    private ExecutorService executor;
+    private SingleFlightRetryer<String> singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(CALLERS);
+        singleFlight = new SingleFlightRetryer<>(RetryerBuilder.newBuilder()
+                .retryIfException()
+                .withStopStrategy(StopStrategies.stopAfterAttempt(3))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldShareOneRetrySequence_BetweenConcurrentCallersWithTheSameKey() throws Exception {
+        var release = new CountDownLatch(1);
+        var attempts = new AtomicInteger();
+        Callable<String> callable = () -> {
+            release.await();
+            if (attempts.incrementAndGet() < 3) {
+                throw new IOException("not yet");
+            }
+            return "value";
+        };
+
+        var results = callConcurrently("key", callable);
+        awaitTrue(() -> singleFlight.getCollapsedCallCount() == CALLERS - 1);
+        release.countDown();
+
+        for (var result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        }
+        assertThat(attempts).hasValue(3);
+        assertThat(singleFlight.getCallsInFlightCount()).isZero();
+    }
+
+    @Test
+    void shouldGiveEveryCallerTheSameRetryException_WhenTheCallFails() throws Exception {
+        var release = new CountDownLatch(1);
+        var attempts = new AtomicInteger();
+        Callable<String> callable = () -> {
+            release.await();
+            attempts.incrementAndGet();
+            throw new IOException("down");
+        };
+
+        var results = callConcurrently("key", callable);
+        awaitTrue(() -> singleFlight.getCollapsedCallCount() == CALLERS - 1);
+        release.countDown();
+
+        var exceptions = new ArrayList<Throwable>();
+        for (var result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isExactlyInstanceOf(ExecutionException.class)
+                    .satisfies(e -> exceptions.add(e.getCause()));
+        }
+        assertThat(exceptions).hasSize(CALLERS).allSatisfy(e -> assertThat(e).isSameAs(exceptions.get(0)));
+        assertThat(exceptions.get(0)).isExactlyInstanceOf(RetryException.class);
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void shouldMakeNewCall_OnceTheCallInFlightHasCompleted() throws Exception {
+        var calls = new AtomicInteger();
+
+        assertThat(singleFlight.call("key", calls::incrementAndGet)).isEqualTo(1);
+        assertThat(singleFlight.call("key", calls::incrementAndGet)).isEqualTo(2);
+
+        assertThat(singleFlight.getCallsInFlightCount()).isZero();
+        assertThat(singleFlight.getCollapsedCallCount()).isZero();
+    }
+
+    @Test
+    void shouldNotCollapseCallsWithDifferentKeys() throws Exception {
+        var release = new CountDownLatch(1);
+        var calls = new AtomicInteger();
+
+        var first = executor.submit(() -> singleFlight.call("first", () -> {
+            calls.incrementAndGet();
+            release.await();
+            return "first";
+        }));
+        var second = executor.submit(() -> singleFlight.call("second", () -> {
+            calls.incrementAndGet();
+            release.await();
+            return "second";
+        }));
+        awaitTrue(() -> singleFlight.getCallsInFlightCount() == 2);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+        assertThat(calls).hasValue(2);
+        assertThat(singleFlight.getCollapsedCallCount()).isZero();
+    }
+
+    @Test
+    void shouldLetWaitingCallerMakeTheCall_WhenTheCallingThreadIsInterrupted() throws Exception {
+        var leaderStarted = new CountDownLatch(1);
+        var leader = executor.submit(() -> singleFlight.call("key", () -> {
+            leaderStarted.countDown();
+            new CountDownLatch(1).await();
+            return "never";
+        }));
+        leaderStarted.await();
+
+        var follower = executor.submit(() -> singleFlight.call("key", () -> "follower"));
+        awaitTrue(() -> singleFlight.getCollapsedCallCount() == 1);
+        leader.cancel(true);
+
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("follower");
+    }
+
+    private List<Future<String>> callConcurrently(String key, Callable<String> callable) {
+        var results = new ArrayList<Future<String>>();
+        for (var i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.call(key, callable)));
+        }
+        return results;
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).describedAs("timed out waiting").isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+}
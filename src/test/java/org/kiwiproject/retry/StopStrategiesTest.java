@@ -20,12 +20,14 @@ package org.kiwiproject.retry;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
 class StopStrategiesTest {
@@ -69,6 +71,22 @@ class StopStrategiesTest {
                 .isEqualTo(expectedShouldStop);
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "1499999, false",
+            "1500000, true",
+            "1500001, true"
+    })
+    void testStopAfterDelayWithDuration(long delaySinceFirstAttemptNanos, boolean expectedShouldStop) {
+        var stopStrategy = StopStrategies.stopAfterDelay(Duration.ofNanos(1_500_000));
+        var attempt = Attempt.newExceptionAttempt(new RuntimeException(), 2,
+                delaySinceFirstAttemptNanos, TimeUnit.NANOSECONDS);
+
+        assertThat(attempt.getDelaySinceFirstAttempt()).isOne();
+        assertThat(attempt.getDelaySinceFirstAttemptNanos()).isEqualTo(delaySinceFirstAttemptNanos);
+        assertThat(stopStrategy.shouldStop(attempt)).isEqualTo(expectedShouldStop);
+    }
+
     @Test
     void testStopAfterDelay_ShouldNotAllowNegativeDuration() {
         assertThatIllegalArgumentException()
@@ -76,6 +94,77 @@ class StopStrategiesTest {
                 .withMessage("maxDelay must be >= 0 but is -750");
     }
 
+    @Test
+    void testStopIfNextAttemptExceedsDelay_ShouldStopAfterDelay() {
+        var stopStrategy = (ContextualStopStrategy) StopStrategies.stopIfNextAttemptExceedsDelay(1, TimeUnit.SECONDS);
+
+        assertThat(stopStrategy.shouldStop(failedAttempt(2, 999L), new RetryContext())).isFalse();
+        assertThat(stopStrategy.shouldStop(failedAttempt(2, 1000L), new RetryContext())).isTrue();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "100, 0, false",
+            "100, 250, false",
+            "100, 550, true",
+            "650, 0, true"
+    })
+    void testStopIfNextAttemptExceedsDelay_ShouldStopWhenNextAttemptCannotFinish(long attemptDurationMillis,
+                                                                                long nextSleepTimeMillis,
+                                                                                boolean expectedShouldStop) {
+        var stopStrategy = (ContextualStopStrategy) StopStrategies.stopIfNextAttemptExceedsDelay(Duration.ofSeconds(1));
+        var context = new RetryContext();
+        context.recordAttempt(TimeUnit.MILLISECONDS.toNanos(attemptDurationMillis));
+        context.recordNextSleep(TimeUnit.MILLISECONDS.toNanos(nextSleepTimeMillis));
+
+        // 600 ms remain before the delay is reached
+        assertThat(stopStrategy.shouldStop(failedAttempt(2, 400L), context)).isEqualTo(expectedShouldStop);
+    }
+
+    @Test
+    void testStopIfNextAttemptExceedsDelay_ShouldShareMovingAverageAcrossCalls() {
+        var stopStrategy = (ContextualStopStrategy) StopStrategies.stopIfNextAttemptExceedsDelay(Duration.ofSeconds(1));
+
+        for (var i = 0; i < 20; i++) {
+            var slowCall = new RetryContext();
+            slowCall.recordAttempt(TimeUnit.MILLISECONDS.toNanos(800));
+            stopStrategy.shouldStop(failedAttempt(2, 800L), slowCall);
+        }
+
+        // a call without duration history is stopped based on the slow calls which came before it
+        assertThat(stopStrategy.shouldStop(failedAttempt(2, 300L), new RetryContext())).isTrue();
+        assertThat(StopStrategies.stopIfNextAttemptExceedsDelay(Duration.ofSeconds(1))
+                .shouldStop(failedAttempt(2, 300L))).isFalse();
+    }
+
+    @Test
+    void testStopIfNextAttemptExceedsDelay_ShouldNotAllowNegativeDuration() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> StopStrategies.stopIfNextAttemptExceedsDelay(-750, TimeUnit.MILLISECONDS))
+                .withMessage("maxDelay must be >= 0 but is -750");
+    }
+
+    @Test
+    void testStopIfNextAttemptExceedsDelay_ShouldSkipAttemptWhichCannotFinish_WhenUsedByRetryer() throws Exception {
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfException()
+                .withWaitStrategy(WaitStrategies.fixedWait(50, TimeUnit.MILLISECONDS))
+                .withStopStrategy(StopStrategies.stopIfNextAttemptExceedsDelay(350, TimeUnit.MILLISECONDS))
+                .build();
+
+        // a successful call does not consult the stop strategy, but keeps class loading out of the timings below
+        assertThat(retryer.call(() -> true)).isTrue();
+
+        // each attempt takes 100 ms, so after two attempts and a wait there is not enough time left for a third
+        assertThatThrownBy(() -> retryer.call(() -> {
+            Thread.sleep(100L);
+            throw new IllegalStateException("slow failure");
+        }))
+                .isExactlyInstanceOf(RetryException.class)
+                .extracting(e -> ((RetryException) e).getNumberOfFailedAttempts())
+                .isEqualTo(2);
+    }
+
     private Attempt<Boolean> failedAttempt(int attemptNumber, long delaySinceFirstAttempt) {
         return Attempt.newExceptionAttempt(new RuntimeException(), attemptNumber, delaySinceFirstAttempt);
     }
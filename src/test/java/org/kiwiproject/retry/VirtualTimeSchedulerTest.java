@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 Kiwi Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kiwiproject.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+class VirtualTimeSchedulerTest {
+
+    private VirtualTimeScheduler scheduler;
+    private List<String> ran;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new VirtualTimeScheduler();
+        ran = new ArrayList<>();
+    }
+
+    @Test
+    void shouldRunTasksInTheOrderTheyAreDue_AdvancingTheTicker() {
+        scheduler.schedule(() -> ran.add("c@" + scheduler.ticker().read()), 3, TimeUnit.SECONDS);
+        scheduler.schedule(() -> ran.add("a@" + scheduler.ticker().read()), 1, TimeUnit.SECONDS);
+        scheduler.schedule(() -> ran.add("b@" + scheduler.ticker().read()), 2, TimeUnit.SECONDS);
+
+        assertThat(scheduler.runUntil(TimeUnit.SECONDS.toNanos(10))).isZero();
+
+        assertThat(ran).containsExactly("a@1000000000", "b@2000000000", "c@3000000000");
+        assertThat(scheduler.ticker().read()).isEqualTo(TimeUnit.SECONDS.toNanos(10));
+    }
+
+    @Test
+    void shouldRunTasksDueAtTheSameTime_InTheOrderTheyWereScheduled() {
+        for (var i = 0; i < 5; i++) {
+            var name = String.valueOf(i);
+            scheduler.schedule(() -> ran.add(name), 1, TimeUnit.SECONDS);
+        }
+        scheduler.execute(() -> ran.add("now"));
+
+        scheduler.runUntil(TimeUnit.SECONDS.toNanos(1));
+
+        assertThat(ran).containsExactly("now", "0", "1", "2", "3", "4");
+    }
+
+    @Test
+    void shouldRunTasksScheduledByTasks_WhenTheyAreDue() {
+        scheduler.schedule(() -> {
+            ran.add("first");
+            scheduler.schedule(() -> ran.add("second"), 1, TimeUnit.SECONDS);
+            scheduler.schedule(() -> ran.add("too late"), 5, TimeUnit.SECONDS);
+        }, 1, TimeUnit.SECONDS);
+
+        assertThat(scheduler.runUntil(TimeUnit.SECONDS.toNanos(3))).isOne();
+
+        assertThat(ran).containsExactly("first", "second");
+        assertThat(scheduler.ticker().read()).isEqualTo(TimeUnit.SECONDS.toNanos(3));
+    }
+
+    @Test
+    void shouldNotRunCancelledTasks() {
+        var future = scheduler.schedule(() -> ran.add("cancelled"), 1, TimeUnit.SECONDS);
+        assertThat(future.getDelay(TimeUnit.MILLISECONDS)).isEqualTo(1_000);
+
+        future.cancel(false);
+        scheduler.runUntil(TimeUnit.SECONDS.toNanos(2));
+
+        assertThat(ran).isEmpty();
+    }
+
+    @Test
+    void shouldDiscardTasksAndRewindTime_WhenReset() {
+        scheduler.schedule(() -> ran.add("discarded"), 2, TimeUnit.SECONDS);
+        scheduler.runUntil(TimeUnit.SECONDS.toNanos(1));
+
+        scheduler.reset();
+
+        assertThat(scheduler.ticker().read()).isZero();
+        assertThat(scheduler.runUntil(TimeUnit.SECONDS.toNanos(5))).isZero();
+        assertThat(ran).isEmpty();
+    }
+
+    @Test
+    void shouldRejectTasks_WhenShutDown() {
+        scheduler.schedule(() -> ran.add("pending"), 1, TimeUnit.SECONDS);
+        scheduler.shutdown();
+
+        assertThat(scheduler.isShutdown()).isTrue();
+        assertThat(scheduler.isTerminated()).isFalse();
+        assertThatThrownBy(() -> scheduler.execute(() -> ran.add("rejected")))
+                .isExactlyInstanceOf(RejectedExecutionException.class);
+
+        assertThat(scheduler.shutdownNow()).hasSize(1);
+        assertThat(scheduler.isTerminated()).isTrue();
+    }
+
+    @Test
+    void shouldNotSupportPeriodicTasks() {
+        assertThatThrownBy(() -> scheduler.scheduleAtFixedRate(() -> ran.add("periodic"), 0, 1, TimeUnit.SECONDS))
+                .isExactlyInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> scheduler.scheduleWithFixedDelay(() -> ran.add("periodic"), 0, 1, TimeUnit.SECONDS))
+                .isExactlyInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldRunRetryerInVirtualTime() {
+        var retryer = RetryerBuilder.newBuilder()
+                .retryIfException()
+                .withWaitStrategy(WaitStrategies.fixedWait(1, TimeUnit.HOURS))
+                .withTicker(scheduler.ticker())
+                .build();
+        var attemptTimes = new ArrayList<Long>();
+
+        var future = retryer.retryStage(() -> {
+            attemptTimes.add(scheduler.ticker().read());
+            return (attemptTimes.size() < 3) ?
+                    CompletableFuture.failedFuture(new IOException()) :
+                    CompletableFuture.completedFuture("done");
+        }, scheduler);
+        scheduler.runUntil(TimeUnit.DAYS.toNanos(1));
+
+        assertThat(future).isCompletedWithValue("done");
+        assertThat(attemptTimes).containsExactly(0L, TimeUnit.HOURS.toNanos(1), TimeUnit.HOURS.toNanos(2));
+    }
+}
@@ -27,7 +27,9 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.time.Duration;
 import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
@@ -54,6 +56,31 @@ class WaitStrategiesTest {
                 .withMessage("sleepTime must be >= 0 but is -500");
     }
 
+    @Test
+    void testFixedWaitWithDuration() {
+        var fixedWait = WaitStrategies.fixedWait(Duration.ofNanos(1_500_000));
+        assertThat(fixedWait.computeSleepTime(failedAttempt(12, 6546L)))
+                .isOne();
+        assertThat(fixedWait.computeSleepTimeNanos(failedAttempt(12, 6546L)))
+                .isEqualTo(1_500_000L);
+    }
+
+    @Test
+    void testFixedWaitWithDuration_ShouldNotAllowNegativeSleepTime() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> WaitStrategies.fixedWait(Duration.ofNanos(-500)))
+                .withMessage("sleepTime must be >= 0 but is -500");
+    }
+
+    @Test
+    void testFixedWait_ShouldConvertToNanoseconds() {
+        var fixedWait = WaitStrategies.fixedWait(250L, TimeUnit.MICROSECONDS);
+        assertThat(fixedWait.computeSleepTime(failedAttempt(12, 6546L)))
+                .isZero();
+        assertThat(fixedWait.computeSleepTimeNanos(failedAttempt(12, 6546L)))
+                .isEqualTo(250_000L);
+    }
+
     @ParameterizedTest
     @CsvSource({
             "1, 500",
@@ -99,6 +126,58 @@ class WaitStrategiesTest {
         times.forEach(time -> assertThat(time).isBetween(0L, 2000L));
     }
 
+    @Test
+    void testRandomWaitWithDurations() {
+        var randomWait = WaitStrategies.randomWait(Duration.ofNanos(100_000), Duration.ofNanos(900_000));
+        var times = new HashSet<Long>();
+        for (var i = 0; i < 20; i++) {
+            times.add(randomWait.computeSleepTimeNanos(failedAttempt(1, 6546L)));
+        }
+
+        assertThat(times).hasSizeGreaterThan(1);
+        times.forEach(time -> assertThat(time).isBetween(100_000L, 900_000L));
+    }
+
+    @Test
+    void testRandomWaitWithDurations_ShouldRequireMaximumTime_ToBeHigherThanMinimumTime() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> WaitStrategies.randomWait(Duration.ofNanos(500), Duration.ofNanos(499)))
+                .withMessage("maximum must be > minimum but maximum is 499 and minimum is 500");
+    }
+
+    @Test
+    void testRandomWait_ShouldUseFinerUnit() {
+        var randomWait = WaitStrategies.randomWait(1, TimeUnit.MILLISECONDS, 1100, TimeUnit.MICROSECONDS);
+        var times = new HashSet<Long>();
+        for (var i = 0; i < 20; i++) {
+            times.add(randomWait.computeSleepTimeNanos(failedAttempt(1, 6546L)));
+        }
+
+        times.forEach(time -> assertThat(time).isBetween(1_000_000L, 1_100_000L));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "1, 500000",
+            "2, 750000",
+            "3, 1000000"
+    })
+    void testIncrementingWaitWithDurations(int attemptNumber, long expectedSleepTimeNanos) {
+        var incrementingWait = WaitStrategies.incrementingWait(Duration.ofNanos(500_000), Duration.ofNanos(250_000));
+        assertThat(incrementingWait.computeSleepTimeNanos(failedAttempt(attemptNumber, 6546L)))
+                .isEqualTo(expectedSleepTimeNanos);
+    }
+
+    @Test
+    void testJoin_ShouldSumSleepTimesInNanoseconds() {
+        var joined = WaitStrategies.join(
+                WaitStrategies.fixedWait(Duration.ofNanos(600_000)),
+                WaitStrategies.fixedWait(Duration.ofNanos(700_000)));
+
+        assertThat(joined.computeSleepTimeNanos(failedAttempt(2, 0L))).isEqualTo(1_300_000L);
+        assertThat(joined.computeSleepTime(failedAttempt(2, 0L))).isZero();
+    }
+
     @Test
     void testRandomWait_ShouldNotAllowNegativeMinimumTime() {
         assertThatIllegalArgumentException()
@@ -148,6 +227,64 @@ class WaitStrategiesTest {
                 .isEqualTo(expectedWait);
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "62, 4611686018427387904",
+            "63, 9223372036854775807",
+            "64, 9223372036854775807",
+            "5000, 9223372036854775807"
+    })
+    void testExponential_WithLargeAttemptNumbers(int attemptNumber, long expectedSleep) {
+        var exponentialWait = WaitStrategies.exponentialWait();
+
+        assertThat(exponentialWait.computeSleepTime(failedAttempt(attemptNumber, 0)))
+                .isEqualTo(expectedSleep);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 20})
+    void testExponentialWithBaseMultiplierAndMaximumWait(int attemptNumber) {
+        var base = 1.5;
+        var multiplier = 100;
+        var maximumTime = 5000;
+        var exponentialWait = WaitStrategies.exponentialWait(base, multiplier, maximumTime, TimeUnit.MILLISECONDS);
+
+        var unadjustedWait = Math.round(multiplier * Math.pow(base, attemptNumber));
+        var expectedWait = Math.min(unadjustedWait, maximumTime);
+
+        assertThat(exponentialWait.computeSleepTime(failedAttempt(attemptNumber, 0)))
+                .isEqualTo(expectedWait);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5, 6})
+    void testExponentialWithBaseThree(int attemptNumber) {
+        var exponentialWait = WaitStrategies.exponentialWait(3.0, 10, 1, TimeUnit.HOURS);
+
+        assertThat(exponentialWait.computeSleepTime(failedAttempt(attemptNumber, 0)))
+                .isEqualTo(10L * (long) Math.pow(3, attemptNumber));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 1_023, 1_024, 1_025, 3_000})
+    void testExponentialWithSmallBase_CalculatesSleepTimesBeyondPrecomputedAttempts(int attemptNumber) {
+        var base = 1.001;
+        var exponentialWait = WaitStrategies.exponentialWait(base, 1_000, 1, TimeUnit.DAYS);
+
+        var expectedWait = Math.round(1_000 * Math.pow(base, attemptNumber));
+
+        assertThat(exponentialWait.computeSleepTime(failedAttempt(attemptNumber, 0)))
+                .isEqualTo(expectedWait);
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {-2.0, 0.0, 0.5, 1.0, Double.NaN, Double.POSITIVE_INFINITY})
+    void testExponentialWait_ShouldRequireBaseGreaterThanOne(double base) {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> WaitStrategies.exponentialWait(base, 1000, 10_000, TimeUnit.MILLISECONDS))
+                .withMessage("base must be > 1 but is %s", base);
+    }
+
     @ParameterizedTest
     @ValueSource(longs = {-5, -1, 0})
     void testExponentialWait_ShouldRequirePositiveMultiplier(long multiplier) {
@@ -232,6 +369,29 @@ class WaitStrategiesTest {
                 .isEqualTo(expectedSleep);
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "92, 7540113804746346429",
+            "93, 9223372036854775807",
+            "94, 9223372036854775807",
+            "5000, 9223372036854775807"
+    })
+    void testFibonacci_WithLargeAttemptNumbers(int attemptNumber, long expectedSleep) {
+        var fibonacciWait = WaitStrategies.fibonacciWait();
+
+        assertThat(fibonacciWait.computeSleepTime(failedAttempt(attemptNumber, 0L)))
+                .isEqualTo(expectedSleep);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {80, 90, 100})
+    void testFibonacciWithMultiplier_ShouldNotOverflow(int attemptNumber) {
+        var fibonacciWait = WaitStrategies.fibonacciWait(1_000L, Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+
+        assertThat(fibonacciWait.computeSleepTime(failedAttempt(attemptNumber, 0L)))
+                .isEqualTo(Long.MAX_VALUE);
+    }
+
     @ParameterizedTest
     @ValueSource(longs = {-5, -1, 0})
     void testFibonacciWait_ShouldRequirePositiveMultiplier(long multiplier) {
@@ -260,6 +420,128 @@ class WaitStrategiesTest {
                 .withMessage("multiplier must be < maximumWait (%d) but is %d", maximumWait, multiplier);
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "1, 200",
+            "2, 400",
+            "5, 3200",
+            "6, 5000",
+            "30, 5000"
+    })
+    void testFullJitterWait(int attemptNumber, long expectedCeiling) {
+        var fullJitterWait = WaitStrategies.fullJitterWait(100, 5, TimeUnit.SECONDS);
+
+        var times = sleepTimes(fullJitterWait, attemptNumber);
+
+        assertThat(times).hasSizeGreaterThan(1);
+        times.forEach(time -> assertThat(time).isBetween(0L, expectedCeiling));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "1, 200",
+            "2, 400",
+            "5, 3200",
+            "6, 5000",
+            "30, 5000"
+    })
+    void testEqualJitterWait(int attemptNumber, long expectedCeiling) {
+        var equalJitterWait = WaitStrategies.equalJitterWait(100, 5, TimeUnit.SECONDS);
+
+        var times = sleepTimes(equalJitterWait, attemptNumber);
+
+        assertThat(times).hasSizeGreaterThan(1);
+        times.forEach(time -> assertThat(time).isBetween(expectedCeiling / 2, expectedCeiling));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "1, 300",
+            "2, 900",
+            "3, 2700",
+            "4, 5000",
+            "30, 5000"
+    })
+    void testDecorrelatedJitterWait(int attemptNumber, long expectedCeiling) {
+        var decorrelatedJitterWait = WaitStrategies.decorrelatedJitterWait(100, 5, TimeUnit.SECONDS);
+
+        var times = sleepTimes(decorrelatedJitterWait, attemptNumber);
+
+        assertThat(times).hasSizeGreaterThan(1);
+        times.forEach(time -> assertThat(time).isBetween(100L, expectedCeiling));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "0, 300",
+            "100, 300",
+            "1000, 3000",
+            "2000, 5000",
+            "9000, 5000"
+    })
+    void testDecorrelatedJitterWait_WithContext(long previousSleepTime, long expectedCeiling) {
+        var decorrelatedJitterWait = (ContextualWaitStrategy) WaitStrategies.decorrelatedJitterWait(100, 5, TimeUnit.SECONDS);
+        var context = new RetryContext();
+        context.recordSleep(TimeUnit.MILLISECONDS.toNanos(previousSleepTime), 0L);
+
+        var times = new HashSet<Long>();
+        for (var i = 0; i < 50; i++) {
+            times.add(decorrelatedJitterWait.computeSleepTime(failedAttempt(10, 0L), context));
+        }
+
+        assertThat(times).hasSizeGreaterThan(1);
+        times.forEach(time -> assertThat(time).isBetween(100L, expectedCeiling));
+    }
+
+    @Test
+    void testJoin_WithContextualWaitStrategy_ShouldPassContext() {
+        var joined = WaitStrategies.join(
+                WaitStrategies.fixedWait(100L, TimeUnit.MILLISECONDS),
+                (ContextualWaitStrategy) (failedAttempt, context) -> context.getPreviousSleepTime());
+        var context = new RetryContext();
+        context.recordSleep(TimeUnit.MILLISECONDS.toNanos(42), 0L);
+
+        assertThat(joined).isInstanceOf(ContextualWaitStrategy.class);
+        assertThat(((ContextualWaitStrategy) joined).computeSleepTime(failedAttempt(2, 0L), context))
+                .isEqualTo(142L);
+        assertThat(joined.computeSleepTime(failedAttempt(2, 0L))).isEqualTo(100L);
+    }
+
+    @Test
+    void testJoin_WithoutContextualWaitStrategies() {
+        var joined = WaitStrategies.join(
+                WaitStrategies.fixedWait(100L, TimeUnit.MILLISECONDS),
+                WaitStrategies.fibonacciWait());
+
+        assertThat(joined).isNotInstanceOf(ContextualWaitStrategy.class);
+    }
+
+    @Test
+    void testJitterWaits_WithUnboundedMaximum() {
+        var attempt = failedAttempt(70, 0L);
+
+        assertThat(WaitStrategies.fullJitterWait(1, Long.MAX_VALUE, TimeUnit.MILLISECONDS).computeSleepTime(attempt))
+                .isNotNegative();
+        assertThat(WaitStrategies.equalJitterWait(1, Long.MAX_VALUE, TimeUnit.MILLISECONDS).computeSleepTime(attempt))
+                .isGreaterThanOrEqualTo(Long.MAX_VALUE / 2);
+        assertThat(WaitStrategies.decorrelatedJitterWait(1, Long.MAX_VALUE, TimeUnit.MILLISECONDS).computeSleepTime(attempt))
+                .isPositive();
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {-5, -1, 0})
+    void testJitterWaits_ShouldRequirePositiveMultiplier(long multiplier) {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> WaitStrategies.fullJitterWait(multiplier, 10_000, TimeUnit.MILLISECONDS))
+                .withMessage("multiplier must be > 0 but is %d", multiplier);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> WaitStrategies.equalJitterWait(multiplier, 10_000, TimeUnit.MILLISECONDS))
+                .withMessage("multiplier must be > 0 but is %d", multiplier);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> WaitStrategies.decorrelatedJitterWait(multiplier, 10_000, TimeUnit.MILLISECONDS))
+                .withMessage("multiplier must be > 0 but is %d", multiplier);
+    }
+
     @Test
     void testExceptionWait() {
         var failedAttempt = failedAttempt(42, 7227);
@@ -294,6 +576,14 @@ class WaitStrategiesTest {
                 .withMessage("Cannot have a null wait strategy");
     }
 
+    private Set<Long> sleepTimes(WaitStrategy waitStrategy, int attemptNumber) {
+        var times = new HashSet<Long>();
+        for (var i = 0; i < 50; i++) {
+            times.add(waitStrategy.computeSleepTime(failedAttempt(attemptNumber, 0L)));
+        }
+        return times;
+    }
+
     private Attempt<Boolean> failedAttempt(int attemptNumber, long delaySinceFirstAttempt) {
         return Attempt.newExceptionAttempt(new RuntimeException(), attemptNumber, delaySinceFirstAttempt);
     }